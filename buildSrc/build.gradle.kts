@@ -32,6 +32,7 @@ dependencies {
     implementation("gradle.plugin.io.snyk.gradle.plugin:snyk:0.7.0")
     implementation("io.freefair.gradle:lombok-plugin:9.5.0")
     implementation("io.spring.gradle:dependency-management-plugin:1.1.7")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.3")
     implementation("net.ltgt.gradle:gradle-errorprone-plugin:5.1.0")
     implementation("org.apache.commons:commons-compress:1.28.0")
     implementation("org.cyclonedx:cyclonedx-gradle-plugin:3.4.1")
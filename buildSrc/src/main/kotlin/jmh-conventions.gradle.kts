@@ -0,0 +1,35 @@
+// SPDX-License-Identifier: Apache-2.0
+
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("java-conventions")
+    id("me.champeau.jmh")
+}
+
+// Benchmarks reuse the test fixtures such as DomainBuilder and RecordItemBuilder
+configurations {
+    named("jmhImplementation") { extendsFrom(configurations.testImplementation.get()) }
+    named("jmhRuntimeOnly") { extendsFrom(configurations.testRuntimeOnly.get()) }
+}
+
+dependencies { add("jmhImplementation", sourceSets["test"].output) }
+
+jmh {
+    duplicateClassesStrategy = DuplicatesStrategy.EXCLUDE
+    fork = 1
+    includeTests = true
+    iterations = 5
+    jmhVersion = "1.37"
+    resultFormat = "JSON"
+    warmupIterations = 3
+
+    // Run a subset of the benchmarks with ./gradlew :importer:jmh -PjmhIncludes=RecordFileReader
+    project.findProperty("jmhIncludes")?.let { includes = listOf(it.toString()) }
+}
+
+// The code generated by JMH does not compile cleanly with our strict compiler settings
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.compilerArgs.remove("-Werror")
+    options.errorprone.enabled = false
+}
@@ -2,7 +2,10 @@
 
 description = "Hedera Mirror Node Common"
 
-plugins { id("java-conventions") }
+plugins {
+    id("java-conventions")
+    id("jmh-conventions")
+}
 
 configurations.all {
     exclude(group = "io.vertx") // Unused and frequently has vulnerabilities
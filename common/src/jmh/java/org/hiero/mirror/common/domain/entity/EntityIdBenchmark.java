@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain.entity;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the entity ID cache under a working set that either fits in the cache or mostly misses it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class EntityIdBenchmark {
+
+    @Param({"1000", "10000000"})
+    private long entities;
+
+    @Benchmark
+    public EntityId ofId() {
+        return EntityId.of(nextNum());
+    }
+
+    @Benchmark
+    public EntityId ofShardRealmNum() {
+        return EntityId.of(0L, 0L, nextNum());
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        var entityId = EntityId.of(nextNum());
+        blackhole.consume(entityId.getShard());
+        blackhole.consume(entityId.getRealm());
+        blackhole.consume(entityId.getNum());
+    }
+
+    private long nextNum() {
+        return ThreadLocalRandom.current().nextLong(1L, entities + 1);
+    }
+}
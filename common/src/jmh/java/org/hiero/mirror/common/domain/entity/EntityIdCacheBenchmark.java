@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain.entity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the primitive keyed entity ID table against the boxed Caffeine cache it replaced, with the same capacity and
+ * a working set that either fits in the cache or mostly misses it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class EntityIdCacheBenchmark {
+
+    private static final int SIZE = 500_000;
+
+    @Param({"1000", "10000000"})
+    private long entities;
+
+    private Cache<Long, EntityId> caffeine;
+    private EntityIdCache table;
+
+    @Setup
+    public void setup() {
+        caffeine = Caffeine.from("expireAfterAccess=60m,maximumSize=" + SIZE + ",recordStats").build();
+        table = new EntityIdCache(SIZE);
+    }
+
+    @Benchmark
+    public EntityId caffeine() {
+        long id = nextNum();
+        return caffeine.get(id, k -> new EntityId(id));
+    }
+
+    @Benchmark
+    public EntityId table() {
+        return table.get(nextNum(), EntityId::new);
+    }
+
+    private long nextNum() {
+        return ThreadLocalRandom.current().nextLong(1L, entities + 1);
+    }
+}
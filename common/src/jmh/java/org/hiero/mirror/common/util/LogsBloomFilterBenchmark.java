@@ -0,0 +1,65 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the logs bloom filter operations performed for every contract log and contract result.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LogsBloomFilterBenchmark {
+
+    private final byte[] address = new byte[20];
+    private final byte[] bloom = new byte[LogsBloomFilter.BYTE_SIZE];
+    private final byte[] topic = new byte[32];
+    private LogsBloomFilter logsBloomFilter;
+
+    @Setup
+    public void setup() {
+        var random = ThreadLocalRandom.current();
+        random.nextBytes(address);
+        random.nextBytes(topic);
+
+        logsBloomFilter = new LogsBloomFilter();
+        logsBloomFilter.insertAddress(address);
+        logsBloomFilter.insertTopic(topic);
+        System.arraycopy(logsBloomFilter.toArrayUnsafe(), 0, bloom, 0, bloom.length);
+    }
+
+    @Benchmark
+    public LogsBloomFilter insertAddress() {
+        var filter = new LogsBloomFilter();
+        filter.insertAddress(address);
+        return filter;
+    }
+
+    @Benchmark
+    public LogsBloomFilter insertTopic() {
+        var filter = new LogsBloomFilter();
+        filter.insertTopic(topic);
+        return filter;
+    }
+
+    @Benchmark
+    public LogsBloomFilter or() {
+        var filter = new LogsBloomFilter();
+        filter.or(bloom);
+        return filter;
+    }
+
+    @Benchmark
+    public boolean couldContain() {
+        return logsBloomFilter.couldContain(bloom);
+    }
+}
@@ -4,11 +4,13 @@ package org.hiero.mirror.common;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import javax.sql.DataSource;
 import org.hibernate.cfg.AvailableSettings;
 import org.hiero.mirror.common.config.CommonRuntimeHints;
 import org.hiero.mirror.common.converter.CustomJsonFormatMapper;
 import org.hiero.mirror.common.domain.SystemEntity;
+import org.hiero.mirror.common.domain.entity.EntityIdCache;
 import org.hiero.mirror.common.util.DatabaseWaiter;
 import org.hiero.mirror.common.util.SpelHelper;
 import org.springframework.beans.factory.ObjectProvider;
@@ -36,6 +38,11 @@ public final class CommonConfiguration {
         return new SystemEntity(commonProperties);
     }
 
+    @Bean
+    MeterBinder entityIdCacheMetrics() {
+        return EntityIdCache.getInstance();
+    }
+
     @Bean
     HibernatePropertiesCustomizer hibernatePropertiesCustomizer() {
         return p -> {
@@ -3,8 +3,6 @@
 package org.hiero.mirror.common.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonValue;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Range;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -39,11 +37,6 @@ public final class EntityId implements Comparable<EntityId> {
     private static final long REALM_MASK = (1L << REALM_BITS) - 1;
     private static final long SHARD_MASK = (1L << SHARD_BITS) - 1;
 
-    private static final String CACHE_DEFAULT = "expireAfterAccess=60m,maximumSize=500000,recordStats";
-    private static final String CACHE_PROPERTY = "HIERO_MIRROR_COMMON_CACHE_ENTITYID";
-    private static final String CACHE_SPEC = System.getProperty(CACHE_PROPERTY, CACHE_DEFAULT);
-    private static final Cache<Long, EntityId> CACHE = Caffeine.from(CACHE_SPEC).build();
-
     private static final Comparator<EntityId> COMPARATOR =
             Comparator.nullsFirst(Comparator.comparingLong(EntityId::getId));
     private static final Range<Long> DEFAULT_RANGE = Range.atLeast(0L);
@@ -53,7 +46,7 @@ public final class EntityId implements Comparable<EntityId> {
     @JsonValue
     private final long id;
 
-    private EntityId(long id) {
+    EntityId(long id) {
         this.id = id;
     }
 
@@ -161,7 +154,7 @@ public final class EntityId implements Comparable<EntityId> {
             return EMPTY;
         }
 
-        return CACHE.get(id, k -> new EntityId(id));
+        return EntityIdCache.getInstance().get(id, EntityId::new);
     }
 
     public static boolean isEmpty(EntityId entityId) {
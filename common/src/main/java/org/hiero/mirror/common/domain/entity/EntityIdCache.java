@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain.entity;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A lock-free interning table for entity IDs keyed directly by the encoded long so lookups neither box the key nor
+ * allocate on a hit. The table is two-way set associative: each ID maps to a pair of adjacent slots and a miss demotes
+ * the most recently inserted entry of the pair to make room. Concurrent writers may overwrite each other's entries,
+ * which only costs a future miss since every entry is immutable and carries its own key.
+ */
+public final class EntityIdCache implements MeterBinder {
+
+    static final String METRIC = "cache.gets";
+    static final String METRIC_TAG_NAME = "entityId";
+
+    private static final int DEFAULT_SIZE = 500_000;
+    private static final int MAX_SIZE = 1 << 30;
+    private static final Pattern MAXIMUM_SIZE = Pattern.compile("maximumSize=(\\d+)");
+    private static final String SIZE_PROPERTY = "HIERO_MIRROR_COMMON_CACHE_ENTITYID";
+    private static final EntityIdCache INSTANCE = new EntityIdCache(configuredSize());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int shift;
+    private final AtomicReferenceArray<EntityId> table;
+
+    EntityIdCache(int size) {
+        int capacity = Math.max(4, Integer.highestOneBit(Math.min(Math.max(size, 2) - 1, MAX_SIZE - 1)) << 1);
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity) + 1;
+        this.table = new AtomicReferenceArray<>(capacity);
+    }
+
+    public static EntityIdCache getInstance() {
+        return INSTANCE;
+    }
+
+    EntityId get(long id, LongFunction<EntityId> factory) {
+        int index = index(id);
+        var first = table.getAcquire(index);
+
+        if (first != null && first.getId() == id) {
+            hits.increment();
+            return first;
+        }
+
+        var second = table.getAcquire(index + 1);
+        if (second != null && second.getId() == id) {
+            hits.increment();
+            return second;
+        }
+
+        misses.increment();
+        var entityId = factory.apply(id);
+
+        if (first != null) {
+            table.setRelease(index + 1, first);
+        }
+
+        table.setRelease(index, entityId);
+        return entityId;
+    }
+
+    int capacity() {
+        return table.length();
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(METRIC, this, EntityIdCache::hitCount)
+                .description("The number of times cache lookup methods have returned a cached value")
+                .tag("cache", METRIC_TAG_NAME)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder(METRIC, this, EntityIdCache::missCount)
+                .description("The number of times cache lookup methods have returned an uncached value")
+                .tag("cache", METRIC_TAG_NAME)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    // Fibonacci hashing spreads the sequential entity nums across the table and rounds down to an even slot
+    int index(long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> shift) << 1;
+    }
+
+    // Accepts either a plain size or the Caffeine specification previously used for this cache
+    static int configuredSize() {
+        var value = System.getProperty(SIZE_PROPERTY, "");
+        var matcher = MAXIMUM_SIZE.matcher(value);
+
+        if (matcher.find()) {
+            value = matcher.group(1);
+        }
+
+        return StringUtils.isNumeric(value) && value.length() < 10 ? Integer.parseInt(value) : DEFAULT_SIZE;
+    }
+}
@@ -337,6 +337,17 @@ public class RecordItem implements StreamItem {
             return buildInternal();
         }
 
+        /**
+         * Parses the transaction body and signature map ahead of {@link #build()} so that the decoding, which does not
+         * depend on the other record items, can be done concurrently with the decoding of other record items.
+         *
+         * @return this builder
+         */
+        public RecordItemBuilder decode() {
+            parseTransaction();
+            return this;
+        }
+
         public RecordItemBuilder transactionRecord(TransactionRecord transactionRecord) {
             this.transactionRecord = transactionRecord;
             transactionRecordBuilder = null;
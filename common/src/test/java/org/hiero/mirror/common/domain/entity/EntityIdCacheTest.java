@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class EntityIdCacheTest {
+
+    @ParameterizedTest
+    @CsvSource({"-1, 4", "0, 4", "1, 4", "4, 4", "5, 8", "500000, 524288"})
+    void capacity(int size, int expected) {
+        assertThat(new EntityIdCache(size).capacity()).isEqualTo(expected);
+    }
+
+    @Test
+    void hit() {
+        var cache = new EntityIdCache(16);
+        var entityId = cache.get(1000L, EntityId::new);
+
+        assertThat(cache.get(1000L, EntityId::new)).isSameAs(entityId).returns(1000L, EntityId::getId);
+        assertThat(cache.hitCount()).isOne();
+        assertThat(cache.missCount()).isOne();
+    }
+
+    @Test
+    void collisions() {
+        var cache = new EntityIdCache(4);
+        LongStream.rangeClosed(1L, 100L).forEach(id -> assertThat(cache.get(id, EntityId::new))
+                .returns(id, EntityId::getId));
+
+        var last = cache.get(100L, EntityId::new);
+        assertThat(cache.get(100L, EntityId::new)).isSameAs(last);
+        assertThat(cache.missCount()).isEqualTo(100L);
+        assertThat(cache.hitCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void keepsPreviousEntryOnMiss() {
+        var cache = new EntityIdCache(4);
+        long first = 1L;
+        long second = LongStream.range(2L, 1000L)
+                .filter(id -> cache.index(id) == cache.index(first))
+                .findFirst()
+                .orElseThrow();
+
+        var expected = cache.get(first, EntityId::new);
+        cache.get(second, EntityId::new);
+        assertThat(cache.get(first, EntityId::new)).isSameAs(expected);
+    }
+
+    @Test
+    void metrics() {
+        var cache = new EntityIdCache(16);
+        var meterRegistry = new SimpleMeterRegistry();
+        cache.bindTo(meterRegistry);
+        cache.get(1L, EntityId::new);
+        cache.get(1L, EntityId::new);
+        cache.get(2L, EntityId::new);
+
+        assertThat(count(meterRegistry, "hit")).isEqualTo(1.0);
+        assertThat(count(meterRegistry, "miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    void of() {
+        assertThat(EntityId.of(5L)).isSameAs(EntityId.of(5L));
+        assertThat(EntityId.of(0L)).isSameAs(EntityId.EMPTY);
+    }
+
+    private double count(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry
+                .get(EntityIdCache.METRIC)
+                .tags("cache", EntityIdCache.METRIC_TAG_NAME, "result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -16,6 +16,7 @@ dependencies {
     implementation("io.projectreactor:reactor-core-micrometer")
     implementation("jakarta.inject:jakarta.inject-api")
     implementation("org.msgpack:jackson-dataformat-msgpack")
+    implementation("org.postgresql:postgresql")
     implementation("org.springframework.boot:spring-boot-actuator-autoconfigure")
     implementation("org.springframework.boot:spring-boot-configuration-processor")
     implementation("org.springframework.boot:spring-boot-health")
@@ -23,7 +24,6 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-grpc-server")
     implementation("org.springframework.boot:spring-boot-starter-webflux")
-    runtimeOnly("org.postgresql:postgresql")
     testImplementation(project(path = ":common", configuration = "testClasses"))
     testImplementation("io.projectreactor:reactor-test")
     testImplementation("org.flywaydb:flyway-database-postgresql")
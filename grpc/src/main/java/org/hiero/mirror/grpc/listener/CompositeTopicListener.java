@@ -21,6 +21,7 @@ final class CompositeTopicListener implements TopicListener {
 
     private final ListenerProperties listenerProperties;
     private final MeterRegistry meterRegistry;
+    private final NotifyingTopicListener notifyingTopicListener;
     private final PollingTopicListener pollingTopicListener;
     private final RedisTopicListener redisTopicListener;
     private final SharedPollingTopicListener sharedPollingTopicListener;
@@ -47,6 +48,8 @@ final class CompositeTopicListener implements TopicListener {
         final var type = listenerProperties.getType();
 
         switch (type) {
+            case NOTIFY:
+                return notifyingTopicListener;
             case POLL:
                 return pollingTopicListener;
             case REDIS:
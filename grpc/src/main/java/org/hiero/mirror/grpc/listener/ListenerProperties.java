@@ -25,6 +25,9 @@ public class ListenerProperties {
     @Max(65536)
     private int maxBufferSize = 16384;
 
+    @Min(1)
+    private int maxBufferedTopics = 1000;
+
     @Max(MAX_PAGE_SIZE)
     @Min(MIN_PAGE_SIZE)
     private int maxPageSize = 5000;
@@ -37,10 +40,14 @@ public class ListenerProperties {
     @Max(256)
     private int prefetch = 48;
 
+    @Min(0)
+    private int topicBufferSize = 64;
+
     @NotNull
     private ListenerType type = ListenerType.REDIS;
 
     public enum ListenerType {
+        NOTIFY,
         POLL,
         REDIS,
         SHARED_POLL
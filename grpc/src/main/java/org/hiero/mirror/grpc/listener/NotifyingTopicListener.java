@@ -0,0 +1,154 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.repository.TopicMessageRepository;
+import org.postgresql.PGConnection;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Listens for the PostgreSQL notifications the importer sends on commit of every record file that contains topic
+ * messages. Each notification triggers a single shared query for the new messages, which are then routed to the
+ * subscribers of each topic by the {@link TopicMessageDispatcher}. A dedicated connection is held for LISTEN while there
+ * are subscribers.
+ */
+@Named
+public class NotifyingTopicListener extends SharedTopicListener {
+
+    static final String CHANNEL = "topic_message";
+
+    private final DataSource dataSource;
+    private final TopicMessageDispatcher topicMessageDispatcher;
+    private final TopicMessageRepository topicMessageRepository;
+    private final Flux<TopicMessage> topicMessages;
+
+    public NotifyingTopicListener(
+            DataSource dataSource,
+            ListenerProperties listenerProperties,
+            ObservationRegistry observationRegistry,
+            TopicMessageDispatcher topicMessageDispatcher,
+            TopicMessageRepository topicMessageRepository) {
+        super(listenerProperties);
+        this.dataSource = dataSource;
+        this.topicMessageDispatcher = topicMessageDispatcher;
+        this.topicMessageRepository = topicMessageRepository;
+
+        Duration interval = listenerProperties.getInterval();
+        var lastConsensusTimestamp = new AtomicLong();
+
+        topicMessages = Flux.defer(() -> listen(lastConsensusTimestamp))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(topicMessageDispatcher::dispatch)
+                .name(METRIC)
+                .tag(METRIC_TAG, "notify")
+                .tap(Micrometer.observation(observationRegistry))
+                .doOnCancel(() -> log.info("Cancelled listening"))
+                .doOnError(t -> log.error("Error listening for notifications", t))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
+                .doOnSubscribe(s -> start(lastConsensusTimestamp))
+                .doFinally(s -> topicMessageDispatcher.stop())
+                .share();
+    }
+
+    @Override
+    protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
+        return topicMessageDispatcher.listen(filter.getTopicId(), topicMessages);
+    }
+
+    private void start(AtomicLong lastConsensusTimestamp) {
+        var now = DomainUtils.now();
+        lastConsensusTimestamp.set(now);
+        topicMessageDispatcher.start(now);
+    }
+
+    private Flux<TopicMessage> listen(AtomicLong lastConsensusTimestamp) {
+        return Flux.using(
+                this::connect,
+                connection -> Flux.<Boolean>generate(sink -> awaitNotification(connection, sink))
+                        .startWith(true) // Catch up on anything committed while not connected
+                        .filter(notified -> notified)
+                        .concatMap(n -> poll(lastConsensusTimestamp), 1),
+                this::close);
+    }
+
+    private Connection connect() throws SQLException {
+        var connection = dataSource.getConnection();
+        try (var statement = connection.createStatement()) {
+            statement.execute("listen " + CHANNEL);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+
+        log.info("Listening for notifications on channel {}", CHANNEL);
+        return connection;
+    }
+
+    private void close(Connection connection) {
+        try (connection;
+                var statement = connection.createStatement()) {
+            statement.execute("unlisten *");
+            log.info("Stopped listening for notifications on channel {}", CHANNEL);
+        } catch (SQLException e) {
+            log.warn("Unable to release the notification connection: {}", e.getMessage());
+        }
+    }
+
+    // Blocks until a notification arrives or the interval elapses so that cancellation is noticed in a timely manner
+    private void awaitNotification(Connection connection, SynchronousSink<Boolean> sink) {
+        try {
+            var timeout = (int) listenerProperties.getInterval().toMillis();
+            var notifications = connection.unwrap(PGConnection.class).getNotifications(timeout);
+            sink.next(notifications != null && notifications.length > 0);
+        } catch (SQLException e) {
+            sink.error(e);
+        }
+    }
+
+    private Flux<TopicMessage> poll(AtomicLong lastConsensusTimestamp) {
+        if (!listenerProperties.isEnabled()) {
+            return Flux.empty();
+        }
+
+        int pageSize = listenerProperties.getMaxPageSize();
+        var stopwatch = Stopwatch.createStarted();
+        var count = new AtomicInteger();
+
+        return Mono.fromSupplier(() -> findLatest(lastConsensusTimestamp.get(), pageSize))
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : Mono.fromSupplier(() -> findLatest(page.getLast().getConsensusTimestamp(), pageSize)))
+                .doOnNext(page -> {
+                    if (!page.isEmpty()) {
+                        count.addAndGet(page.size());
+                        lastConsensusTimestamp.set(page.getLast().getConsensusTimestamp());
+                    }
+                })
+                .doOnComplete(() -> log.info("Finished querying with {} messages in {}", count, stopwatch))
+                .flatMapIterable(Function.identity());
+    }
+
+    private List<TopicMessage> findLatest(long consensusTimestamp, int pageSize) {
+        log.debug("Querying for messages after timestamp {}", consensusTimestamp);
+        return topicMessageRepository.findLatest(consensusTimestamp, pageSize);
+    }
+}
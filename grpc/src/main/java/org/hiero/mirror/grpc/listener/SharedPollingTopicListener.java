@@ -24,14 +24,17 @@ import reactor.util.retry.Retry;
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
+    private final TopicMessageDispatcher topicMessageDispatcher;
     private final TopicMessageRepository topicMessageRepository;
     private final Flux<TopicMessage> topicMessages;
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
             ObservationRegistry observationRegistry,
+            TopicMessageDispatcher topicMessageDispatcher,
             TopicMessageRepository topicMessageRepository) {
         super(listenerProperties);
+        this.topicMessageDispatcher = topicMessageDispatcher;
         this.topicMessageRepository = topicMessageRepository;
 
         Scheduler scheduler = Schedulers.boundedElastic();
@@ -42,6 +45,7 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .repeatWhen(RepeatSpec.times(Long.MAX_VALUE)
                         .withFixedDelay(interval)
                         .withScheduler(scheduler))
+                .doOnNext(topicMessageDispatcher::dispatch)
                 .name(METRIC)
                 .tag(METRIC_TAG, "shared poll")
                 .tap(Micrometer.observation(observationRegistry))
@@ -49,12 +53,13 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnError(t -> log.error("Error polling the database", t))
                 .doOnSubscribe(context::onStart)
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
+                .doFinally(s -> topicMessageDispatcher.stop())
                 .share();
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        return topicMessageDispatcher.listen(filter.getTopicId(), topicMessages);
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -99,7 +104,9 @@ public class SharedPollingTopicListener extends SharedTopicListener {
         }
 
         void onStart(Subscription subscription) {
-            lastConsensusTimestamp.set(DomainUtils.now());
+            var now = DomainUtils.now();
+            lastConsensusTimestamp.set(now);
+            topicMessageDispatcher.start(now);
             log.info(
                     "Starting to poll every {}ms",
                     listenerProperties.getInterval().toMillis());
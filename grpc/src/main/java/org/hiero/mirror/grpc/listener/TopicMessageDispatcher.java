@@ -0,0 +1,187 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.CustomLog;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Routes the messages of a shared, all topic listener to the subscribers of each topic so that a message is only
+ * offered to the subscribers interested in it. The most recent messages of each topic are kept in a bounded ring buffer
+ * so that late subscribers can catch up from memory instead of querying the database.
+ */
+@CustomLog
+@Named
+public class TopicMessageDispatcher {
+
+    static final String BUFFER_METRIC = "hiero.mirror.grpc.listener.buffer";
+
+    private final Counter bufferHits;
+    private final Counter bufferMisses;
+    private final Cache<EntityId, TopicBuffer> buffers;
+    private final ListenerProperties listenerProperties;
+    private final Map<EntityId, TopicSink> topicSinks = new ConcurrentHashMap<>();
+
+    // The consensus timestamp after which every message has been dispatched, or Long.MAX_VALUE if not listening
+    private volatile long coveredFrom = Long.MAX_VALUE;
+    private volatile boolean evicted;
+
+    public TopicMessageDispatcher(ListenerProperties listenerProperties, MeterRegistry meterRegistry) {
+        this.listenerProperties = listenerProperties;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(listenerProperties.getMaxBufferedTopics())
+                .evictionListener((k, v, cause) -> evicted = true)
+                .executor(Runnable::run)
+                .build();
+        this.bufferHits = Counter.builder(BUFFER_METRIC)
+                .description("The number of historical queries served from the in-memory topic buffers")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.bufferMisses = Counter.builder(BUFFER_METRIC)
+                .description("The number of historical queries that fell back to the database")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Called when the shared listener (re)starts listening for messages with a consensus timestamp after the given
+     * timestamp. Any buffered messages are discarded since there may be a gap between them and the new messages.
+     */
+    void start(long consensusTimestamp) {
+        buffers.invalidateAll();
+        evicted = false;
+        coveredFrom = consensusTimestamp + 1;
+        log.info("Buffering topic messages after timestamp {}", consensusTimestamp);
+    }
+
+    void stop() {
+        coveredFrom = Long.MAX_VALUE;
+        buffers.invalidateAll();
+    }
+
+    void dispatch(TopicMessage topicMessage) {
+        var topicId = topicMessage.getTopicId();
+        int bufferSize = listenerProperties.getTopicBufferSize();
+
+        if (bufferSize > 0) {
+            var start = evicted ? topicMessage.getConsensusTimestamp() : coveredFrom;
+            buffers.get(topicId, k -> new TopicBuffer(start)).add(topicMessage, bufferSize);
+        }
+
+        var topicSink = topicSinks.get(topicId);
+        if (topicSink != null && topicSink.sink().tryEmitNext(topicMessage) == Sinks.EmitResult.FAIL_OVERFLOW) {
+            log.warn("Dropping message for topic {} due to buffer overflow", topicId);
+        }
+    }
+
+    /**
+     * Subscribes to the messages of a single topic while keeping the shared listener subscribed.
+     */
+    Flux<TopicMessage> listen(EntityId topicId, Flux<TopicMessage> sharedListener) {
+        return Flux.defer(() -> subscribe(topicId).asFlux())
+                .mergeWith(sharedListener.ignoreElements())
+                .doFinally(s -> unsubscribe(topicId));
+    }
+
+    /**
+     * Returns the buffered messages matching the filter if the buffer holds every message since the filter's start
+     * time, otherwise null to indicate the caller should query the database.
+     */
+    public @Nullable Flux<TopicMessage> replay(TopicMessageFilter filter) {
+        var from = coveredFrom;
+        if (from == Long.MAX_VALUE || listenerProperties.getTopicBufferSize() <= 0) {
+            return null;
+        }
+
+        var buffer = buffers.getIfPresent(filter.getTopicId());
+        var messages = buffer != null ? buffer.since(filter.getStartTime()) : List.<TopicMessage>of();
+
+        if (buffer != null) {
+            from = buffer.getCoveredFrom();
+        } else if (evicted) {
+            from = Long.MAX_VALUE;
+        }
+
+        if (filter.getStartTime() < from) {
+            bufferMisses.increment();
+            return null;
+        }
+
+        bufferHits.increment();
+        var flux = Flux.fromIterable(messages);
+        var endTime = filter.getEndTime();
+
+        if (endTime != null) {
+            flux = flux.takeWhile(t -> t.getConsensusTimestamp() < endTime);
+        }
+
+        return filter.hasLimit() ? flux.take(filter.getLimit()) : flux;
+    }
+
+    private Sinks.Many<TopicMessage> subscribe(EntityId topicId) {
+        var topicSink = topicSinks.compute(topicId, (k, v) -> {
+            var value = v != null
+                    ? v
+                    : new TopicSink(
+                            Sinks.many().multicast().onBackpressureBuffer(listenerProperties.getMaxBufferSize(), false),
+                            new AtomicInteger());
+            value.subscribers().incrementAndGet();
+            return value;
+        });
+        return topicSink.sink();
+    }
+
+    private void unsubscribe(EntityId topicId) {
+        topicSinks.computeIfPresent(topicId, (k, v) -> v.subscribers().decrementAndGet() > 0 ? v : null);
+    }
+
+    private record TopicSink(Sinks.Many<TopicMessage> sink, AtomicInteger subscribers) {}
+
+    private static final class TopicBuffer {
+
+        private final ArrayDeque<TopicMessage> messages = new ArrayDeque<>();
+        private long coveredFrom;
+
+        private TopicBuffer(long coveredFrom) {
+            this.coveredFrom = coveredFrom;
+        }
+
+        synchronized void add(TopicMessage topicMessage, int capacity) {
+            while (messages.size() >= capacity) {
+                coveredFrom = messages.removeFirst().getConsensusTimestamp() + 1;
+            }
+
+            messages.addLast(topicMessage);
+        }
+
+        synchronized long getCoveredFrom() {
+            return coveredFrom;
+        }
+
+        synchronized List<TopicMessage> since(long consensusTimestamp) {
+            var result = new ArrayList<TopicMessage>();
+            for (var topicMessage : messages) {
+                if (topicMessage.getConsensusTimestamp() >= consensusTimestamp) {
+                    result.add(topicMessage);
+                }
+            }
+            return result;
+        }
+    }
+}
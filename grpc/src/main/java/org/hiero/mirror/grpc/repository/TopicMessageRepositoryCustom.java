@@ -6,9 +6,17 @@ import java.util.stream.Stream;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Streams the topic messages matching the filter using a server-side cursor that fetches the given number of rows
+     * at a time as they are requested. The cursor holds a dedicated connection and runs in its own read-only
+     * transaction until the flux terminates or is cancelled.
+     */
+    Flux<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize);
 }
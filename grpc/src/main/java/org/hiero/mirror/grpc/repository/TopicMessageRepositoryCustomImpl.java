@@ -7,13 +7,21 @@ import static org.hiero.mirror.grpc.retriever.RetrieverProperties.MIN_PAGE_SIZE;
 
 import jakarta.inject.Named;
 import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.jpa.HibernateHints;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.retriever.RetrieverProperties;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 @CustomLog
 @Named
@@ -26,6 +34,16 @@ class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryCustom {
     // the primary key so pg planner will choose the better index when querying topic messages by id
     private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0";
 
+    private static final String STREAM_QUERY = """
+            select chunk_num, chunk_total, consensus_timestamp, initial_transaction_id, message, payer_account_id,
+              running_hash, running_hash_version, sequence_number, topic_id, valid_start_timestamp
+            from topic_message
+            where topic_id = ? and consensus_timestamp >= ? and consensus_timestamp < ?
+            order by consensus_timestamp
+            limit ?
+            """;
+
+    private final DataSource dataSource;
     private final EntityManager entityManager;
     private final RetrieverProperties retrieverProperties;
 
@@ -57,4 +75,81 @@ class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryCustom {
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    public Flux<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize) {
+        return Flux.using(() -> openCursor(filter, fetchSize), this::read, this::closeCursor)
+                .subscribeOn(Schedulers.boundedElastic()); // Requests also hop to the scheduler since reads block
+    }
+
+    private Cursor openCursor(TopicMessageFilter filter, int fetchSize) throws SQLException {
+        var connection = dataSource.getConnection();
+
+        try {
+            // PostgreSQL only uses a cursor for the fetch size when within a transaction
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+
+            if (filter.getLimit() != 1) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(TOPIC_MESSAGES_BY_ID_QUERY_HINT);
+                }
+            }
+
+            var endTime = filter.getEndTime() != null ? filter.getEndTime() : Long.MAX_VALUE;
+            var statement = connection.prepareStatement(STREAM_QUERY);
+            statement.setFetchSize(fetchSize);
+            statement.setLong(1, filter.getTopicId().getId());
+            statement.setLong(2, filter.getStartTime());
+            statement.setLong(3, endTime);
+            statement.setLong(4, filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE);
+            return new Cursor(connection, statement, statement.executeQuery());
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    private Flux<TopicMessage> read(Cursor cursor) {
+        return Flux.generate(sink -> {
+            try {
+                var resultSet = cursor.resultSet();
+                if (resultSet.next()) {
+                    sink.next(toTopicMessage(resultSet));
+                } else {
+                    sink.complete();
+                }
+            } catch (SQLException e) {
+                sink.error(e);
+            }
+        });
+    }
+
+    private void closeCursor(Cursor cursor) {
+        try (var connection = cursor.connection()) {
+            cursor.resultSet().close();
+            cursor.statement().close();
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("Unable to close topic message cursor: {}", e.getMessage());
+        }
+    }
+
+    private TopicMessage toTopicMessage(ResultSet resultSet) throws SQLException {
+        return TopicMessage.builder()
+                .chunkNum(resultSet.getObject(1, Integer.class))
+                .chunkTotal(resultSet.getObject(2, Integer.class))
+                .consensusTimestamp(resultSet.getLong(3))
+                .initialTransactionId(resultSet.getBytes(4))
+                .message(resultSet.getBytes(5))
+                .payerAccountId(EntityId.of(resultSet.getLong(6)))
+                .runningHash(resultSet.getBytes(7))
+                .runningHashVersion(resultSet.getObject(8, Integer.class))
+                .sequenceNumber(resultSet.getLong(9))
+                .topicId(EntityId.of(resultSet.getLong(10)))
+                .validStartTimestamp(resultSet.getObject(11, Long.class))
+                .build();
+    }
+
+    private record Cursor(Connection connection, PreparedStatement statement, ResultSet resultSet) {}
 }
@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.retriever;
+
+import jakarta.inject.Named;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.listener.TopicMessageDispatcher;
+import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Flux;
+
+/**
+ * Serves historical topic messages from the listener's in-memory topic buffers when they hold every message since the
+ * requested start time, falling back to the database otherwise.
+ */
+@CustomLog
+@Named
+@Primary
+@RequiredArgsConstructor
+final class BufferedTopicMessageRetriever implements TopicMessageRetriever {
+
+    private final PollingTopicMessageRetriever pollingTopicMessageRetriever;
+    private final RetrieverProperties retrieverProperties;
+    private final TopicMessageDispatcher topicMessageDispatcher;
+
+    @Override
+    public Flux<TopicMessage> retrieve(TopicMessageFilter filter, boolean throttled) {
+        if (!retrieverProperties.isEnabled()) {
+            return Flux.empty();
+        }
+
+        var buffered = topicMessageDispatcher.replay(filter);
+        if (buffered != null) {
+            log.debug("Retrieving buffered messages: {}", filter);
+            return buffered;
+        }
+
+        return pollingTopicMessageRetriever.retrieve(filter, throttled);
+    }
+}
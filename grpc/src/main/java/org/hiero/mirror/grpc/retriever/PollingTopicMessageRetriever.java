@@ -48,6 +48,11 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         }
 
         PollingContext context = new PollingContext(filter, throttled);
+
+        if (throttled && retrieverProperties.isStreaming()) {
+            return stream(context);
+        }
+
         return Flux.defer(() -> poll(context))
                 .repeatWhen(RepeatSpec.create(r -> !context.isComplete(), context.getNumRepeats())
                         .jitter(0.1)
@@ -62,6 +67,35 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                 .doOnNext(context::onNext);
     }
 
+    /**
+     * Streams the historical messages from a single cursor so memory is bounded by the fetch size and the downstream
+     * prefetch instead of the page size. On error, it resumes after the last message received.
+     */
+    private Flux<TopicMessage> stream(PollingContext context) {
+        return Flux.defer(() -> {
+                    var filter = context.getFilter();
+                    var last = context.getLast();
+                    long remaining = filter.getLimit() - context.getTotal().get();
+                    if (filter.hasLimit() && remaining <= 0) {
+                        return Flux.<TopicMessage>empty();
+                    }
+
+                    var newFilter = filter.toBuilder()
+                            .limit(filter.hasLimit() ? remaining : 0L)
+                            .startTime(last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime())
+                            .build();
+                    log.debug("Executing streaming query: {}", newFilter);
+                    return topicMessageRepository.streamByFilter(newFilter, retrieverProperties.getFetchSize());
+                })
+                .name(METRIC)
+                .tap(Micrometer.observation(observationRegistry))
+                .doOnNext(context::onNext)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)))
+                .timeout(retrieverProperties.getTimeout(), scheduler)
+                .doOnCancel(context::onComplete)
+                .doOnComplete(context::onComplete);
+    }
+
     private Flux<TopicMessage> poll(PollingContext context) {
         TopicMessageFilter filter = context.getFilter();
         TopicMessage last = context.getLast();
@@ -22,6 +22,10 @@ public class RetrieverProperties {
 
     private boolean enabled = true;
 
+    @Max(MAX_PAGE_SIZE)
+    @Min(MIN_PAGE_SIZE)
+    private int fetchSize = 100;
+
     @Max(MAX_PAGE_SIZE)
     @Min(MIN_PAGE_SIZE)
     private int maxPageSize = 1000;
@@ -29,6 +33,8 @@ public class RetrieverProperties {
     @NotNull
     private Duration pollingFrequency = Duration.ofSeconds(2L);
 
+    private boolean streaming = false;
+
     @NotNull
     private Duration timeout = Duration.ofSeconds(60L);
 
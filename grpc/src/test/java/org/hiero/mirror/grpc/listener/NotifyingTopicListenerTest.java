@@ -0,0 +1,32 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.springframework.jdbc.core.JdbcOperations;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+@SuppressWarnings("java:S2187") // Ignore no tests in file warning
+final class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
+
+    private final JdbcOperations jdbcOperations;
+
+    @Override
+    protected ListenerProperties.ListenerType getType() {
+        return ListenerProperties.ListenerType.NOTIFY;
+    }
+
+    @Override
+    protected void publish(Flux<TopicMessage> publisher) {
+        var last = publisher.blockLast();
+        if (last != null) {
+            jdbcOperations.queryForObject(
+                    "select pg_notify(?, ?)",
+                    Object.class,
+                    NotifyingTopicListener.CHANNEL,
+                    String.valueOf(last.getConsensusTimestamp()));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.grpc.listener.TopicMessageDispatcher.BUFFER_METRIC;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class TopicMessageDispatcherTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+    private static final long START = 1_000L;
+
+    private ListenerProperties listenerProperties;
+    private MeterRegistry meterRegistry;
+    private TopicMessageDispatcher dispatcher;
+    private long sequenceNumber;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties = new ListenerProperties();
+        listenerProperties.setTopicBufferSize(3);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new TopicMessageDispatcher(listenerProperties, meterRegistry);
+        sequenceNumber = 0L;
+    }
+
+    @Test
+    void replayNotListening() {
+        assertThat(dispatcher.replay(filter(START + 1))).isNull();
+        assertThat(count("miss")).isZero();
+    }
+
+    @Test
+    void replayHit() {
+        dispatcher.start(START);
+        var topicMessage1 = dispatch(TOPIC_ID, START + 1);
+        var topicMessage2 = dispatch(TOPIC_ID, START + 2);
+        dispatch(EntityId.of(101L), START + 3);
+
+        StepVerifier.create(dispatcher.replay(filter(START + 1)))
+                .expectNext(topicMessage1, topicMessage2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        StepVerifier.create(dispatcher.replay(filter(START + 2)))
+                .expectNext(topicMessage2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertThat(count("hit")).isEqualTo(2);
+    }
+
+    @Test
+    void replayEmptyTopic() {
+        dispatcher.start(START);
+        dispatch(EntityId.of(101L), START + 1);
+
+        StepVerifier.create(dispatcher.replay(filter(START + 1)))
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+        assertThat(count("hit")).isOne();
+    }
+
+    @Test
+    void replayLimitAndEndTime() {
+        dispatcher.start(START);
+        var topicMessage1 = dispatch(TOPIC_ID, START + 1);
+        var topicMessage2 = dispatch(TOPIC_ID, START + 2);
+        dispatch(TOPIC_ID, START + 3);
+
+        var limited = filter(START + 1).toBuilder().limit(1L).build();
+        StepVerifier.create(dispatcher.replay(limited))
+                .expectNext(topicMessage1)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        var ended = filter(START + 1).toBuilder().endTime(START + 3).build();
+        StepVerifier.create(dispatcher.replay(ended))
+                .expectNext(topicMessage1, topicMessage2)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void replayBeforeStart() {
+        dispatcher.start(START);
+        dispatch(TOPIC_ID, START + 1);
+
+        assertThat(dispatcher.replay(filter(START))).isNull();
+        assertThat(count("miss")).isOne();
+    }
+
+    @Test
+    void replayAfterWrap() {
+        dispatcher.start(START);
+        for (int i = 1; i <= 5; i++) {
+            dispatch(TOPIC_ID, START + i);
+        }
+
+        assertThat(dispatcher.replay(filter(START + 2))).isNull();
+        StepVerifier.create(dispatcher.replay(filter(START + 3)).map(TopicMessage::getSequenceNumber))
+                .expectNext(3L, 4L, 5L)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void replayDisabled() {
+        listenerProperties.setTopicBufferSize(0);
+        dispatcher.start(START);
+        dispatch(TOPIC_ID, START + 1);
+
+        assertThat(dispatcher.replay(filter(START + 1))).isNull();
+    }
+
+    @Test
+    void replayAfterStop() {
+        dispatcher.start(START);
+        dispatch(TOPIC_ID, START + 1);
+        dispatcher.stop();
+
+        assertThat(dispatcher.replay(filter(START + 1))).isNull();
+    }
+
+    @Test
+    void listen() {
+        var otherTopicId = EntityId.of(101L);
+        dispatcher.start(START);
+
+        StepVerifier.create(dispatcher.listen(TOPIC_ID, Flux.never()).map(TopicMessage::getSequenceNumber))
+                .then(() -> {
+                    dispatch(otherTopicId, START + 1);
+                    dispatch(TOPIC_ID, START + 2);
+                })
+                .expectNext(2L)
+                .thenCancel()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter(BUFFER_METRIC, "result", result).count();
+    }
+
+    private TopicMessage dispatch(EntityId topicId, long consensusTimestamp) {
+        var topicMessage = TopicMessage.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .sequenceNumber(++sequenceNumber)
+                .topicId(topicId)
+                .build();
+        dispatcher.dispatch(topicMessage);
+        return topicMessage;
+    }
+
+    private TopicMessageFilter filter(long startTime) {
+        return TopicMessageFilter.builder().startTime(startTime).topicId(TOPIC_ID).build();
+    }
+}
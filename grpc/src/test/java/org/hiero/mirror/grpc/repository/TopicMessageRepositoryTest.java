@@ -4,6 +4,7 @@ package org.hiero.mirror.grpc.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -14,10 +15,13 @@ import org.hiero.mirror.grpc.GrpcIntegrationTest;
 import org.hiero.mirror.grpc.domain.ReactiveDomainBuilder;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
 
 @RequiredArgsConstructor
 class TopicMessageRepositoryTest extends GrpcIntegrationTest {
 
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+
     private final TopicMessageRepository topicMessageRepository;
     private final ReactiveDomainBuilder domainBuilder;
 
@@ -112,6 +116,75 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void streamByFilterEmpty() {
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(EntityId.of(100L))
+                .build();
+
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void streamByFilterWithStartAndEndTime() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        var topicMessage3 = domainBuilder.topicMessage().block();
+        var topicMessage4 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-1))).block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(topicMessage2.getConsensusTimestamp())
+                .endTime(topicMessage4.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1))
+                .expectNext(topicMessage2, topicMessage3)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void streamByFilterWithLimit() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        var filter = TopicMessageFilter.builder()
+                .limit(2)
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1))
+                .expectNext(topicMessage1, topicMessage2)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void streamByFilterBackpressure() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1), 1)
+                .expectNext(topicMessage1)
+                .thenRequest(1)
+                .expectNext(topicMessage2)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
     @Test
     void findLatest() {
         // given
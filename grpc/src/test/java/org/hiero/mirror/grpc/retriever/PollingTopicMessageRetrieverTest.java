@@ -270,6 +270,53 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void streaming() {
+        retrieverProperties.setFetchSize(2);
+        retrieverProperties.setStreaming(true);
+        domainBuilder.topicMessages(5, now).blockLast();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(2L))).block();
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        try {
+            pollingTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .expectNext(1L, 2L, 3L, 4L, 5L)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            retrieverProperties.setFetchSize(100);
+            retrieverProperties.setStreaming(false);
+        }
+    }
+
+    @Test
+    void streamingWithLimit() {
+        retrieverProperties.setFetchSize(2);
+        retrieverProperties.setStreaming(true);
+        domainBuilder.topicMessages(5, now).blockLast();
+        var filter = TopicMessageFilter.builder()
+                .limit(3L)
+                .startTime(0)
+                .topicId(TOPIC_ID)
+                .build();
+
+        try {
+            pollingTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .expectNext(1L, 2L, 3L)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            retrieverProperties.setFetchSize(100);
+            retrieverProperties.setStreaming(false);
+        }
+    }
+
     int overrideMaxPageSize(boolean throttle, int newMaxPageSize) {
         int maxPageSize;
 
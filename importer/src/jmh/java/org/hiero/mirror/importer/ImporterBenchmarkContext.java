@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer;
+
+import org.hiero.mirror.common.config.CommonTestConfiguration;
+import org.hiero.mirror.common.config.RedisTestConfiguration;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Lazily starts a single importer application context per benchmark JVM, backed by the same PostgreSQL and Redis
+ * containers used by the integration tests, for benchmarks whose subject is a Spring bean.
+ */
+public final class ImporterBenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private ImporterBenchmarkContext() {}
+
+    public static synchronized <T> T getBean(Class<T> type) {
+        if (context == null) {
+            context = SpringApplication.from(ImporterApplication::main)
+                    .with(CommonTestConfiguration.class, RedisTestConfiguration.class)
+                    .run()
+                    .getApplicationContext();
+        }
+
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,68 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.importer.ImporterBenchmarkContext;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the serialization of rows into the COPY format without the round trip to the database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BatchInserterBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"BINARY", "CSV"})
+    private CopyFormat format;
+
+    private final List<CryptoTransfer> items = new ArrayList<>(BATCH_SIZE);
+    private BatchInserter batchInserter;
+
+    @Setup
+    public void setup() {
+        var dataSource = ImporterBenchmarkContext.getBean(DataSource.class);
+        var meterRegistry = ImporterBenchmarkContext.getBean(MeterRegistry.class);
+        var properties = ImporterBenchmarkContext.getBean(CommonParserProperties.class);
+        var entityMetadata = format == CopyFormat.BINARY
+                ? ImporterBenchmarkContext.getBean(EntityMetadataRegistry.class)
+                        .lookupEntity(CryptoTransfer.class)
+                : null;
+        var tableName = CryptoTransfer.class.getSimpleName();
+        batchInserter = new BatchInserter(
+                CryptoTransfer.class, dataSource, meterRegistry, properties, tableName, entityMetadata);
+
+        var domainBuilder = new DomainBuilder();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            items.add(domainBuilder.cryptoTransfer().get());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void write() throws IOException {
+        batchInserter.write(OutputStream.nullOutputStream(), items);
+    }
+}
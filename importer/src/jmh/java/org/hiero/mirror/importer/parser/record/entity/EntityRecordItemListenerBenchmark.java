@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.mirror.common.domain.RecordItemBuilder;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.common.domain.transaction.TransactionType;
+import org.hiero.mirror.importer.ImporterBenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the in-memory processing of a transaction by the entity record item listener. The parser context is
+ * cleared after every batch so nothing is persisted.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EntityRecordItemListenerBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({
+        "CONSENSUSSUBMITMESSAGE",
+        "CONTRACTCALL",
+        "CRYPTOCREATEACCOUNT",
+        "CRYPTOTRANSFER",
+        "ETHEREUMTRANSACTION",
+        "TOKENMINT"
+    })
+    private TransactionType transactionType;
+
+    private final List<RecordItem> recordItems = new ArrayList<>(BATCH_SIZE);
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
+    private EntityRecordItemListener listener;
+    private ParserContext parserContext;
+
+    @Setup
+    public void setup() {
+        listener = ImporterBenchmarkContext.getBean(EntityRecordItemListener.class);
+        parserContext = ImporterBenchmarkContext.getBean(ParserContext.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        var logIndex = new AtomicInteger();
+        var evmTransactionIndex = new AtomicInteger();
+        var builder = recordItemBuilder.lookup(transactionType);
+        recordItems.clear();
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            var recordItem = builder.get().build();
+            recordItem.setLogIndex(logIndex);
+            recordItem.setEvmTransactionIndexCounter(evmTransactionIndex);
+            recordItems.add(recordItem);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        parserContext.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void onItem() {
+        for (var recordItem : recordItems) {
+            listener.onItem(recordItem);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.collect.Range;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.importer.ImporterBenchmarkContext;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the in-memory merging of entity and token account updates within a record file. Each of the entities and
+ * token accounts is updated several times so that all but the first update go through the merge functions.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SqlEntityListenerBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1", "10"})
+    private int updates;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final List<Entity> entities = new ArrayList<>(BATCH_SIZE);
+    private final List<TokenAccount> tokenAccounts = new ArrayList<>(BATCH_SIZE);
+    private ParserContext parserContext;
+    private SqlEntityListener sqlEntityListener;
+
+    @Setup
+    public void setup() {
+        parserContext = ImporterBenchmarkContext.getBean(ParserContext.class);
+        sqlEntityListener = ImporterBenchmarkContext.getBean(SqlEntityListener.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        entities.clear();
+        tokenAccounts.clear();
+        int count = BATCH_SIZE / updates;
+
+        for (int i = 0; i < count; i++) {
+            var entity = domainBuilder.entity().get();
+            var tokenAccount = domainBuilder.tokenAccount().get();
+
+            for (int j = 0; j < updates; j++) {
+                long timestamp = domainBuilder.timestamp();
+                entities.add(domainBuilder
+                        .entity(entity.getId(), timestamp)
+                        .customize(e -> e.timestampRange(Range.atLeast(timestamp)))
+                        .get());
+                tokenAccounts.add(domainBuilder
+                        .tokenAccount()
+                        .customize(ta -> ta.accountId(tokenAccount.getAccountId())
+                                .tokenId(tokenAccount.getTokenId())
+                                .timestampRange(Range.atLeast(timestamp)))
+                        .get());
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        parserContext.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void mergeEntity() {
+        for (var entity : entities) {
+            sqlEntityListener.onEntity(entity);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void mergeTokenAccount() {
+        for (var tokenAccount : tokenAccounts) {
+            sqlEntityListener.onTokenAccount(tokenAccount);
+        }
+    }
+}
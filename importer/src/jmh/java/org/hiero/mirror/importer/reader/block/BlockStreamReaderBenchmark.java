@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.block;
+
+import com.hedera.hapi.block.stream.protoc.Block;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.StreamType;
+import org.hiero.mirror.common.domain.transaction.BlockFile;
+import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.parser.record.sidecar.SidecarProperties;
+import org.hiero.mirror.importer.reader.block.record.CompositeRecordFileItemReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BlockStreamReaderBenchmark {
+
+    private static final long[] BLOCK_NUMBERS = {0L, 1L, 5L};
+
+    private final List<BlockStream> blockStreams = new ArrayList<>();
+    private BlockStreamReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        // The test blocks don't start from genesis so there is no initial state to read
+        reader = new BlockStreamReaderImpl(
+                stateChanges -> null, new CompositeRecordFileItemReader(new SidecarProperties()));
+
+        for (long blockNumber : BLOCK_NUMBERS) {
+            var filename = BlockFile.getFilename(blockNumber, true);
+            var file = TestUtils.getResource("data/blockstreams/" + StreamType.BLOCK.toBucketFilename(filename));
+            var streamFileData = StreamFileData.from(file);
+
+            try (var inputStream = streamFileData.getInputStream()) {
+                var block = Block.parseFrom(inputStream);
+                var bytes = streamFileData.getBytes();
+                long now = System.currentTimeMillis();
+                blockStreams.add(new BlockStream(block.getItemsList(), now, bytes, filename, now, bytes.length));
+            }
+        }
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        for (var blockStream : blockStreams) {
+            blackhole.consume(reader.read(blockStream));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.block.hash;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hapi.block.stream.output.protoc.BlockFooter;
+import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
+import com.hedera.hapi.block.stream.output.protoc.TransactionResult;
+import com.hedera.hapi.block.stream.protoc.BlockItem;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.importer.TestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the block root hash of blocks with the given number of transactions. Blocks below the parallel threshold
+ * hash their subtrees on the benchmark thread, larger blocks hash them concurrently.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BlockRootHashDigestBenchmark {
+
+    @Param({"50", "1000", "10000"})
+    private int transactions;
+
+    private final List<BlockItem> blockItems = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        blockItems.clear();
+        blockItems.add(BlockItem.newBuilder()
+                .setBlockHeader(BlockHeader.newBuilder()
+                        .setBlockTimestamp(Timestamp.newBuilder().setSeconds(1L)))
+                .build());
+
+        // Roughly the size of a crypto transfer's signed transaction and its result
+        for (int i = 0; i < transactions; i++) {
+            blockItems.add(BlockItem.newBuilder()
+                    .setSignedTransaction(ByteString.copyFrom(TestUtils.generateRandomByteArray(256)))
+                    .build());
+            blockItems.add(BlockItem.newBuilder()
+                    .setTransactionResult(TransactionResult.newBuilder()
+                            .setConsensusTimestamp(Timestamp.newBuilder().setNanos(i))
+                            .setTransactionFeeCharged(i))
+                    .build());
+        }
+
+        final var hash = ByteString.copyFrom(new byte[48]);
+        blockItems.add(BlockItem.newBuilder()
+                .setBlockFooter(BlockFooter.newBuilder()
+                        .setPreviousBlockRootHash(hash)
+                        .setRootHashOfAllBlockHashesTree(hash)
+                        .setStartOfBlockStateRootHash(hash))
+                .build());
+    }
+
+    @Benchmark
+    public byte[] digest() {
+        final var digest = new BlockRootHashDigest();
+        for (final var blockItem : blockItems) {
+            digest.addBlockItem(blockItem);
+        }
+        return digest.digest();
+    }
+
+    @Benchmark
+    public byte[] streamingHasher() {
+        final var hasher = new IncrementalStreamingHasher();
+        for (final var blockItem : blockItems) {
+            hasher.addLeaf(blockItem.toByteArray());
+        }
+        return hasher.computeRootHash();
+    }
+}
@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordFileReaderBenchmark {
+
+    @Param({"5", "6"})
+    private int version;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private List<StreamFileData> streamFiles;
+    private RecordFileReader reader;
+
+    @Setup
+    public void setup() {
+        var properties = new RecordParserProperties();
+        properties.getDecode().setParallel(parallel);
+        properties.getDecode().setParallelThreshold(1);
+        reader = version == 5 ? new RecordFileReaderImplV5(properties) : new ProtoRecordFileReader(properties);
+
+        var directory = TestUtils.getResource("data/recordstreams/v" + version + "/record0.0.3");
+        streamFiles = Arrays.stream(directory.listFiles((d, name) -> name.matches(".+\\.rcd(\\.gz)?$")))
+                .sorted()
+                .map(StreamFileData::from)
+                .toList();
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        for (var streamFileData : streamFiles) {
+            RecordFile recordFile = reader.read(streamFileData);
+            blackhole.consume(recordFile.getItems());
+        }
+    }
+}
@@ -23,4 +23,14 @@ public interface TimePartitionService {
      * @return The time partitions. If the table is not time partitioned or doesn't have time partitions, returns an empty list
      */
     List<TimePartition> getTimePartitions(String tableName);
+
+    /**
+     * Detach and drop the time partitions of a table that only contain data on or before the given timestamp. The
+     * latest time partition is always kept so that partition maintenance can create the next ones after it.
+     *
+     * @param tableName The table name
+     * @param toTimestamp The to timestamp, inclusive
+     * @return The dropped time partitions
+     */
+    List<TimePartition> dropTimePartitions(String tableName, long toTimestamp);
 }
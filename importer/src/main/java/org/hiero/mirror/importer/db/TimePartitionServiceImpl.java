@@ -11,17 +11,23 @@ import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import lombok.CustomLog;
+import org.hiero.mirror.importer.config.Owner;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @CustomLog
 @Named
 public class TimePartitionServiceImpl implements TimePartitionService {
 
+    private static final String DETACH_PARTITION_SQL = "alter table %s detach partition %s";
+    private static final String DROP_PARTITION_SQL = "drop table %s";
     private static final String GET_TIME_PARTITIONS_SQL = "select * from mirror_node_time_partitions where parent = ?";
     private static final RowMapper<TimePartition> ROW_MAPPER = (rs, rowNum) -> TimePartition.builder()
             .name(rs.getString("name"))
@@ -32,14 +38,51 @@ public class TimePartitionServiceImpl implements TimePartitionService {
     private final Cache cacheTimePartitionOverlap;
     private final Cache cacheTimePartition;
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate ownerJdbcTemplate;
+    private final TransactionTemplate ownerTransactionTemplate;
 
     TimePartitionServiceImpl(
             @Qualifier(CACHE_TIME_PARTITION_OVERLAP) CacheManager cacheManagerOverlapTimePartition,
             @Qualifier(CACHE_TIME_PARTITION) CacheManager cacheManagerTimePartition,
-            JdbcTemplate jdbcTemplate) {
+            JdbcTemplate jdbcTemplate,
+            @Owner JdbcTemplate ownerJdbcTemplate) {
         this.cacheTimePartitionOverlap = cacheManagerOverlapTimePartition.getCache(CACHE_NAME);
         this.cacheTimePartition = cacheManagerTimePartition.getCache(CACHE_NAME);
         this.jdbcTemplate = jdbcTemplate;
+        this.ownerJdbcTemplate = ownerJdbcTemplate;
+
+        var transactionManager =
+                new DataSourceTransactionManager(Objects.requireNonNull(ownerJdbcTemplate.getDataSource()));
+        this.ownerTransactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<TimePartition> dropTimePartitions(String tableName, long toTimestamp) {
+        // Query instead of using the cache so a partition dropped elsewhere isn't dropped again
+        var partitions = queryForTimePartitions(tableName);
+        var droppedPartitions = new ArrayList<TimePartition>();
+
+        for (int i = 0; i < partitions.size() - 1; i++) {
+            var partition = partitions.get(i);
+            if (partition.getEnd() > toTimestamp) {
+                break;
+            }
+
+            // Detach and drop atomically so a failure in between can't leave an orphaned table behind
+            ownerTransactionTemplate.executeWithoutResult(t -> {
+                ownerJdbcTemplate.execute(DETACH_PARTITION_SQL.formatted(tableName, partition.getName()));
+                ownerJdbcTemplate.execute(DROP_PARTITION_SQL.formatted(partition.getName()));
+            });
+            droppedPartitions.add(partition);
+            log.info("Dropped time partition {} of table {}", partition.getName(), tableName);
+        }
+
+        if (!droppedPartitions.isEmpty()) {
+            cacheTimePartition.evict(tableName);
+            cacheTimePartitionOverlap.clear();
+        }
+
+        return Collections.unmodifiableList(droppedPartitions);
     }
 
     @Override
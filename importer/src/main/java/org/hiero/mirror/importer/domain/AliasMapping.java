@@ -0,0 +1,13 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@AllArgsConstructor
+@Data
+public class AliasMapping {
+    private byte[] alias;
+    private long id;
+}
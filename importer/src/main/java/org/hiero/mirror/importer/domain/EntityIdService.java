@@ -4,9 +4,11 @@ package org.hiero.mirror.importer.domain;
 
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 
 /**
  * This service is used to centralize the conversion logic from protobuf-based HAPI entities to its internal EntityId
@@ -57,6 +59,14 @@ public interface EntityIdService {
      */
     Optional<EntityId> lookup(ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses referenced by the record items that aren't cached yet with batched
+     * queries and caches the ones found, so later lookups of them don't each need a query.
+     *
+     * @param recordItems The record items that will be parsed
+     */
+    void preload(Collection<RecordItem> recordItems);
+
     /**
      * Used to notify the system of new aliases / evm addresses for potential use in future lookups.
      *
@@ -9,11 +9,20 @@ import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_ALIAS;
 import static org.hiero.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static org.hiero.mirror.importer.util.Utility.aliasToEvmAddress;
 
+import com.google.common.collect.Iterables;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessage;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
@@ -23,6 +32,7 @@ import org.apache.commons.codec.binary.Hex;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.exception.InvalidEntityException;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.repository.EntityRepository;
@@ -36,14 +46,24 @@ import org.springframework.cache.CacheManager;
 @Named
 public class EntityIdServiceImpl implements EntityIdService {
 
+    private static final String PRELOAD_SAVED_METRIC_NAME = "hiero.mirror.importer.entity.alias.preload.saved";
+
     private static final Optional<EntityId> EMPTY = Optional.of(EntityId.EMPTY);
+    private static final int MAX_PRELOAD_ENTRIES = 1000;
 
     private final Cache cache;
     private final EntityRepository entityRepository;
+    private final Counter preloadSavedMetric;
 
-    public EntityIdServiceImpl(@Qualifier(CACHE_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+    public EntityIdServiceImpl(
+            @Qualifier(CACHE_ALIAS) CacheManager cacheManager,
+            EntityRepository entityRepository,
+            MeterRegistry meterRegistry) {
         this.cache = cacheManager.getCache(CACHE_NAME);
         this.entityRepository = entityRepository;
+        this.preloadSavedMetric = Counter.builder(PRELOAD_SAVED_METRIC_NAME)
+                .description("The number of alias and EVM address queries saved by preloading them per record file")
+                .register(meterRegistry);
     }
 
     @Override
@@ -133,6 +153,111 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EMPTY;
     }
 
+    @Override
+    public void preload(Collection<RecordItem> recordItems) {
+        var aliases = new HashMap<ByteString, byte[]>();
+        var evmAddresses = new HashMap<ByteString, byte[]>();
+
+        for (var recordItem : recordItems) {
+            collect(recordItem.getTransactionBody(), aliases, evmAddresses);
+        }
+
+        if (aliases.isEmpty() && evmAddresses.isEmpty()) {
+            return;
+        }
+
+        int queries = 0;
+        int found = 0;
+
+        for (var batch : Iterables.partition(aliases.values(), MAX_PRELOAD_ENTRIES)) {
+            ++queries;
+            for (var mapping : entityRepository.findAllByAlias(batch)) {
+                cache.put(fromBytes(mapping.getAlias()), Optional.of(EntityId.of(mapping.getId())));
+                ++found;
+            }
+        }
+
+        for (var batch : Iterables.partition(evmAddresses.values(), MAX_PRELOAD_ENTRIES)) {
+            ++queries;
+            for (var mapping : entityRepository.findAllByEvmAddress(batch)) {
+                cache.put(fromBytes(mapping.getEvmAddress()), Optional.of(EntityId.of(mapping.getId())));
+                ++found;
+            }
+        }
+
+        // Aliases and EVM addresses not found are left to the regular lookup and its error handling
+        int saved = Math.max(found - queries, 0);
+        preloadSavedMetric.increment(saved);
+        log.debug(
+                "Preloaded {} of {} aliases and EVM addresses with {} queries, saving {} queries",
+                found,
+                aliases.size() + evmAddresses.size(),
+                queries,
+                saved);
+    }
+
+    private void collect(TransactionBody body, Map<ByteString, byte[]> aliases, Map<ByteString, byte[]> evmAddresses) {
+        switch (body.getDataCase()) {
+            case CONTRACTCALL -> collect(body.getContractCall().getContractID(), evmAddresses);
+            case CRYPTOTRANSFER -> {
+                var cryptoTransfer = body.getCryptoTransfer();
+                cryptoTransfer
+                        .getTransfers()
+                        .getAccountAmountsList()
+                        .forEach(a -> collect(a.getAccountID(), aliases, evmAddresses));
+                collect(cryptoTransfer.getTokenTransfersList(), aliases, evmAddresses);
+            }
+            case TOKENAIRDROP -> collect(body.getTokenAirdrop().getTokenTransfersList(), aliases, evmAddresses);
+            default -> {
+                // Other transactions rarely reference aliases
+            }
+        }
+    }
+
+    private void collect(
+            List<TokenTransferList> tokenTransfers,
+            Map<ByteString, byte[]> aliases,
+            Map<ByteString, byte[]> evmAddresses) {
+        for (var tokenTransfer : tokenTransfers) {
+            tokenTransfer.getTransfersList().forEach(a -> collect(a.getAccountID(), aliases, evmAddresses));
+            for (var nftTransfer : tokenTransfer.getNftTransfersList()) {
+                collect(nftTransfer.getSenderAccountID(), aliases, evmAddresses);
+                collect(nftTransfer.getReceiverAccountID(), aliases, evmAddresses);
+            }
+        }
+    }
+
+    private void collect(AccountID accountId, Map<ByteString, byte[]> aliases, Map<ByteString, byte[]> evmAddresses) {
+        if (accountId.getAccountCase() != AccountID.AccountCase.ALIAS) {
+            return;
+        }
+
+        var alias = accountId.getAlias();
+        if (alias.size() == EVM_ADDRESS_LENGTH) {
+            collect(alias, evmAddresses);
+        } else if (!aliases.containsKey(alias) && cache.get(alias) == null) {
+            aliases.put(alias, toBytes(alias));
+        }
+    }
+
+    private void collect(ContractID contractId, Map<ByteString, byte[]> evmAddresses) {
+        if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+            collect(contractId.getEvmAddress(), evmAddresses);
+        }
+    }
+
+    private void collect(ByteString evmAddress, Map<ByteString, byte[]> evmAddresses) {
+        if (evmAddresses.containsKey(evmAddress) || cache.get(evmAddress) != null) {
+            return;
+        }
+
+        var bytes = toBytes(evmAddress);
+        // Long zero addresses resolve without a query
+        if (DomainUtils.fromEvmAddress(bytes) == null) {
+            evmAddresses.put(evmAddress, bytes);
+        }
+    }
+
     @Override
     public void notify(Entity entity) {
         if (entity == null || (entity.getDeleted() != null && entity.getDeleted())) {
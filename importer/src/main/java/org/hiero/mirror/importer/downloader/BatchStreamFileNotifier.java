@@ -2,6 +2,12 @@
 
 package org.hiero.mirror.importer.downloader;
 
+import static org.hiero.mirror.importer.downloader.Downloader.PIPELINE_DEPTH_METRIC_NAME;
+import static org.hiero.mirror.importer.downloader.Downloader.PIPELINE_OCCUPANCY_METRIC_NAME;
+import static org.hiero.mirror.importer.downloader.Downloader.PIPELINE_STAGE_PARSE;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.io.Closeable;
 import java.time.Duration;
@@ -37,9 +43,12 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
     private final StreamFileSubscriber recordStreamFileSubscriber;
     private final ExecutorService executorService;
 
-    BatchStreamFileNotifier(AccountBalanceFileParser accountBalanceFileParser, RecordFileParser recordFileParser) {
-        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser);
-        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser);
+    BatchStreamFileNotifier(
+            AccountBalanceFileParser accountBalanceFileParser,
+            MeterRegistry meterRegistry,
+            RecordFileParser recordFileParser) {
+        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser, meterRegistry);
+        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser, meterRegistry);
         executorService = Executors.newFixedThreadPool(2);
         executorService.execute(balanceStreamFileSubscriber);
         executorService.execute(recordStreamFileSubscriber);
@@ -74,7 +83,7 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
         private final StreamFileParser<StreamFile<?>> streamFileParser;
 
         @SuppressWarnings("unchecked")
-        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser) {
+        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser, MeterRegistry meterRegistry) {
             this.buffer = new ArrayList<>(); // Un-synchronized since only one thread reads and writes from it
             this.files = new AtomicLong(0L);
             this.items = new AtomicLong(0L);
@@ -82,6 +91,18 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             this.properties = streamFileParser.getProperties().getBatch();
             this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
             this.streamFileParser = (StreamFileParser<StreamFile<?>>) streamFileParser;
+
+            var type = streamFileParser.getProperties().getStreamType().toString();
+            Gauge.builder(PIPELINE_DEPTH_METRIC_NAME, queue, BlockingQueue::size)
+                    .description("The number of verified stream files waiting to be persisted by the parser")
+                    .tag("stage", PIPELINE_STAGE_PARSE)
+                    .tag("type", type)
+                    .register(meterRegistry);
+            Gauge.builder(PIPELINE_OCCUPANCY_METRIC_NAME, queue, q -> (double) q.size() / properties.getQueueCapacity())
+                    .description("The ratio of stream files waiting to be persisted by the parser to the queue capacity")
+                    .tag("stage", PIPELINE_STAGE_PARSE)
+                    .tag("type", type)
+                    .register(meterRegistry);
         }
 
         @SneakyThrows
@@ -58,6 +58,9 @@ public class CommonDownloaderProperties {
 
     private String gcpProjectId;
 
+    @Min(1)
+    private int lookAhead = 1;
+
     @Min(2L)
     private long maxSize = 50L * 1024L * 1024L; // 50 MiB
 
@@ -67,6 +70,11 @@ public class CommonDownloaderProperties {
 
     private String secretKey;
 
+    @Min(1)
+    private int signatureConcurrency = 4;
+
+    private boolean signatureShortCircuit = false;
+
     @NotNull
     private List<@Valid StreamSourceProperties> sources = new ArrayList<>();
 
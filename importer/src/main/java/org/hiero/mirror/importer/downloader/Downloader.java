@@ -11,6 +11,7 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 import com.google.common.collect.TreeMultimap;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
@@ -28,9 +29,11 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hiero.mirror.common.domain.StreamFile;
 import org.hiero.mirror.common.domain.StreamItem;
 import org.hiero.mirror.common.domain.StreamType;
@@ -53,11 +56,16 @@ import org.hiero.mirror.importer.util.Utility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
 
     public static final String STREAM_CLOSE_LATENCY_METRIC_NAME = "hiero.mirror.importer.stream.close.latency";
+    public static final String PIPELINE_DEPTH_METRIC_NAME = "hiero.mirror.importer.stream.pipeline.depth";
+    public static final String PIPELINE_OCCUPANCY_METRIC_NAME = "hiero.mirror.importer.stream.pipeline.occupancy";
+    public static final String PIPELINE_STAGE_DOWNLOAD = "download";
+    static final String PIPELINE_STAGE_PARSE = "parse";
 
     private static final String HASH_TYPE_FILE = "File";
     private static final String HASH_TYPE_METADATA = "Metadata";
@@ -86,6 +94,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     protected final AtomicReference<Optional<StreamFile<I>>> lastStreamFile = new AtomicReference<>(Optional.empty());
 
     private final ConsensusNodeService consensusNodeService;
+    private final AtomicInteger lookAheadDepth = new AtomicInteger();
     private final StreamType streamType;
 
     // Metrics
@@ -141,6 +150,19 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamVerificationMetric = Timer.builder("hiero.mirror.importer.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        Gauge.builder(PIPELINE_DEPTH_METRIC_NAME, lookAheadDepth, AtomicInteger::get)
+                .description("The number of stream files downloaded and verified ahead of the hash chain verification")
+                .tag("stage", PIPELINE_STAGE_DOWNLOAD)
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
+        var common = downloaderProperties.getCommon();
+        Gauge.builder(PIPELINE_OCCUPANCY_METRIC_NAME, lookAheadDepth, d -> (double) d.get() / common.getLookAhead())
+                .description("The ratio of stream files downloaded ahead of the hash chain verification to the maximum")
+                .tag("stage", PIPELINE_STAGE_DOWNLOAD)
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
     }
 
     public abstract void download();
@@ -270,6 +292,10 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * When the look-ahead is greater than one, the node signature verification and the download and parsing of the
+     * first data file with consensus are done concurrently for the next groups while the current group is verified
+     * against the hash chain, so the network and the CPU work overlap with the hash chain verification and persistence.
      *
      * @param sigFilesMap signature files grouped by filename
      */
@@ -280,45 +306,111 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 .collect(Collectors.toSet());
         StreamFilename earliestFilename = null;
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try (var pendingFiles = pendingFiles(sigFilesMap)) {
+            for (var pendingFileIter = pendingFiles.iterator(); pendingFileIter.hasNext(); ) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                Instant startTime = Instant.now();
+                var pendingFile = pendingFileIter.next();
+                var sigFilename = pendingFile.filename();
+                var signatures = pendingFile.signatures();
 
-            if (earliestFilename == null) {
-                earliestFilename = sigFilename;
-            }
+                if (earliestFilename == null) {
+                    earliestFilename = sigFilename;
+                }
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
-                    continue;
+                var ex = pendingFile.signatureException();
+                if (ex != null) {
+                    var statusMapMessage = statusMap(signatures, nodeIds);
+                    if (pendingFileIter.hasNext()) {
+                        log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                        continue;
+                    }
+
+                    throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
-            }
+                boolean valid = verifySignatures(pendingFile, earliestFilename);
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
+                }
 
-            boolean valid = verifySignatures(signatures, earliestFilename);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()));
             }
+        } finally {
+            lookAheadDepth.set(0);
+        }
+    }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+    /**
+     * Lazily verifies the node signatures of each group of signature files. With a look-ahead greater than one, up to
+     * that many groups are verified and have their first data file with consensus downloaded and parsed in parallel,
+     * with the results returned in filename order.
+     *
+     * @param sigFilesMap signature files grouped by filename
+     * @return the pending files in filename order
+     */
+    private Stream<PendingFile<T>> pendingFiles(Multimap<StreamFilename, StreamFileSignature> sigFilesMap) {
+        int lookAhead = downloaderProperties.getCommon().getLookAhead();
+        var filenames = sigFilesMap.keySet().stream();
+
+        if (lookAhead <= 1) {
+            return filenames.map(filename -> pendingFile(filename, sigFilesMap.get(filename), false));
         }
+
+        return Flux.fromStream(filenames)
+                .flatMapSequential(
+                        filename -> Mono.fromSupplier(() -> pendingFile(filename, sigFilesMap.get(filename), true))
+                                .doOnSubscribe(s -> lookAheadDepth.incrementAndGet())
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        lookAhead,
+                        1)
+                .toStream(1)
+                .peek(p -> lookAheadDepth.decrementAndGet());
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures, StreamFilename earliestFilename) {
+    private PendingFile<T> pendingFile(
+            StreamFilename filename, Collection<StreamFileSignature> signatures, boolean download) {
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException e) {
+            return new PendingFile<>(filename, signatures, e, null, null, null);
+        }
+
+        if (!download) {
+            return new PendingFile<>(filename, signatures, null, null, null, null);
+        }
+
+        var signature = signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .findFirst()
+                .orElse(null);
+
+        if (signature == null) {
+            return new PendingFile<>(filename, signatures, null, null, null, null);
+        }
+
+        try {
+            return new PendingFile<>(filename, signatures, null, signature, download(signature), null);
+        } catch (RuntimeException e) {
+            return new PendingFile<>(filename, signatures, null, signature, null, e);
+        }
+    }
+
+    private DataFile<T> download(StreamFileSignature signature) {
+        var streamFileData = Objects.requireNonNull(
+                streamFileProvider.get(signature.getDataFilename()).block());
+        return new DataFile<>(streamFileData, streamFileReader.read(streamFileData));
+    }
+
+    private boolean verifySignatures(PendingFile<T> pendingFile, StreamFilename earliestFilename) {
         Instant endDate = importerProperties.getEndDate();
+        var signatures = pendingFile.signatures();
 
         for (var signature : signatures) {
             // Ignore signatures that didn't validate or weren't in the majority
@@ -330,10 +422,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
             try {
                 var dataFilename = signature.getDataFilename();
-                var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(dataFilename).block());
-                T streamFile = streamFileReader.read(streamFileData);
+                var dataFile = signature == pendingFile.signature() ? pendingFile.dataFile() : download(signature);
+                var streamFileData = dataFile.streamFileData();
+                T streamFile = dataFile.streamFile();
 
                 verify(streamFile, signature);
 
@@ -524,4 +615,26 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private record DataFile<T>(StreamFileData streamFileData, T streamFile) {}
+
+    /**
+     * A group of signature files that has completed node signature verification, optionally with the data file of the
+     * signature it was downloaded from ahead of time or the failure to do so.
+     */
+    private record PendingFile<T>(
+            StreamFilename filename,
+            Collection<StreamFileSignature> signatures,
+            SignatureVerificationException signatureException,
+            StreamFileSignature signature,
+            DataFile<T> downloaded,
+            RuntimeException downloadException) {
+
+        DataFile<T> dataFile() {
+            if (downloadException != null) {
+                throw downloadException;
+            }
+            return downloaded;
+        }
+    }
 }
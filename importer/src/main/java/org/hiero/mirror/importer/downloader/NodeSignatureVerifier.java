@@ -2,21 +2,60 @@
 
 package org.hiero.mirror.importer.downloader;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.security.Signature;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.importer.domain.StreamFileSignature;
 import org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStatus;
 import org.hiero.mirror.importer.exception.SignatureVerificationException;
 
 @Named
 @CustomLog
-@RequiredArgsConstructor
-public class NodeSignatureVerifier {
+public class NodeSignatureVerifier implements AutoCloseable {
 
+    static final String SKIPPED_METRIC_NAME = "hiero.mirror.importer.stream.signature.skipped";
+    static final String VERIFICATIONS_METRIC_NAME = "hiero.mirror.importer.stream.signature.verifications";
+
+    private final CommonDownloaderProperties commonDownloaderProperties;
     private final ConsensusValidator consensusValidator;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> skippedMetrics = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> verificationsMetrics = new ConcurrentHashMap<>();
+
+    public NodeSignatureVerifier(
+            CommonDownloaderProperties commonDownloaderProperties,
+            ConsensusValidator consensusValidator,
+            MeterRegistry meterRegistry) {
+        this.commonDownloaderProperties = commonDownloaderProperties;
+        this.consensusValidator = consensusValidator;
+        this.meterRegistry = meterRegistry;
+        var threadFactory = Thread.ofPlatform().name("signature-verifier-", 0).daemon().factory();
+        executor = Executors.newFixedThreadPool(commonDownloaderProperties.getSignatureConcurrency(), threadFactory);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
 
     /**
      * Verifies that the signature files satisfy the consensus requirement:
@@ -29,19 +68,123 @@ public class NodeSignatureVerifier {
      *      valid, we put the hash in its content and its file to the map, to see if at least 1/3 valid signatures have
      *      the same hash</li>
      * </ol>
+     * <p>
+     * Signatures are verified concurrently, up to the configured signature concurrency. If short circuiting is enabled,
+     * the remaining signatures are skipped and left unverified once the verified signatures of a file hash reach the
+     * stake required for consensus.
      *
      * @param signatures a list of signature files which have the same filename
      * @throws SignatureVerificationException
      */
     public void verify(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        if (signatures.isEmpty()) {
+            consensusValidator.validate(signatures);
+            return;
+        }
+
+        var stakeTracker = commonDownloaderProperties.isSignatureShortCircuit() ? new StakeTracker(signatures) : null;
+        int concurrency = Math.min(commonDownloaderProperties.getSignatureConcurrency(), signatures.size());
+        int verifications = concurrency > 1
+                ? verifyConcurrently(signatures, concurrency, stakeTracker)
+                : verifySequentially(signatures, stakeTracker);
+
+        var streamType = String.valueOf(signatures.iterator().next().getFilename().getStreamType());
+        getVerificationsMetric(streamType).record(verifications);
+        int skipped = signatures.size() - verifications;
+        if (skipped > 0) {
+            log.debug("Skipped verifying {} signatures after reaching consensus", skipped);
+            getSkippedMetric(streamType).increment(skipped);
+        }
+
+        consensusValidator.validate(signatures);
+    }
+
+    private int verifySequentially(Collection<StreamFileSignature> signatures, StakeTracker stakeTracker) {
+        int verifications = 0;
 
         for (StreamFileSignature streamFileSignature : signatures) {
+            ++verifications;
             if (verifySignature(streamFileSignature)) {
                 streamFileSignature.setStatus(SignatureStatus.VERIFIED);
+                if (stakeTracker != null && stakeTracker.add(streamFileSignature)) {
+                    break;
+                }
             }
         }
 
-        consensusValidator.validate(signatures);
+        return verifications;
+    }
+
+    /**
+     * Verifies signatures on the executor, keeping at most concurrency verifications in flight. Statuses are only
+     * updated on the calling thread so verifications still running after a short circuit can't change them.
+     */
+    private int verifyConcurrently(
+            Collection<StreamFileSignature> signatures, int concurrency, StakeTracker stakeTracker) {
+        var completionService = new ExecutorCompletionService<Boolean>(executor);
+        var pending = new IdentityHashMap<Future<Boolean>, StreamFileSignature>();
+        var iterator = signatures.iterator();
+        int verifications = 0;
+
+        try {
+            while (pending.size() < concurrency && iterator.hasNext()) {
+                var signature = iterator.next();
+                pending.put(completionService.submit(() -> verifySignature(signature)), signature);
+            }
+
+            while (!pending.isEmpty()) {
+                var future = completionService.take();
+                var signature = pending.remove(future);
+                ++verifications;
+
+                if (isVerified(future, signature)) {
+                    signature.setStatus(SignatureStatus.VERIFIED);
+                    if (stakeTracker != null && stakeTracker.add(signature)) {
+                        break;
+                    }
+                }
+
+                if (iterator.hasNext()) {
+                    var next = iterator.next();
+                    pending.put(completionService.submit(() -> verifySignature(next)), next);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SignatureVerificationException("Interrupted verifying signatures");
+        } finally {
+            for (var future : new ArrayList<>(pending.keySet())) {
+                if (!future.cancel(false)) {
+                    ++verifications;
+                }
+            }
+        }
+
+        return verifications;
+    }
+
+    private boolean isVerified(Future<Boolean> future, StreamFileSignature signature) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("Failed to verify signature: {}", signature, e.getCause());
+            return false;
+        }
+    }
+
+    private Counter getSkippedMetric(String streamType) {
+        return skippedMetrics.computeIfAbsent(streamType, t -> Counter.builder(SKIPPED_METRIC_NAME)
+                .description("The number of node signatures skipped since consensus was already reached")
+                .tag("type", t)
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary getVerificationsMetric(String streamType) {
+        return verificationsMetrics.computeIfAbsent(
+                streamType, t -> DistributionSummary.builder(VERIFICATIONS_METRIC_NAME)
+                        .description("The number of node signatures verified per stream file")
+                        .tag("type", t)
+                        .register(meterRegistry));
     }
 
     /**
@@ -87,4 +230,43 @@ public class NodeSignatureVerifier {
         }
         return false;
     }
+
+    /**
+     * Tracks the verified stake of each file hash, counting each node once, the same way as the consensus validator.
+     */
+    private class StakeTracker {
+
+        private final Map<String, Set<Long>> nodeIds = new HashMap<>();
+        private final Map<String, Long> stakes = new HashMap<>();
+        private final BigDecimal stakeRequired;
+
+        StakeTracker(Collection<StreamFileSignature> signatures) {
+            long totalStake = signatures.iterator().next().getNode().getTotalStake();
+            // Let the consensus validator report an invalid total stake
+            stakeRequired = totalStake == 0
+                    ? null
+                    : BigDecimal.valueOf(totalStake)
+                            .multiply(commonDownloaderProperties.getConsensusRatio())
+                            .setScale(0, RoundingMode.CEILING);
+        }
+
+        /**
+         * @return true if the file hash of the verified signature has reached the stake required for consensus
+         */
+        boolean add(StreamFileSignature signature) {
+            if (stakeRequired == null) {
+                return false;
+            }
+
+            var fileHash = signature.getFileHashAsHex();
+            var node = signature.getNode();
+            long stake = stakes.getOrDefault(fileHash, 0L);
+            if (nodeIds.computeIfAbsent(fileHash, k -> new HashSet<>()).add(node.getNodeId())) {
+                stake += node.getStake();
+                stakes.put(fileHash, stake);
+            }
+
+            return BigDecimal.valueOf(stake).compareTo(stakeRequired) >= 0;
+        }
+    }
 }
@@ -2,15 +2,21 @@
 
 package org.hiero.mirror.importer.downloader.block;
 
+import static org.hiero.mirror.importer.downloader.Downloader.PIPELINE_DEPTH_METRIC_NAME;
+import static org.hiero.mirror.importer.downloader.Downloader.PIPELINE_OCCUPANCY_METRIC_NAME;
+import static org.hiero.mirror.importer.downloader.Downloader.PIPELINE_STAGE_DOWNLOAD;
 import static org.hiero.mirror.importer.downloader.block.scheduler.Scheduler.EARLIEST_AVAILABLE_BLOCK_NUMBER;
 
 import com.hedera.hapi.block.stream.protoc.Block;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.hiero.mirror.common.domain.StreamType;
@@ -19,11 +25,16 @@ import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.downloader.CommonDownloaderProperties;
 import org.hiero.mirror.importer.downloader.block.cutover.CutoverService;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
+import org.hiero.mirror.importer.downloader.provider.TransientProviderException;
 import org.hiero.mirror.importer.exception.BlockStreamException;
 import org.hiero.mirror.importer.reader.block.BlockStream;
 import org.hiero.mirror.importer.reader.block.BlockStreamReader;
 import org.hiero.mirror.importer.util.Utility;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Named
 @NullMarked
@@ -36,6 +47,8 @@ final class BlockFileSource extends AbstractBlockSource {
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
     private final String discoveredNetwork = discoverNetwork();
 
+    private final AtomicInteger lookAheadDepth = new AtomicInteger(0);
+
     // metrics
     private final Timer cloudStorageLatencyMetric;
 
@@ -55,6 +68,21 @@ final class BlockFileSource extends AbstractBlockSource {
                         + "and the time at which the file was created in the cloud storage provider")
                 .tag("type", StreamType.BLOCK.toString())
                 .register(meterRegistry);
+
+        Gauge.builder(PIPELINE_DEPTH_METRIC_NAME, lookAheadDepth, AtomicInteger::get)
+                .description("The number of stream files downloaded and verified ahead of the hash chain verification")
+                .tag("stage", PIPELINE_STAGE_DOWNLOAD)
+                .tag("type", StreamType.BLOCK.toString())
+                .register(meterRegistry);
+
+        Gauge.builder(
+                        PIPELINE_OCCUPANCY_METRIC_NAME,
+                        lookAheadDepth,
+                        d -> (double) d.get() / commonDownloaderProperties.getLookAhead())
+                .description("The ratio of stream files downloaded ahead of the hash chain verification to the maximum")
+                .tag("stage", PIPELINE_STAGE_DOWNLOAD)
+                .tag("type", StreamType.BLOCK.toString())
+                .register(meterRegistry);
     }
 
     @Override
@@ -64,9 +92,12 @@ final class BlockFileSource extends AbstractBlockSource {
                     this.getClass().getSimpleName() + " doesn't support earliest available block number");
         }
 
-        final var network = getDiscoveredNetwork();
-        final var path = "%s/%s".formatted(network, StreamType.BLOCK.getPath());
-        final var streamFilename = StreamFilename.from(path, blockNumber);
+        if (commonDownloaderProperties.getLookAhead() > 1) {
+            getWithLookAhead(blockNumber, endBlockNumber);
+            return;
+        }
+
+        final var streamFilename = StreamFilename.from(getPath(), blockNumber);
 
         try {
             final var blockFileData = streamFileProvider
@@ -74,24 +105,102 @@ final class BlockFileSource extends AbstractBlockSource {
                     .blockOptional(commonDownloaderProperties.getTimeout())
                     .orElseThrow();
             log.debug("Downloaded block file {}", streamFilename.getFilename());
+            onBlockFileData(blockFileData, getBlockStream(blockFileData));
+        } catch (final Throwable t) {
+            throw new BlockStreamException("Failed to download block file " + streamFilename.getFilename(), t);
+        }
+    }
+
+    /**
+     * Downloads and parses up to look-ahead block files concurrently while verifying them strictly in block number
+     * order. The window slides forward as each block is verified, so at most look-ahead block files are held in memory.
+     * Streaming stops without error at the first block file that doesn't exist yet, unless it's the first one. Cloud
+     * storage providers report a missing block file as a transient error while the local provider completes empty.
+     */
+    private void getWithLookAhead(final long blockNumber, final @Nullable Long endBlockNumber) {
+        final int lookAhead = commonDownloaderProperties.getLookAhead();
+        final var path = getPath();
+        final var prefetchedBlocks = Flux.<Long, Long>generate(() -> blockNumber, (next, sink) -> {
+                    sink.next(next);
+                    return next + 1;
+                })
+                .takeWhile(next -> shouldGetBlock(next, endBlockNumber))
+                .flatMapSequential(
+                        next -> prefetch(StreamFilename.from(path, next))
+                                .doOnSubscribe(s -> lookAheadDepth.incrementAndGet()),
+                        lookAhead,
+                        1);
+
+        try (final var stream = prefetchedBlocks.toStream(1)) {
+            final var iterator = stream.iterator();
+            boolean first = true;
+            while (iterator.hasNext()) {
+                final var prefetched = iterator.next();
+                lookAheadDepth.decrementAndGet();
+                final var filename = prefetched.streamFilename().getFilename();
+
+                if (prefetched.error() != null && (first || !isNotFound(prefetched.error()))) {
+                    throw new BlockStreamException("Failed to download block file " + filename, prefetched.error());
+                } else if (prefetched.blockFileData() == null || prefetched.blockStream() == null) {
+                    if (first) {
+                        throw new BlockStreamException(
+                                "Failed to download block file " + filename, new NoSuchElementException());
+                    }
+
+                    return;
+                }
+
+                try {
+                    onBlockFileData(prefetched.blockFileData(), prefetched.blockStream());
+                } catch (final Throwable t) {
+                    throw new BlockStreamException("Failed to download block file " + filename, t);
+                }
+
+                first = false;
+            }
+        } finally {
+            lookAheadDepth.set(0);
+        }
+    }
 
-            final var blockStream = getBlockStream(blockFileData);
-            final var blockFile = onBlockStream(blockStream, DEFAULT_NODE_ENDPOINT);
+    private Mono<PrefetchedBlock> prefetch(final StreamFilename streamFilename) {
+        return streamFileProvider
+                .get(streamFilename)
+                .timeout(commonDownloaderProperties.getTimeout())
+                .publishOn(Schedulers.parallel())
+                .map(blockFileData -> {
+                    log.debug("Downloaded block file {}", streamFilename.getFilename());
+                    try {
+                        return new PrefetchedBlock(streamFilename, blockFileData, getBlockStream(blockFileData), null);
+                    } catch (final IOException e) {
+                        return new PrefetchedBlock(streamFilename, blockFileData, null, e);
+                    }
+                })
+                .defaultIfEmpty(new PrefetchedBlock(streamFilename, null, null, null))
+                .onErrorResume(e -> Mono.just(new PrefetchedBlock(streamFilename, null, null, e)));
+    }
 
-            final var cloudStorageTime = blockFileData.getLastModified();
-            final var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
-            cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
+    private static boolean isNotFound(final Throwable error) {
+        return error instanceof TransientProviderException || error instanceof NoSuchElementException;
+    }
 
-            if (properties.isWriteFiles()) {
-                final var streamPath =
-                        commonDownloaderProperties.getImporterProperties().getStreamPath();
-                Utility.archiveFile(blockFileData.getFilePath(), blockStream.bytes(), streamPath);
-            }
-        } catch (final Throwable t) {
-            throw new BlockStreamException("Failed to download block file " + streamFilename.getFilename(), t);
+    private void onBlockFileData(final StreamFileData blockFileData, final BlockStream blockStream) {
+        final var blockFile = onBlockStream(blockStream, DEFAULT_NODE_ENDPOINT);
+
+        final var cloudStorageTime = blockFileData.getLastModified();
+        final var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
+        cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
+
+        if (properties.isWriteFiles()) {
+            final var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
+            Utility.archiveFile(blockFileData.getFilePath(), blockStream.bytes(), streamPath);
         }
     }
 
+    private String getPath() {
+        return "%s/%s".formatted(getDiscoveredNetwork(), StreamType.BLOCK.getPath());
+    }
+
     private String discoverNetwork() {
         final var network = commonDownloaderProperties.getImporterProperties().getNetwork();
         return streamFileProvider
@@ -115,4 +224,10 @@ final class BlockFileSource extends AbstractBlockSource {
                     bytes.length);
         }
     }
+
+    private record PrefetchedBlock(
+            StreamFilename streamFilename,
+            @Nullable StreamFileData blockFileData,
+            @Nullable BlockStream blockStream,
+            @Nullable Throwable error) {}
 }
@@ -157,6 +157,34 @@ public final class BlockNode implements AutoCloseable, Comparable<BlockNode> {
         }
     }
 
+    /**
+     * Gets the end of the block node's available block range that contains the requested block.
+     *
+     * @param blockNumber The block number to look for
+     * @return The last block number the node can serve in order from the requested block, or empty when it can't serve
+     * the requested block
+     */
+    public Optional<Long> getAvailableRangeEnd(final long blockNumber) {
+        try {
+            final var blockNodeService = BlockNodeServiceGrpc.newBlockingStub(statusChannel)
+                    .withDeadlineAfter(streamProperties.getResponseTimeout());
+            final var response = blockNodeService.serverStatusDetail(SERVER_STATUS_REQUEST);
+
+            for (final var range : response.getAvailableRangesList()) {
+                final long start = range.getRangeStart();
+                final long end = range.getRangeEnd();
+                if (start >= 0 && blockNumber >= start && blockNumber <= end) {
+                    return Optional.of(end);
+                }
+            }
+
+            return Optional.empty();
+        } catch (final Exception ex) {
+            log.error("Failed to get server status detail for {}", this, ex);
+            return Optional.empty();
+        }
+    }
+
     public void streamBlocks(
             final long blockNumber,
             @Nullable final Long endBlockNumber,
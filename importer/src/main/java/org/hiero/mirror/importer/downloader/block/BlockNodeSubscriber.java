@@ -4,45 +4,90 @@ package org.hiero.mirror.importer.downloader.block;
 
 import static org.hiero.mirror.importer.downloader.block.scheduler.Scheduler.EARLIEST_AVAILABLE_BLOCK_NUMBER;
 
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.importer.downloader.CommonDownloaderProperties;
 import org.hiero.mirror.importer.downloader.block.cutover.CutoverService;
+import org.hiero.mirror.importer.downloader.block.scheduler.ScheduledBlockNode;
 import org.hiero.mirror.importer.downloader.block.scheduler.Scheduler;
+import org.hiero.mirror.importer.exception.BlockStreamException;
 import org.hiero.mirror.importer.reader.block.BlockStream;
 import org.hiero.mirror.importer.reader.block.BlockStreamReader;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 @Named
 @NullMarked
 final class BlockNodeSubscriber extends AbstractBlockSource implements AutoCloseable {
 
+    static final String HEDGE_WON_METRIC_NAME = "hiero.mirror.importer.stream.hedge.won";
+    static final String STRIPE_THROUGHPUT_METRIC_NAME = "hiero.mirror.importer.stream.stripe.throughput";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Counter> hedgeWonMetrics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
     private final Scheduler scheduler;
+    private final Map<String, DistributionSummary> stripeThroughputMetrics = new ConcurrentHashMap<>();
 
     BlockNodeSubscriber(
             final BlockStreamReader blockStreamReader,
             final BlockStreamVerifier blockStreamVerifier,
             final CommonDownloaderProperties commonDownloaderProperties,
             final CutoverService cutoverService,
+            final MeterRegistry meterRegistry,
             final BlockProperties properties,
             final Supplier<Scheduler> schedulerSupplier) {
         super(blockStreamReader, blockStreamVerifier, commonDownloaderProperties, cutoverService, properties);
+        this.meterRegistry = meterRegistry;
         scheduler = schedulerSupplier.get();
     }
 
     @Override
     public void close() {
         scheduler.close();
+        executor.shutdownNow();
     }
 
     @Override
     protected void doGet(final long blockNumber, final Long endBlockNumber) {
-        final var scheduled = scheduler.getNode(blockNumber);
+        final var streamProperties = properties.getStream();
+        final int hedgedStreams = streamProperties.getHedgedStreams();
+        final int count = Math.max(hedgedStreams, streamProperties.getStripedStreams());
+        final var scheduledNodes =
+                count > 1 ? scheduler.getNodes(blockNumber, count) : List.of(scheduler.getNode(blockNumber));
+        final var scheduled = scheduledNodes.getFirst();
         if (blockNumber == EARLIEST_AVAILABLE_BLOCK_NUMBER
                 && !shouldGetBlock(scheduled.nextBlockNumber(), endBlockNumber)) {
             return;
         }
 
+        if (scheduledNodes.size() > 1 && streamStriped(scheduledNodes, endBlockNumber)) {
+            return;
+        }
+
+        if (hedgedStreams > 1 && scheduledNodes.size() > 1) {
+            new HedgedStream(scheduledNodes.subList(0, Math.min(hedgedStreams, scheduledNodes.size())))
+                    .run(endBlockNumber);
+            return;
+        }
+
         final var node = scheduled.blockNode();
         log.info("Start streaming block {} from {}", scheduled.nextBlockNumber(), node.getSubscribeStreamName());
         node.streamBlocks(
@@ -56,4 +101,276 @@ final class BlockNodeSubscriber extends AbstractBlockSource implements AutoClose
         final var blockFile = onBlockStream(blockStream, blockNode);
         return scheduler.shouldReschedule(blockFile, blockStream);
     }
+
+    /**
+     * Stripes the next blocks across the scheduled block nodes if the importer is far enough behind the last block all
+     * of them can serve. Near the live tip, there's not enough to stripe and the caller falls back to a single stream.
+     *
+     * @return true if the blocks were streamed, false if they should be streamed from a single block node instead
+     */
+    private boolean streamStriped(final List<ScheduledBlockNode> scheduledNodes, final @Nullable Long endBlockNumber) {
+        final var streamProperties = properties.getStream();
+        final int stripedStreams = Math.min(streamProperties.getStripedStreams(), scheduledNodes.size());
+        if (stripedStreams <= 1) {
+            return false;
+        }
+
+        final long startBlockNumber = scheduledNodes.getFirst().nextBlockNumber();
+        final var nodes = new ArrayList<BlockNode>(stripedStreams);
+        long tipBlockNumber = Long.MAX_VALUE;
+        for (final var scheduled : scheduledNodes.subList(0, stripedStreams)) {
+            final var rangeEnd = scheduled.blockNode().getAvailableRangeEnd(startBlockNumber);
+            if (rangeEnd.isPresent()) {
+                nodes.add(scheduled.blockNode());
+                tipBlockNumber = Math.min(tipBlockNumber, rangeEnd.get());
+            }
+        }
+
+        long lastBlockNumber = tipBlockNumber - streamProperties.getStripeTipDistance();
+        if (endBlockNumber != null) {
+            lastBlockNumber = Math.min(lastBlockNumber, endBlockNumber);
+        }
+
+        if (nodes.size() <= 1 || lastBlockNumber - startBlockNumber + 1 < streamProperties.getStripeSize()) {
+            log.debug(
+                    "Not striping from block {} with the last block available from all nodes at {}",
+                    startBlockNumber,
+                    tipBlockNumber);
+            return false;
+        }
+
+        new StripedStream(nodes, startBlockNumber, lastBlockNumber).run();
+        return true;
+    }
+
+    private Counter getHedgeWonMetric(final String blockNode) {
+        return hedgeWonMetrics.computeIfAbsent(blockNode, name -> Counter.builder(HEDGE_WON_METRIC_NAME)
+                .description("The number of blocks a block node delivered first among the hedged block node streams")
+                .tag("type", StreamType.BLOCK.toString())
+                .tag("block_node", name)
+                .register(meterRegistry));
+    }
+
+    private DistributionSummary getStripeThroughputMetric(final String blockNode) {
+        return stripeThroughputMetrics.computeIfAbsent(
+                blockNode, name -> DistributionSummary.builder(STRIPE_THROUGHPUT_METRIC_NAME)
+                        .description("The number of blocks per second a block node streamed a striped block range at")
+                        .baseUnit("blocks/s")
+                        .tag("type", StreamType.BLOCK.toString())
+                        .tag("block_node", name)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Streams the same blocks from multiple block nodes at once and processes whichever copy of each block fully
+     * arrives first, so a stalled node doesn't delay ingestion until its stream times out. Later copies of an already
+     * processed block are dropped. A failed stream leaves the others running, and the session ends once any stream
+     * completes or all of them fail.
+     */
+    private final class HedgedStream {
+
+        private final String primary;
+        private final List<ScheduledBlockNode> scheduledNodes;
+        private long nextBlockNumber;
+        private volatile boolean stopped;
+
+        HedgedStream(final List<ScheduledBlockNode> scheduledNodes) {
+            this.scheduledNodes = scheduledNodes;
+            this.primary = scheduledNodes.getFirst().blockNode().getSubscribeStreamName();
+            this.nextBlockNumber = scheduledNodes.getFirst().nextBlockNumber();
+        }
+
+        void run(final @Nullable Long endBlockNumber) {
+            final var completionService = new ExecutorCompletionService<Void>(executor);
+            final long startBlockNumber = nextBlockNumber;
+            for (final var scheduled : scheduledNodes) {
+                final var node = scheduled.blockNode();
+                log.info("Start streaming block {} from {}", startBlockNumber, node.getSubscribeStreamName());
+                completionService.submit(
+                        () -> {
+                            node.streamBlocks(
+                                    startBlockNumber,
+                                    endBlockNumber,
+                                    this::onBlockStream,
+                                    commonDownloaderProperties.getTimeout());
+                            return null;
+                        });
+            }
+
+            try {
+                RuntimeException failure = null;
+                for (int i = 0; i < scheduledNodes.size(); i++) {
+                    try {
+                        completionService.take().get();
+                        return;
+                    } catch (final ExecutionException ex) {
+                        log.warn("Hedged block stream failed: {}", ex.getCause().getMessage());
+                        failure = ex.getCause() instanceof RuntimeException rex
+                                ? rex
+                                : new BlockStreamException(ex.getCause());
+                    }
+                }
+
+                if (failure != null) {
+                    throw failure;
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new BlockStreamException(ex);
+            } finally {
+                // The remaining streams stop when they next deliver a block or time out
+                stopped = true;
+            }
+        }
+
+        private synchronized boolean onBlockStream(final BlockStream blockStream, final String blockNode) {
+            if (stopped) {
+                return true;
+            }
+
+            final long blockNumber =
+                    blockStream.blockItems().getFirst().getBlockHeader().getNumber();
+            if (blockNumber < nextBlockNumber) {
+                log.debug("Dropping duplicate block {} from {}", blockNumber, blockNode);
+                return false;
+            }
+
+            final var blockFile = BlockNodeSubscriber.this.onBlockStream(blockStream, blockNode);
+            nextBlockNumber = blockNumber + 1;
+            getHedgeWonMetric(blockNode).increment();
+
+            // Latency based rescheduling only tracks the primary node
+            if (blockNode.equals(primary) && scheduler.shouldReschedule(blockFile, blockStream)) {
+                stopped = true;
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Streams disjoint ranges of blocks from multiple block nodes at once to catch up faster than a single stream
+     * allows. Each node repeatedly claims the next unassigned range, so faster nodes end up streaming more of them, and
+     * checks that its range arrived complete and in order. The ranges are then verified and processed strictly in block
+     * number order on the calling thread. At most two ranges per node are held ahead of processing, and the first range
+     * that fails ends the session once the ranges before it have been processed.
+     */
+    private final class StripedStream {
+
+        private final AtomicInteger nextStripe = new AtomicInteger();
+        private final List<BlockNode> nodes;
+        private final List<Stripe> stripes = new ArrayList<>();
+        private final Semaphore window;
+        private volatile boolean stopped;
+
+        StripedStream(final List<BlockNode> nodes, final long startBlockNumber, final long lastBlockNumber) {
+            this.nodes = nodes;
+            this.window = new Semaphore(nodes.size() * 2);
+
+            final int stripeSize = properties.getStream().getStripeSize();
+            for (long from = startBlockNumber; from <= lastBlockNumber; from += stripeSize) {
+                stripes.add(new Stripe(from, Math.min(from + stripeSize - 1, lastBlockNumber)));
+            }
+        }
+
+        void run() {
+            log.info(
+                    "Start striped streaming of blocks {} to {} from {}",
+                    stripes.getFirst().from(),
+                    stripes.getLast().to(),
+                    nodes);
+            for (final var node : nodes) {
+                executor.execute(() -> streamStripes(node));
+            }
+
+            try {
+                for (final var stripe : stripes) {
+                    final var result = stripe.result().get();
+                    for (final var blockStream : result.blockStreams()) {
+                        onBlockStream(blockStream, result.blockNode());
+                    }
+
+                    window.release();
+                }
+            } catch (final ExecutionException ex) {
+                log.warn("Striped block stream failed: {}", ex.getCause().getMessage());
+                throw ex.getCause() instanceof RuntimeException rex ? rex : new BlockStreamException(ex.getCause());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new BlockStreamException(ex);
+            } finally {
+                // The remaining streams stop when they next deliver a block, wait for the window, or time out
+                stopped = true;
+                window.release(nodes.size());
+            }
+        }
+
+        private void streamStripes(final BlockNode node) {
+            try {
+                while (!stopped) {
+                    window.acquire();
+                    final int index = nextStripe.getAndIncrement();
+                    if (stopped || index >= stripes.size()) {
+                        return;
+                    }
+
+                    final var stripe = stripes.get(index);
+                    try {
+                        stripe.result().complete(streamStripe(node, stripe));
+                    } catch (final Exception ex) {
+                        // Ranges are claimed in order, so the caller reaches this failure before any unclaimed range
+                        stripe.result().completeExceptionally(ex);
+                        return;
+                    }
+                }
+            } catch (final InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private StripeResult streamStripe(final BlockNode node, final Stripe stripe) {
+            final var blockStreams = new ArrayList<BlockStream>(stripe.size());
+            final var stopwatch = Stopwatch.createStarted();
+            node.streamBlocks(
+                    stripe.from(),
+                    stripe.to(),
+                    (blockStream, blockNode) -> {
+                        final long expected = stripe.from() + blockStreams.size();
+                        final long actual =
+                                blockStream.blockItems().getFirst().getBlockHeader().getNumber();
+                        if (actual != expected) {
+                            throw new BlockStreamException("Expected block %d but received block %d from %s"
+                                    .formatted(expected, actual, blockNode));
+                        }
+
+                        blockStreams.add(blockStream);
+                        return stopped;
+                    },
+                    commonDownloaderProperties.getTimeout());
+
+            final var blockNode = node.getSubscribeStreamName();
+            if (blockStreams.size() != stripe.size()) {
+                throw new BlockStreamException("Received %d of blocks %d to %d from %s"
+                        .formatted(blockStreams.size(), stripe.from(), stripe.to(), blockNode));
+            }
+
+            final long elapsed = Math.max(stopwatch.elapsed(TimeUnit.MICROSECONDS), 1L);
+            getStripeThroughputMetric(blockNode).record(blockStreams.size() * 1_000_000.0 / elapsed);
+            return new StripeResult(blockNode, blockStreams);
+        }
+    }
+
+    private record Stripe(long from, long to, CompletableFuture<StripeResult> result) {
+
+        Stripe(final long from, final long to) {
+            this(from, to, new CompletableFuture<>());
+        }
+
+        int size() {
+            return (int) (to - from + 1);
+        }
+    }
+
+    private record StripeResult(String blockNode, List<BlockStream> blockStreams) {}
 }
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.downloader.block;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
@@ -26,6 +27,10 @@ public final class StreamProperties {
 
     private boolean keepAliveWithoutCalls = true;
 
+    @Max(5)
+    @Min(1)
+    private int hedgedStreams = 1;
+
     @Min(1000)
     private int maxBlockItems = 800_000;
 
@@ -54,4 +59,14 @@ public final class StreamProperties {
     @DurationMin(seconds = 1)
     @NotNull
     private Duration shutdownTimeout = Duration.ofSeconds(5);
+
+    @Min(1)
+    private int stripeSize = 100;
+
+    @Min(0)
+    private long stripeTipDistance = 1000;
+
+    @Max(5)
+    @Min(1)
+    private int stripedStreams = 1;
 }
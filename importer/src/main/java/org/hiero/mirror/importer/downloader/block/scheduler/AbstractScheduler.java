@@ -106,6 +106,29 @@ abstract class AbstractScheduler implements Scheduler {
         throw new NoBlockNodeAvailableException(blockNumber);
     }
 
+    @Override
+    public List<ScheduledBlockNode> getNodes(final long blockNumber, final int count) {
+        final var primary = getNode(blockNumber);
+        final var scheduled = new ArrayList<ScheduledBlockNode>(count);
+        scheduled.add(primary);
+
+        final long nextBlockNumber = primary.nextBlockNumber();
+        final var iter = getOrderedNodes();
+        while (iter.hasNext() && scheduled.size() < count) {
+            final var node = iter.next();
+            if (node == primary.blockNode() || !node.tryReadmit(false).isActive()) {
+                continue;
+            }
+
+            final var choice = hasBlock(nextBlockNumber, node);
+            if (choice != null) {
+                scheduled.add(choice);
+            }
+        }
+
+        return Collections.unmodifiableList(scheduled);
+    }
+
     protected abstract Iterator<BlockNode> getOrderedNodes();
 
     protected abstract void setNodes(final List<BlockNode> blockNodes);
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.downloader.block.scheduler;
 
+import java.util.List;
 import org.hiero.mirror.common.domain.transaction.BlockFile;
 import org.hiero.mirror.importer.reader.block.BlockStream;
 
@@ -19,6 +20,18 @@ public interface Scheduler extends AutoCloseable {
      */
     ScheduledBlockNode getNode(long blockNumber);
 
+    /**
+     * Selects up to count block nodes to concurrently stream the same blocks from. The first is the node that
+     * {@link #getNode(long)} selects and the rest are other active nodes that can serve the same next block number.
+     *
+     * @param blockNumber The block number of the first block to stream. Set to -1 to start from the earliest block
+     * @param count       The max number of block nodes to select
+     * @return The selected block nodes, all with the same next block number
+     */
+    default List<ScheduledBlockNode> getNodes(long blockNumber, int count) {
+        return List.of(getNode(blockNumber));
+    }
+
     /**
      * Checks if block node rescheduling is needed given a processed {@link BlockFile} and the {@link BlockStream}
      *
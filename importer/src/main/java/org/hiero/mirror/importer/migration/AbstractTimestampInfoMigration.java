@@ -5,6 +5,7 @@ package org.hiero.mirror.importer.migration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.springframework.beans.factory.ObjectProvider;
@@ -38,11 +39,16 @@ abstract class AbstractTimestampInfoMigration extends TimeSensitiveBalanceMigrat
 
     protected AbstractTimestampInfoMigration(
             ObjectProvider<AccountBalanceFileRepository> accountBalanceFileRepositoryProvider,
+            ObjectProvider<EntityStateCache> entityStateCacheProvider,
             Map<String, MigrationProperties> migrationPropertiesMap,
             ObjectProvider<NamedParameterJdbcOperations> jdbcOperationsProvider,
             ObjectProvider<RecordFileRepository> recordFileRepositoryProvider,
             ObjectProvider<TransactionTemplate> transactionTemplateProvider) {
-        super(migrationPropertiesMap, accountBalanceFileRepositoryProvider, recordFileRepositoryProvider);
+        super(
+                migrationPropertiesMap,
+                accountBalanceFileRepositoryProvider,
+                entityStateCacheProvider,
+                recordFileRepositoryProvider);
         this.jdbcOperationsProvider = jdbcOperationsProvider;
         this.transactionTemplateProvider = transactionTemplateProvider;
     }
@@ -7,6 +7,7 @@ import jakarta.inject.Named;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.hiero.mirror.importer.ImporterProperties;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.springframework.beans.factory.ObjectProvider;
@@ -53,6 +54,7 @@ final class InitializeEntityBalanceMigration extends AbstractTimestampInfoMigrat
     InitializeEntityBalanceMigration(
             ObjectProvider<AccountBalanceFileRepository> accountBalanceFileRepositoryProvider,
             BlockStreamResolver blockStreamResolver,
+            ObjectProvider<EntityStateCache> entityStateCacheProvider,
             Environment environment,
             ImporterProperties importerProperties,
             ObjectProvider<NamedParameterJdbcOperations> jdbcOperationsProvider,
@@ -60,6 +62,7 @@ final class InitializeEntityBalanceMigration extends AbstractTimestampInfoMigrat
             ObjectProvider<TransactionTemplate> transactionTemplateProvider) {
         super(
                 accountBalanceFileRepositoryProvider,
+                entityStateCacheProvider,
                 importerProperties.getMigration(),
                 jdbcOperationsProvider,
                 recordFileRepositoryProvider,
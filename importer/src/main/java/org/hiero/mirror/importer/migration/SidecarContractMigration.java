@@ -10,8 +10,10 @@ import java.util.HashSet;
 import java.util.List;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.repository.EntityHistoryRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -31,6 +33,7 @@ public class SidecarContractMigration {
 
     private final EntityHistoryRepository entityHistoryRepository;
     private final EntityRepository entityRepository;
+    private final EntityStateCache entityStateCache;
     private final JdbcOperations jdbcOperations;
 
     public void migrate(List<ContractBytecode> contractBytecodes) {
@@ -66,6 +69,7 @@ public class SidecarContractMigration {
         if (!contractIds.isEmpty()) {
             entityRepository.updateContractType(contractIds);
             entityHistoryRepository.updateContractType(contractIds);
+            entityStateCache.invalidate(Entity.class, contractIds);
             contractIds.clear();
         }
     }
@@ -9,6 +9,7 @@ import org.hiero.mirror.common.domain.balance.AccountBalanceFile;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.exception.ImporterException;
 import org.hiero.mirror.importer.parser.balance.BalanceStreamFileListener;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.springframework.beans.factory.ObjectProvider;
@@ -21,15 +22,18 @@ abstract class TimeSensitiveBalanceMigration extends RepeatableMigration
     private static final long EXECUTED = -1L;
     private static final long NO_BALANCE_FILE = 0L;
     private final ObjectProvider<AccountBalanceFileRepository> accountBalanceFileRepositoryProvider;
+    private final ObjectProvider<EntityStateCache> entityStateCacheProvider;
     private final ObjectProvider<RecordFileRepository> recordFileRepositoryProvider;
     private final AtomicLong firstConsensusTimestamp = new AtomicLong(NO_BALANCE_FILE);
 
     protected TimeSensitiveBalanceMigration(
             Map<String, MigrationProperties> migrationPropertiesMap,
             ObjectProvider<AccountBalanceFileRepository> accountBalanceFileRepositoryProvider,
+            ObjectProvider<EntityStateCache> entityStateCacheProvider,
             ObjectProvider<RecordFileRepository> recordFileRepositoryProvider) {
         super(migrationPropertiesMap);
         this.accountBalanceFileRepositoryProvider = accountBalanceFileRepositoryProvider;
+        this.entityStateCacheProvider = entityStateCacheProvider;
         this.recordFileRepositoryProvider = recordFileRepositoryProvider;
     }
 
@@ -65,6 +69,8 @@ abstract class TimeSensitiveBalanceMigration extends RepeatableMigration
                     .filter(timestamp -> timestamp >= firstConsensusTimestamp.get())
                     .isPresent()) {
                 TransactionSynchronizationManager.registerSynchronization(this);
+                // The balances are recomputed while record files are parsed, so the cached state becomes stale
+                entityStateCacheProvider.getObject().invalidateAll();
                 doMigrate();
             }
         } catch (IOException e) {
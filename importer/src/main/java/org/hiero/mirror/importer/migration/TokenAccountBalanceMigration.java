@@ -6,6 +6,7 @@ import com.google.common.base.Stopwatch;
 import jakarta.inject.Named;
 import org.flywaydb.core.api.MigrationVersion;
 import org.hiero.mirror.importer.ImporterProperties;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.springframework.beans.factory.ObjectProvider;
@@ -49,12 +50,14 @@ public class TokenAccountBalanceMigration extends AbstractTimestampInfoMigration
 
     public TokenAccountBalanceMigration(
             ObjectProvider<AccountBalanceFileRepository> accountBalanceFileRepositoryProvider,
+            ObjectProvider<EntityStateCache> entityStateCacheProvider,
             ImporterProperties importerProperties,
             ObjectProvider<NamedParameterJdbcOperations> jdbcOperationsProvider,
             ObjectProvider<RecordFileRepository> recordFileRepositoryProvider,
             ObjectProvider<TransactionTemplate> transactionTemplateProvider) {
         super(
                 accountBalanceFileRepositoryProvider,
+                entityStateCacheProvider,
                 importerProperties.getMigration(),
                 jdbcOperationsProvider,
                 recordFileRepositoryProvider,
@@ -9,11 +9,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import lombok.Data;
 import lombok.Getter;
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
@@ -43,6 +45,12 @@ public class CommonParserProperties {
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
+    @NotNull
+    private CopyFormat copyFormat = CopyFormat.CSV;
+
+    @NotNull
+    private Map<String, CopyFormat> copyFormats = new CaseInsensitiveMap<>(); // Per table overrides of copyFormat
+
     @NotNull
     private Collection<@Valid TransactionFilter> exclude = new ArrayList<>();
 
@@ -52,6 +60,10 @@ public class CommonParserProperties {
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
+    public CopyFormat getCopyFormat(String tableName) {
+        return copyFormats.getOrDefault(tableName, copyFormat);
+    }
+
     public boolean hasFilter() {
         return (!exclude.isEmpty()) || (!include.isEmpty());
     }
@@ -139,6 +151,11 @@ public class CommonParserProperties {
         }
     }
 
+    public enum CopyFormat {
+        BINARY,
+        CSV
+    }
+
     /**
      * Limit scope of property access via SpEL for RecordItem instances.
      */
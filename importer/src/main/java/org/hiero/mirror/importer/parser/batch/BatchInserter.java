@@ -14,6 +14,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
@@ -27,6 +28,8 @@ import org.hiero.mirror.importer.converter.ByteArrayArrayToHexSerializer;
 import org.hiero.mirror.importer.converter.ByteArrayToHexSerializer;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+import org.jspecify.annotations.Nullable;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyIn;
 import org.postgresql.copy.PGCopyOutputStream;
@@ -43,6 +46,7 @@ public class BatchInserter implements BatchPersister {
     protected final MeterRegistry meterRegistry;
     protected final String tableName;
 
+    private final BinaryCopyWriter binaryCopyWriter;
     private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
@@ -62,6 +66,19 @@ public class BatchInserter implements BatchPersister {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             String tableName) {
+        this(entityClass, dataSource, meterRegistry, properties, tableName, null);
+    }
+
+    /**
+     * Creates a batch inserter that uses the binary COPY format if the entity metadata is provided, otherwise CSV.
+     */
+    public BatchInserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            String tableName,
+            @Nullable EntityMetadata entityMetadata) {
         this.dataSource = dataSource;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
@@ -77,12 +94,22 @@ public class BatchInserter implements BatchPersister {
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
         writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
-                .map(CsvSchema.Column::getName)
-                .distinct()
-                .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
-                .collect(Collectors.joining(", "));
-        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+
+        if (entityMetadata != null) {
+            binaryCopyWriter = new BinaryCopyWriter(entityMetadata);
+            sql = String.format(
+                    "COPY %s(%s) FROM STDIN WITH %s",
+                    this.tableName, binaryCopyWriter.getColumns(), BinaryCopyWriter.FORMAT);
+        } else {
+            binaryCopyWriter = null;
+            String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+                    .map(CsvSchema.Column::getName)
+                    .distinct()
+                    .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
+                    .collect(Collectors.joining(", "));
+            sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        }
+
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -125,7 +152,7 @@ public class BatchInserter implements BatchPersister {
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            write(pgCopyOutputStream, items);
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
@@ -134,4 +161,15 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    /**
+     * Serializes the items in the configured COPY format to the output stream.
+     */
+    void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        if (binaryCopyWriter != null) {
+            binaryCopyWriter.write(outputStream, items);
+        } else {
+            writer.writeValue(outputStream, items);
+        }
+    }
 }
@@ -13,7 +13,9 @@ import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
+import org.jspecify.annotations.Nullable;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -33,7 +35,23 @@ public class BatchUpserter extends BatchInserter {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
-        super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, null);
+    }
+
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            @Nullable EntityMetadata entityMetadata) {
+        super(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                properties,
+                upsertQueryGenerator.getTemporaryTableName(),
+                entityMetadata);
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
@@ -0,0 +1,268 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import org.hiero.mirror.common.converter.ObjectToStringSerializer;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.importer.repository.upsert.ColumnMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+
+/**
+ * Encodes domain objects directly into the PostgreSQL binary COPY format. The per column encoders are generated once
+ * from the entity metadata, so no intermediate text representation is created for the rows.
+ */
+final class BinaryCopyWriter {
+
+    static final String FORMAT = "(format binary)";
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    private static final int NULL_LENGTH = -1;
+    private static final short TRAILER = -1;
+
+    // See src/include/catalog/pg_type.dat
+    private static final int OID_BOOL = 16;
+    private static final int OID_BYTEA = 17;
+    private static final int OID_INT2 = 21;
+    private static final int OID_INT4 = 23;
+    private static final int OID_INT8 = 20;
+    private static final int OID_TEXT = 25;
+
+    // See src/include/utils/rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    private static final int JSONB_VERSION = 1;
+
+    private final String columns;
+    private final List<ColumnEncoder> encoders;
+
+    BinaryCopyWriter(EntityMetadata entityMetadata) {
+        this.columns = entityMetadata.columns("{0}");
+        this.encoders = entityMetadata.getColumns().stream()
+                .map(c -> new ColumnEncoder(c.getGetter(), encoder(entityMetadata, c)))
+                .toList();
+    }
+
+    String getColumns() {
+        return columns;
+    }
+
+    void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(SIGNATURE);
+        out.writeInt(0); // Flags
+        out.writeInt(0); // Header extension length
+        short fieldCount = (short) encoders.size();
+
+        for (var item : items) {
+            out.writeShort(fieldCount);
+
+            for (int i = 0; i < encoders.size(); i++) {
+                var encoder = encoders.get(i);
+                var value = encoder.getter().apply(item);
+
+                if (value == null || (value instanceof EntityId entityId && EntityId.isEmpty(entityId))) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    encoder.valueEncoder().encode(out, value);
+                }
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    @SuppressWarnings("java:S1479")
+    private static ValueEncoder encoder(EntityMetadata entityMetadata, ColumnMetadata column) {
+        var dataType = column.getDataType();
+
+        return switch (dataType) {
+            case "bool" -> BinaryCopyWriter::encodeBoolean;
+            case "bytea" -> BinaryCopyWriter::encodeBytes;
+            case "int2" -> BinaryCopyWriter::encodeShort;
+            case "int4" -> BinaryCopyWriter::encodeInt;
+            case "int8" -> BinaryCopyWriter::encodeLong;
+            case "int8range" -> BinaryCopyWriter::encodeRange;
+            case "json" -> (out, value) -> encodeJson(out, value, false);
+            case "jsonb" -> (out, value) -> encodeJson(out, value, true);
+            case "text", "varchar" -> BinaryCopyWriter::encodeText;
+            case "_bool" -> arrayEncoder(OID_BOOL, BinaryCopyWriter::encodeBoolean);
+            case "_bytea" -> arrayEncoder(OID_BYTEA, BinaryCopyWriter::encodeBytes);
+            case "_int2" -> arrayEncoder(OID_INT2, BinaryCopyWriter::encodeShort);
+            case "_int4" -> arrayEncoder(OID_INT4, BinaryCopyWriter::encodeInt);
+            case "_int8" -> arrayEncoder(OID_INT8, BinaryCopyWriter::encodeLong);
+            case "_text", "_varchar" -> arrayEncoder(OID_TEXT, BinaryCopyWriter::encodeText);
+            default -> {
+                // The binary representation of a PostgreSQL enum is its label
+                if (Enum.class.isAssignableFrom(column.getType())) {
+                    yield BinaryCopyWriter::encodeText;
+                }
+
+                throw new UnsupportedOperationException(String.format(
+                        "Unsupported binary copy data type %s for column %s.%s",
+                        dataType, entityMetadata.getTableName(), column.getName()));
+            }
+        };
+    }
+
+    private static ValueEncoder arrayEncoder(int elementOid, ValueEncoder elementEncoder) {
+        return (out, value) -> {
+            var elements = toList(value);
+            var buffer = new ByteArrayOutputStream();
+            var arrayOut = new DataOutputStream(buffer);
+            boolean hasNull = elements.contains(null);
+
+            arrayOut.writeInt(elements.isEmpty() ? 0 : 1); // Number of dimensions
+            arrayOut.writeInt(hasNull ? 1 : 0);
+            arrayOut.writeInt(elementOid);
+
+            if (!elements.isEmpty()) {
+                arrayOut.writeInt(elements.size());
+                arrayOut.writeInt(1); // Lower bound
+
+                for (var element : elements) {
+                    if (element == null) {
+                        arrayOut.writeInt(NULL_LENGTH);
+                    } else {
+                        elementEncoder.encode(arrayOut, element);
+                    }
+                }
+            }
+
+            arrayOut.flush();
+            out.writeInt(buffer.size());
+            buffer.writeTo(out);
+        };
+    }
+
+    private static void encodeBoolean(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(1);
+        out.writeBoolean((Boolean) value);
+    }
+
+    private static void encodeBytes(DataOutputStream out, Object value) throws IOException {
+        var bytes = (byte[]) value;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void encodeInt(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Integer.BYTES);
+        out.writeInt((int) toLong(value));
+    }
+
+    private static void encodeJson(DataOutputStream out, Object value, boolean binary) throws IOException {
+        var json = ObjectToStringSerializer.OBJECT_MAPPER.writeValueAsBytes(value);
+
+        if (binary) {
+            out.writeInt(json.length + 1);
+            out.writeByte(JSONB_VERSION);
+        } else {
+            out.writeInt(json.length);
+        }
+
+        out.write(json);
+    }
+
+    private static void encodeLong(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(toLong(value));
+    }
+
+    private static void encodeRange(DataOutputStream out, Object value) throws IOException {
+        var range = (Range<?>) value;
+
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        int flags = 0;
+        int length = 1;
+
+        if (range.hasLowerBound()) {
+            length += Integer.BYTES + Long.BYTES;
+            flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+        } else {
+            flags |= RANGE_LB_INF;
+        }
+
+        if (range.hasUpperBound()) {
+            length += Integer.BYTES + Long.BYTES;
+            flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+        } else {
+            flags |= RANGE_UB_INF;
+        }
+
+        out.writeInt(length);
+        out.writeByte(flags);
+
+        if (range.hasLowerBound()) {
+            encodeLong(out, range.lowerEndpoint());
+        }
+
+        if (range.hasUpperBound()) {
+            encodeLong(out, range.upperEndpoint());
+        }
+    }
+
+    private static void encodeShort(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Short.BYTES);
+        out.writeShort((short) toLong(value));
+    }
+
+    private static void encodeText(DataOutputStream out, Object value) throws IOException {
+        var text = value instanceof Enum<?> e ? e.name() : value.toString();
+        var bytes = text.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        } else if (value instanceof EntityId entityId) {
+            return entityId.getId();
+        } else if (value instanceof Enum<?> e) {
+            return e.ordinal();
+        }
+
+        throw new UnsupportedOperationException("Unable to convert to a binary integer: " + value.getClass());
+    }
+
+    private static List<?> toList(Object value) {
+        return switch (value) {
+            case List<?> list -> list;
+            case Collection<?> collection -> new ArrayList<>(collection);
+            case Object[] array -> Arrays.asList(array);
+            case long[] array -> Arrays.stream(array).boxed().toList();
+            case int[] array -> Arrays.stream(array).boxed().toList();
+            default -> throw new UnsupportedOperationException("Unable to convert to a binary array: " + value);
+        };
+    }
+
+    @FunctionalInterface
+    private interface ValueEncoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record ColumnEncoder(Function<Object, Object> getter, ValueEncoder valueEncoder) {}
+}
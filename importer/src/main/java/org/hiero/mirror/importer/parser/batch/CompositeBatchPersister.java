@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.batch;
 
+import com.google.common.base.CaseFormat;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import jakarta.persistence.Entity;
@@ -9,32 +10,42 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import javax.sql.DataSource;
+import lombok.CustomLog;
 import org.hiero.mirror.common.domain.Upsertable;
 import org.hiero.mirror.common.domain.transaction.TransactionHash;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import org.jspecify.annotations.Nullable;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.AnnotationUtils;
 
+@CustomLog
 @Named
 @Primary
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
             DataSource dataSource,
+            EntityMetadataRegistry entityMetadataRegistry,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
         this.dataSource = dataSource;
+        this.entityMetadataRegistry = entityMetadataRegistry;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.upsertQueryGeneratorFactory = upsertQueryGeneratorFactory;
@@ -70,9 +81,37 @@ public class CompositeBatchPersister implements BatchPersister {
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
-            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
+            return create(
+                    entityClass,
+                    generator.getFinalTableName(),
+                    entityMetadata -> new BatchUpserter(
+                            entityClass, dataSource, meterRegistry, properties, generator, entityMetadata));
         } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+            var tableName = entityClass.getSimpleName();
+            return create(
+                    entityClass,
+                    tableName,
+                    entityMetadata -> new BatchInserter(
+                            entityClass, dataSource, meterRegistry, properties, tableName, entityMetadata));
+        }
+    }
+
+    /*
+     * Creates the batch persister with the entity metadata used to generate the binary COPY encoders, or with null to
+     * use CSV if the table isn't configured for binary or any of its columns can't be encoded in binary.
+     */
+    private BatchPersister create(
+            Class<?> entityClass, String tableName, Function<@Nullable EntityMetadata, BatchPersister> constructor) {
+        var snakeCaseTableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, tableName);
+        if (properties.getCopyFormat(snakeCaseTableName) != CopyFormat.BINARY) {
+            return constructor.apply(null);
+        }
+
+        try {
+            return constructor.apply(entityMetadataRegistry.lookupEntity(entityClass));
+        } catch (Exception e) {
+            log.warn("Falling back to CSV format for table {}: {}", snakeCaseTableName, e.getMessage());
+            return constructor.apply(null);
         }
     }
 
@@ -25,6 +25,7 @@ import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.common.util.LogsBloomFilter;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
+import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParser;
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
@@ -42,6 +43,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
     private final ApplicationEventPublisher applicationEventPublisher;
     private final DateRangeCalculator dateRangeCalculator;
+    private final EntityIdService entityIdService;
     private final EntityListener entityListener;
     private final EntityProperties entityProperties;
     private final ParserContext parserContext;
@@ -57,6 +59,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     public RecordFileParser(
             final ApplicationEventPublisher applicationEventPublisher,
             final DateRangeCalculator dateRangeCalculator,
+            final EntityIdService entityIdService,
             final EntityListener entityListener,
             final EntityProperties entityProperties,
             final MeterRegistry meterRegistry,
@@ -68,6 +71,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.dateRangeCalculator = dateRangeCalculator;
+        this.entityIdService = entityIdService;
         this.entityListener = entityListener;
         this.entityProperties = entityProperties;
         this.parserContext = parserContext;
@@ -149,6 +153,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         applicationEventPublisher.publishEvent(new RecordFileParsedEvent(this, recordFile.getConsensusEnd()));
 
         parseInitialState(recordFile);
+        entityIdService.preload(recordFile.getItems());
         recordFile.getItems().forEach(recordItem -> {
             if (shouldLog) {
                 logItem(recordItem);
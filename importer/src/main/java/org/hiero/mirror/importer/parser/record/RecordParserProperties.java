@@ -2,6 +2,9 @@
 
 package org.hiero.mirror.importer.parser.record;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.importer.parser.AbstractParserProperties;
@@ -15,8 +18,26 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hiero.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    @NotNull
+    @Valid
+    private DecodeProperties decode = new DecodeProperties();
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
     }
+
+    @Data
+    @Validated
+    public static class DecodeProperties {
+
+        private boolean parallel = false;
+
+        @Min(1)
+        private int parallelThreshold = 500;
+
+        public boolean isParallel(int count) {
+            return parallel && count >= parallelThreshold;
+        }
+    }
 }
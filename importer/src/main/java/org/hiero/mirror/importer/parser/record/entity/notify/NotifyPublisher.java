@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import lombok.CustomLog;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.hiero.mirror.importer.parser.record.entity.BatchPublisher;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Sends a PostgreSQL notification when a record file containing topic messages is parsed. The notification is sent
+ * within the parser transaction, so PostgreSQL only delivers it to listeners once the messages are committed. The
+ * payload is just the consensus end of the record file since NOTIFY payloads are limited to 8000 bytes and listeners
+ * query for the messages themselves.
+ */
+@CustomLog
+@Named
+public class NotifyPublisher implements BatchPublisher {
+
+    static final String CHANNEL = "topic_message";
+
+    private final JdbcOperations jdbcOperations;
+    private final NotifyProperties notifyProperties;
+    private final RecordParserProperties parserProperties;
+    private final ParserContext parserContext;
+    private final Timer timer;
+
+    NotifyPublisher(
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry,
+            NotifyProperties notifyProperties,
+            ParserContext parserContext,
+            RecordParserProperties parserProperties) {
+        this.jdbcOperations = jdbcOperations;
+        this.notifyProperties = notifyProperties;
+        this.parserContext = parserContext;
+        this.parserProperties = parserProperties;
+        this.timer = PUBLISH_TIMER.tag("type", "notify").register(meterRegistry);
+    }
+
+    @Override
+    public void onEnd(RecordFile recordFile) {
+        if (!notifyProperties.isEnabled() || !parserProperties.isEnabled()) {
+            return;
+        }
+
+        var topicMessages = parserContext.get(TopicMessage.class);
+        if (topicMessages.isEmpty()) {
+            return;
+        }
+
+        var payload = String.valueOf(recordFile.getConsensusEnd());
+        timer.record(() -> jdbcOperations.queryForObject("select pg_notify(?, ?)", Object.class, CHANNEL, payload));
+        log.debug("Notified channel {} of {} topic messages", CHANNEL, topicMessages.size());
+    }
+}
@@ -0,0 +1,640 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Range;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.hiero.mirror.common.domain.History;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.entity.EntityType;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.batch.BatchUpserter;
+import org.hiero.mirror.importer.repository.EntityRepository;
+import org.hiero.mirror.importer.repository.TokenAccountRepository;
+import org.hiero.mirror.importer.repository.upsert.ColumnMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.hiero.mirror.importer.repository.upsert.MergedUpsertQueryGenerator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * A write-through cache of the latest persisted state of entities and token accounts. Rows of a cached id are merged
+ * with the cached state in the importer, following the same rules as the upsert SQL, and are then persisted without
+ * joining against the final table. The state written by the current transaction is only published to the cache after
+ * it commits, and the state of ids that missed the cache is read back after the commit so that the next update can hit.
+ * <p>
+ * Any code that modifies the entity or token_account tables outside the batch persister while the importer is running
+ * must invalidate the affected ids, or call {@link #invalidateAll()} before bulk updates.
+ */
+@CustomLog
+@Named
+public class EntityStateCache {
+
+    static final String METRIC_REQUESTS = "hiero.mirror.importer.batch.cache";
+    static final String METRIC_ESTIMATED = "hiero.mirror.importer.batch.cache.estimated";
+    static final String METRIC_MERGED = "hiero.mirror.importer.batch.cache.merged";
+
+    private static final int READ_BATCH_SIZE = 1000;
+
+    private final BatchPersister batchPersister;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final MeterRegistry meterRegistry;
+    private final CommonParserProperties parserProperties;
+    private final SqlProperties sqlProperties;
+    private final Map<Class<?>, State<?>> states = new HashMap<>();
+    private final TransactionTemplate transactionTemplate;
+
+    // Incremented on every invalidation so state read before it is not published to the cache
+    private final AtomicLong generation = new AtomicLong();
+    // The number of transactions with uncommitted bulk updates, during which the cache is bypassed
+    private final AtomicInteger suspended = new AtomicInteger();
+
+    @SuppressWarnings("java:S107")
+    public EntityStateCache(
+            BatchPersister batchPersister,
+            DataSource dataSource,
+            EntityMetadataRegistry entityMetadataRegistry,
+            EntityRepository entityRepository,
+            MeterRegistry meterRegistry,
+            CommonParserProperties parserProperties,
+            PlatformTransactionManager platformTransactionManager,
+            SqlProperties sqlProperties,
+            TokenAccountRepository tokenAccountRepository) {
+        this.batchPersister = batchPersister;
+        this.dataSource = dataSource;
+        this.entityMetadataRegistry = entityMetadataRegistry;
+        this.meterRegistry = meterRegistry;
+        this.parserProperties = parserProperties;
+        this.sqlProperties = sqlProperties;
+
+        // Read back the committed state in a separate transaction since the parent transaction is already complete
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+
+        addState(
+                Entity.class,
+                Entity::getId,
+                Entity::new,
+                ids -> entityRepository.findAllById(ids.stream().map(Long.class::cast).toList()),
+                EntityStateCache::mergeEntity);
+        addState(
+                TokenAccount.class,
+                TokenAccount::getId,
+                TokenAccount::new,
+                ids -> tokenAccountRepository.findAllById(
+                        ids.stream().map(AbstractTokenAccount.Id.class::cast).toList()),
+                EntityStateCache::mergeTokenAccount);
+    }
+
+    public boolean isEnabled() {
+        return sqlProperties.getStateCache().isEnabled();
+    }
+
+    /**
+     * Persists the items if they're of a cached domain class. Rows whose id is cached are merged with the cached state
+     * and persisted with a simpler upsert while the remaining rows are persisted by the batch persister.
+     *
+     * @param items the items of a single domain class to persist
+     * @return whether the items were persisted and the caller should not persist them itself
+     */
+    public boolean persist(Collection<?> items) {
+        if (!isEnabled()
+                || items.isEmpty()
+                || suspended.get() > 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        var state = states.get(items.iterator().next().getClass());
+        if (state == null || !state.isSupported()) {
+            return false;
+        }
+
+        state.persist(items, getChanges());
+        return true;
+    }
+
+    /**
+     * Removes the ids from the cache after their rows were modified outside the batch persister. The ids are read back
+     * the next time they miss the cache.
+     *
+     * @param domainClass the domain class of the modified rows
+     * @param ids         the ids of the modified rows
+     */
+    public void invalidate(Class<?> domainClass, Collection<?> ids) {
+        var state = states.get(domainClass);
+        if (state != null && !ids.isEmpty()) {
+            generation.incrementAndGet();
+            var changes = (Changes) TransactionSynchronizationManager.getResource(this);
+            state.invalidate(ids, changes);
+        }
+    }
+
+    /**
+     * Removes every row from the cache before a bulk update of the entity or token_account tables. When called within
+     * a transaction, the cache is bypassed until that transaction completes so that no other transaction merges rows
+     * with state read before the bulk update commits.
+     */
+    public void invalidateAll() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            suspended.incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                    suspended.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    @VisibleForTesting
+    void clear() {
+        generation.incrementAndGet();
+        states.values().forEach(State::clear);
+    }
+
+    // The changes of the current transaction, which are only published to the cache after it commits
+    private Changes getChanges() {
+        var changes = (Changes) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new Changes(generation.get());
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    private <T extends History> void addState(
+            Class<T> domainClass,
+            Function<T, Object> idFunction,
+            Supplier<T> constructor,
+            Function<List<Object>, Iterable<T>> loader,
+            StateMerger<T> merger) {
+        states.put(domainClass, new State<>(domainClass, idFunction, constructor, loader, merger));
+    }
+
+    // Equivalent of the custom coalesce of the entity's balance, ethereum_nonce and public_key columns
+    private static void mergeEntity(Entity merged, Entity row, Entity existing) {
+        var type = ObjectUtils.firstNonNull(existing.getType(), row.getType());
+        boolean hasBalance = type == EntityType.ACCOUNT || type == EntityType.CONTRACT;
+
+        if (hasBalance || existing.getBalance() != null) {
+            merged.setBalance(Objects.requireNonNullElse(existing.getBalance(), 0L)
+                    + Objects.requireNonNullElse(row.getBalance(), 0L));
+        } else {
+            merged.setBalance(null);
+        }
+
+        var ethereumNonce = ObjectUtils.firstNonNull(row.getEthereumNonce(), existing.getEthereumNonce());
+        if (ethereumNonce == null && type == EntityType.ACCOUNT) {
+            ethereumNonce = 0L;
+        }
+        merged.setEthereumNonce(ethereumNonce);
+
+        var publicKey = row.getPublicKey();
+        merged.setPublicKey(
+                publicKey != null && publicKey.isEmpty()
+                        ? null
+                        : ObjectUtils.firstNonNull(publicKey, existing.getPublicKey()));
+    }
+
+    // Equivalent of the custom coalesce of the token account's balance, freeze_status and kyc_status columns
+    private static void mergeTokenAccount(TokenAccount merged, TokenAccount row, TokenAccount existing) {
+        if (row.getCreatedTimestamp() != null) {
+            merged.setBalance(row.getBalance());
+            merged.setFreezeStatus(row.getFreezeStatus());
+            merged.setKycStatus(row.getKycStatus());
+            return;
+        }
+
+        merged.setBalance(existing.getBalance() + row.getBalance());
+        merged.setFreezeStatus(ObjectUtils.firstNonNull(row.getFreezeStatus(), existing.getFreezeStatus()));
+        merged.setKycStatus(ObjectUtils.firstNonNull(row.getKycStatus(), existing.getKycStatus()));
+    }
+
+    // Converts the column default from the information schema to the column's java type
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object getDefaultValue(ColumnMetadata column) {
+        if (!(column.getDefaultValue() instanceof String value) || "null".equalsIgnoreCase(value)) {
+            return null;
+        }
+
+        var literal = StringUtils.unwrap(value, '\'');
+        var type = column.getType();
+
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(literal);
+        } else if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(literal);
+        } else if (type == Long.class || type == long.class) {
+            return Long.valueOf(literal);
+        } else if (type == Short.class || type == short.class) {
+            return Short.valueOf(literal);
+        } else if (type == String.class) {
+            return literal;
+        } else if (type.isEnum()) {
+            return Enum.valueOf((Class) type, literal);
+        }
+
+        throw new IllegalArgumentException("Unsupported default " + value + " of column " + column.getName());
+    }
+
+    @FunctionalInterface
+    private interface StateMerger<T> {
+        void merge(T merged, T row, T existing);
+    }
+
+    // The pending and missed ids of each cached domain class in a single transaction
+    private final class Changes implements TransactionSynchronization {
+
+        private final long generation;
+        private final Map<Class<?>, StateChanges<?>> stateChanges = new HashMap<>();
+
+        private Changes(long generation) {
+            this.generation = generation;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> StateChanges<T> get(Class<T> domainClass) {
+            return (StateChanges<T>) stateChanges.computeIfAbsent(domainClass, _ -> new StateChanges<>());
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EntityStateCache.this);
+
+            if (status != STATUS_COMMITTED) {
+                return;
+            }
+
+            // Don't publish when the state may have been changed by another writer during the transaction. The cache
+            // still holds the state before this transaction for the ids that hit it, so remove them instead.
+            boolean stale = generation != EntityStateCache.this.generation.get();
+
+            for (var state : states.values()) {
+                if (stale) {
+                    state.discard(this);
+                } else {
+                    state.complete(this);
+                }
+            }
+        }
+    }
+
+    private static final class StateChanges<T> {
+        private final Map<Object, T> pending = new HashMap<>();
+        private final Set<Object> missed = new HashSet<>();
+    }
+
+    private final class State<T extends History> {
+
+        private final Class<T> domainClass;
+        private final Function<T, Object> idFunction;
+        private final Supplier<T> constructor;
+        private final Function<List<Object>, Iterable<T>> loader;
+        private final StateMerger<T> merger;
+        private final Cache<Object, T> cache;
+        private final Counter hitMetric;
+        private final Counter missMetric;
+        private final Timer estimatedMetric;
+        private final Timer mergedMetric;
+
+        private Map<ColumnMetadata, Object> defaults;
+        private EntityMetadata metadata;
+        private BatchPersister mergedPersister;
+        private ColumnMetadata createdTimestampColumn;
+        private volatile Boolean supported;
+        private long upsertNanos;
+        private long upsertRows;
+
+        private State(
+                Class<T> domainClass,
+                Function<T, Object> idFunction,
+                Supplier<T> constructor,
+                Function<List<Object>, Iterable<T>> loader,
+                StateMerger<T> merger) {
+            this.domainClass = domainClass;
+            this.idFunction = idFunction;
+            this.constructor = constructor;
+            this.loader = loader;
+            this.merger = merger;
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(sqlProperties.getStateCache().getMaxSize())
+                    .build();
+
+            var table = domainClass.getSimpleName();
+            var requests = Counter.builder(METRIC_REQUESTS)
+                    .description("The number of cache lookups of the persisted state")
+                    .tag("table", table);
+            hitMetric = requests.tag("result", "hit").register(meterRegistry);
+            missMetric = requests.tag("result", "miss").register(meterRegistry);
+            estimatedMetric = Timer.builder(METRIC_ESTIMATED)
+                    .description("The estimated time to persist the rows merged with the cached state using the upsert "
+                            + "SQL instead, based on the average time per row of upserting the rows that missed the "
+                            + "cache, including copying them to the temporary table")
+                    .tag("table", table)
+                    .register(meterRegistry);
+            mergedMetric = Timer.builder(METRIC_MERGED)
+                    .description("The time to persist the rows merged with the cached state")
+                    .tag("table", table)
+                    .register(meterRegistry);
+        }
+
+        // Whether the column defaults can be applied in memory, or the rows must be persisted with the upsert SQL
+        boolean isSupported() {
+            if (supported == null) {
+                var entityMetadata = getMetadata();
+                var columnDefaults = new HashMap<ColumnMetadata, Object>();
+
+                try {
+                    for (var column : entityMetadata.getColumns()) {
+                        columnDefaults.put(column, getDefaultValue(column));
+
+                        if (column.getName().equals("created_timestamp")) {
+                            createdTimestampColumn = column;
+                        }
+                    }
+
+                    defaults = columnDefaults;
+                    supported = true;
+                } catch (Exception e) {
+                    log.warn("Disabling the state cache of {}: {}", entityMetadata.getTableName(), e.getMessage());
+                    supported = false;
+                }
+            }
+
+            return supported;
+        }
+
+        @SuppressWarnings("unchecked")
+        void persist(Collection<?> items, Changes changes) {
+            var rows = new LinkedHashMap<Object, List<T>>();
+            for (var item : items) {
+                var row = (T) item;
+                rows.computeIfAbsent(idFunction.apply(row), _ -> new ArrayList<>()).add(row);
+            }
+
+            var merged = new ArrayList<T>();
+            var remaining = new ArrayList<T>();
+            var stateChanges = changes.get(domainClass);
+
+            rows.forEach((id, idRows) -> {
+                var existing = get(id, stateChanges);
+
+                if (existing == null) {
+                    missMetric.increment();
+                    stateChanges.missed.add(id);
+                    remaining.addAll(idRows);
+                } else {
+                    hitMetric.increment();
+                    merge(id, existing, idRows, merged, stateChanges.pending);
+                }
+            });
+
+            if (!remaining.isEmpty()) {
+                long startTime = System.nanoTime();
+                batchPersister.persist(remaining);
+                upsertNanos += System.nanoTime() - startTime;
+                upsertRows += remaining.size();
+            }
+
+            if (!merged.isEmpty()) {
+                long startTime = System.nanoTime();
+                getMergedPersister().persist(merged);
+                long elapsed = System.nanoTime() - startTime;
+
+                // Only record once there's an upsert to compare with so both timers cover the same flushes
+                if (upsertRows > 0) {
+                    long estimated = (long) ((double) upsertNanos / upsertRows * merged.size());
+                    estimatedMetric.record(estimated, TimeUnit.NANOSECONDS);
+                    mergedMetric.record(elapsed, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+
+        void invalidate(Collection<?> ids, Changes changes) {
+            cache.invalidateAll(ids);
+
+            if (changes != null) {
+                var stateChanges = changes.get(domainClass);
+                ids.forEach(stateChanges.pending::remove);
+            }
+        }
+
+        void complete(Changes changes) {
+            var stateChanges = changes.get(domainClass);
+            var published = new HashSet<>(stateChanges.pending.keySet());
+
+            try {
+                cache.putAll(stateChanges.pending);
+                for (var ids : Iterables.partition(stateChanges.missed, READ_BATCH_SIZE)) {
+                    var loaded = transactionTemplate.execute(_ -> loader.apply(ids));
+                    if (loaded != null) {
+                        loaded.forEach(row -> cache.put(idFunction.apply(row), row));
+                    }
+                    published.addAll(ids);
+                }
+            } catch (Exception e) {
+                log.warn(
+                        "Unable to read back the state of {} {} rows: {}",
+                        stateChanges.missed.size(),
+                        domainClass,
+                        e.getMessage());
+            } finally {
+                // Remove what was just published if another writer invalidated the cache in the meantime
+                if (changes.generation != generation.get()) {
+                    cache.invalidateAll(published);
+                }
+            }
+        }
+
+        void discard(Changes changes) {
+            var stateChanges = changes.get(domainClass);
+            cache.invalidateAll(stateChanges.pending.keySet());
+            cache.invalidateAll(stateChanges.missed);
+        }
+
+        void clear() {
+            cache.invalidateAll();
+        }
+
+        private T get(Object id, StateChanges<T> stateChanges) {
+            var existing = stateChanges.pending.get(id);
+            return existing != null ? existing : cache.getIfPresent(id);
+        }
+
+        /*
+         * Applies the upsert SQL's merge with the existing row in memory. Like the upsert SQL, the rows without a
+         * timestamp range are applied first and the rows with a timestamp range are then merged with the result. The
+         * existing row is closed at the lowest timestamp of the rows with a timestamp range, each row coalesces its
+         * unset updatable columns from the existing row or the column default, and the existing row's value takes
+         * precedence for columns that can't be updated.
+         */
+        private void merge(Object id, T existing, List<T> rows, List<T> merged, Map<Object, T> pending) {
+            var base = existing;
+            var ranged = new ArrayList<T>(rows.size());
+            T nonHistory = null;
+            Long timestampLower = null;
+
+            for (var row : rows) {
+                if (row.getTimestampRange() == null) {
+                    if (!isPartialUpdate(row, base)) {
+                        nonHistory = mergeRow(row, base, true);
+                        base = nonHistory;
+                    }
+                } else {
+                    ranged.add(row);
+                    var lower = row.getTimestampLower();
+                    if (timestampLower == null || lower < timestampLower) {
+                        timestampLower = lower;
+                    }
+                }
+            }
+
+            if (timestampLower != null && base.hasHistory()) {
+                var history = copy(base);
+                history.setTimestampRange(Range.closedOpen(base.getTimestampLower(), timestampLower));
+                merged.add(history);
+            }
+
+            T current = nonHistory;
+            for (var row : ranged) {
+                if (isPartialUpdate(row, base)) {
+                    continue;
+                }
+
+                boolean isCurrent = row.getTimestampUpper() == null;
+                var mergedRow = mergeRow(row, base, isCurrent);
+                merged.add(mergedRow);
+
+                if (isCurrent) {
+                    current = mergedRow;
+                    nonHistory = null;
+                }
+            }
+
+            // The current row with a timestamp range already includes the update of the row without one
+            if (nonHistory != null) {
+                merged.add(nonHistory);
+            }
+
+            if (current != null) {
+                pending.put(id, copy(current));
+            }
+        }
+
+        private T mergeRow(T row, T existing, boolean current) {
+            var mergedRow = copy(row);
+
+            for (var column : getMetadata().getColumns()) {
+                if (!column.isId() && column.getUpsertColumn() == null) {
+                    coalesce(column, mergedRow, existing, current);
+                }
+            }
+
+            merger.merge(mergedRow, row, existing);
+            return mergedRow;
+        }
+
+        private void coalesce(ColumnMetadata column, T row, T existing, boolean current) {
+            var existingValue = column.getGetter().apply(existing);
+            var value = column.getGetter().apply(row);
+            var defaultValue = defaults.get(column);
+
+            if (!column.isUpdatable()) {
+                // The current row can't change the column on conflict and history rows prefer the existing value
+                var historyValue = ObjectUtils.firstNonNull(existingValue, value, defaultValue);
+                column.getSetter().accept(row, current ? existingValue : historyValue);
+            } else {
+                column.getSetter().accept(row, ObjectUtils.firstNonNull(value, existingValue, defaultValue));
+            }
+        }
+
+        // Equivalent of the upsert SQL skipping rows that don't have a created timestamp
+        private boolean isPartialUpdate(T row, T existing) {
+            return getMetadata().getUpsertable().skipPartialUpdate()
+                    && createdTimestampColumn != null
+                    && createdTimestampColumn.getGetter().apply(existing) == null
+                    && createdTimestampColumn.getGetter().apply(row) == null;
+        }
+
+        private T copy(T source) {
+            var target = constructor.get();
+            for (var column : getMetadata().getColumns()) {
+                column.getSetter().accept(target, column.getGetter().apply(source));
+            }
+            return target;
+        }
+
+        private EntityMetadata getMetadata() {
+            if (metadata == null) {
+                metadata = entityMetadataRegistry.lookup(domainClass);
+            }
+            return metadata;
+        }
+
+        private BatchPersister getMergedPersister() {
+            if (mergedPersister == null) {
+                var entityMetadata = getMetadata();
+                var generator = new MergedUpsertQueryGenerator(entityMetadata);
+
+                if (parserProperties.getCopyFormat(entityMetadata.getTableName()) == CopyFormat.BINARY) {
+                    try {
+                        var binaryMetadata = entityMetadataRegistry.lookupEntity(domainClass);
+                        mergedPersister = new BatchUpserter(
+                                domainClass, dataSource, meterRegistry, parserProperties, generator, binaryMetadata);
+                    } catch (Exception e) {
+                        log.warn(
+                                "Falling back to CSV format for table {}: {}",
+                                entityMetadata.getTableName(),
+                                e.getMessage());
+                    }
+                }
+
+                if (mergedPersister == null) {
+                    mergedPersister = new BatchUpserter(
+                            domainClass, dataSource, meterRegistry, parserProperties, generator, null);
+                }
+            }
+            return mergedPersister;
+        }
+    }
+}
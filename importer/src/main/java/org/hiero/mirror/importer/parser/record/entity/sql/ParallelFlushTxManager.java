@@ -0,0 +1,326 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import jakarta.inject.Named;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.Upsertable;
+import org.hiero.mirror.common.domain.contract.ContractStateChange;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.common.domain.transaction.SidecarFile;
+import org.hiero.mirror.common.domain.transaction.TransactionHash;
+import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.record.entity.DomainClassComparator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Persists the tables that have no ordering constraints concurrently over several connections while still committing
+ * atomically with the parent record file transaction. Each worker connection is prepared with a two-phase commit before
+ * the parent transaction commits and is then committed or rolled back in accordance with the parent's outcome. The
+ * global transaction identifier contains the consensus end of the last record file so prepared transactions left behind
+ * by a crash can be resolved by checking whether that record file was committed.
+ * <p>
+ * Only insert-only tables are parallelized since upserts merge against state that may have been written by the parent
+ * transaction and would not be visible to the worker connections. The worker transactions only become visible shortly
+ * after the record file, so tables read as soon as the record file commits, such as topic_message by the gRPC NOTIFY
+ * listener and contract_state_change by the web3 historical cache, are persisted by the parent transaction. This
+ * requires PostgreSQL's max_prepared_transactions to be at least the number of connections.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class ParallelFlushTxManager implements Closeable, TransactionSynchronization {
+
+    static final String GID_PREFIX = "mirror_importer_flush_";
+
+    private static final String PREPARED_SQL =
+            "select gid from pg_prepared_xacts where database = current_database() and starts_with(gid, ?)";
+    private static final String RECORD_FILE_EXISTS_SQL =
+            "select exists(select 1 from record_file where consensus_end = ?)";
+    private static final List<Class<?>> SEQUENTIAL = List.of(
+            ContractStateChange.class,
+            RecordFile.class,
+            SidecarFile.class,
+            TopicMessage.class,
+            TransactionHash.class);
+
+    private final BatchPersister batchPersister;
+    private final DataSource dataSource;
+    private final SqlProperties sqlProperties;
+
+    private final List<Future<?>> pending = new ArrayList<>();
+    private final Map<Class<?>, Worker> tableWorkers = new HashMap<>();
+    private List<Worker> workers = List.of();
+    private long consensusEnd;
+    private volatile boolean recovered;
+    private boolean registered;
+
+    @Override
+    public void close() {
+        workers.forEach(w -> w.executor.close());
+    }
+
+    public boolean isEnabled() {
+        return sqlProperties.getParallelFlush().isEnabled();
+    }
+
+    /**
+     * Asynchronously persists the items on one of the worker connections if the table can be persisted in parallel.
+     *
+     * @param items the items of a single domain class to persist
+     * @return whether the items were submitted and the caller should not persist them itself
+     */
+    public boolean submit(Collection<?> items) {
+        if (!isEnabled() || items.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        var domainClass = items.iterator().next().getClass();
+        if (!isParallelizable(domainClass)) {
+            return false;
+        }
+
+        if (!registered) {
+            initialize();
+        }
+
+        // A table always uses the same worker within a transaction so its rows are confined to a single connection
+        var worker = tableWorkers.computeIfAbsent(domainClass, c -> workers.get(tableWorkers.size() % workers.size()));
+        pending.add(worker.executor.submit(() -> worker.persist(items)));
+        return true;
+    }
+
+    /**
+     * Waits for all submitted items to be persisted.
+     *
+     * @param recordFile the last record file in the current transaction
+     */
+    public void await(RecordFile recordFile) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        consensusEnd = recordFile.getConsensusEnd();
+
+        try {
+            for (var future : pending) {
+                future.get();
+            }
+            log.debug("Completed parallel batch inserts of {} tables in {}", tableWorkers.size(), stopwatch);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ParserException parserException) {
+                throw parserException;
+            }
+            throw new ParserException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException(e);
+        } finally {
+            pending.clear();
+        }
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        for (var worker : workers) {
+            worker.prepare();
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        for (var worker : workers) {
+            worker.complete(status);
+        }
+
+        pending.clear();
+        registered = false;
+        tableWorkers.clear();
+    }
+
+    private void initialize() {
+        if (workers.isEmpty()) {
+            workers = IntStream.range(0, sqlProperties.getParallelFlush().getConnections())
+                    .mapToObj(Worker::new)
+                    .toList();
+        }
+
+        if (!recovered) {
+            recover();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(this);
+        registered = true;
+    }
+
+    private boolean isParallelizable(Class<?> domainClass) {
+        return !DomainClassComparator.isOrdered(domainClass)
+                && !SEQUENTIAL.contains(domainClass)
+                && AnnotationUtils.findAnnotation(domainClass, Upsertable.class) == null;
+    }
+
+    /*
+     * Resolves prepared transactions left behind by a previous run regardless of whether parallel flush is still enabled,
+     * since they hold their locks and prevent vacuuming until they're resolved.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            recover();
+        } catch (Exception e) {
+            log.error("Unable to recover prepared transactions on startup", e);
+        }
+    }
+
+    /*
+     * Resolves prepared transactions left behind by a previous run that failed between committing the parent
+     * transaction and committing the prepared transactions.
+     */
+    @VisibleForTesting
+    synchronized void recover() {
+        var gids = new ArrayList<String>();
+
+        try (var connection = dataSource.getConnection()) {
+            try (var statement = connection.prepareStatement(PREPARED_SQL)) {
+                statement.setString(1, GID_PREFIX);
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        gids.add(resultSet.getString(1));
+                    }
+                }
+            }
+
+            for (var gid : gids) {
+                var timestamp = Long.parseLong(gid.substring(GID_PREFIX.length(), gid.lastIndexOf('_')));
+                boolean committed;
+
+                try (var statement = connection.prepareStatement(RECORD_FILE_EXISTS_SQL)) {
+                    statement.setLong(1, timestamp);
+                    try (var resultSet = statement.executeQuery()) {
+                        committed = resultSet.next() && resultSet.getBoolean(1);
+                    }
+                }
+
+                execute(connection, (committed ? "commit" : "rollback") + " prepared '" + gid + "'");
+                log.warn("Recovered prepared transaction {} with {}", gid, committed ? "commit" : "rollback");
+            }
+
+            recovered = true;
+        } catch (SQLException e) {
+            throw new ParserException("Error recovering prepared transactions", e);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private class Worker {
+
+        private final ExecutorService executor;
+        private final int index;
+        private volatile Connection connection;
+        private volatile String gid;
+
+        private Worker(int index) {
+            this.executor = Executors.newSingleThreadExecutor();
+            this.index = index;
+        }
+
+        private void persist(Collection<?> items) {
+            try {
+                if (connection == null) {
+                    connection = dataSource.getConnection();
+                    connection.setAutoCommit(false);
+                }
+            } catch (SQLException e) {
+                throw new ParserException(e);
+            }
+
+            // Bind the worker connection so the batch persister uses it instead of the parent transaction's connection
+            TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+
+            try {
+                batchPersister.persist(items);
+            } finally {
+                TransactionSynchronizationManager.unbindResource(dataSource);
+            }
+        }
+
+        private void prepare() {
+            if (connection == null) {
+                return;
+            }
+
+            try {
+                var preparedGid = GID_PREFIX + consensusEnd + "_" + index;
+                execute(connection, "prepare transaction '" + preparedGid + "'");
+                gid = preparedGid;
+            } catch (SQLException e) {
+                throw new ParserException("Error preparing parallel flush transaction", e);
+            }
+        }
+
+        private void complete(int status) {
+            if (connection == null) {
+                return;
+            }
+
+            try {
+                if (gid != null) {
+                    if (status == STATUS_UNKNOWN) {
+                        // Leave it prepared so that recovery can determine the parent's outcome
+                        recovered = false;
+                        log.error("Parent transaction status unknown, leaving {} prepared for recovery", gid);
+                    } else {
+                        connection.setAutoCommit(true);
+                        var action = status == STATUS_COMMITTED ? "commit" : "rollback";
+                        execute(connection, action + " prepared '" + gid + "'");
+                    }
+                } else {
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+                recovered = false;
+                log.error("Error completing parallel flush transaction {} with status {}", gid, status, e);
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                    connection.close();
+                } catch (SQLException e) {
+                    log.warn("Error closing parallel flush connection", e);
+                }
+
+                connection = null;
+                gid = null;
+            }
+        }
+    }
+}
@@ -83,7 +83,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
+    private final EntityStateCache entityStateCache;
     private final NftRepository nftRepository;
+    private final ParallelFlushTxManager parallelFlushTxManager;
     private final TokenAccountRepository tokenAccountRepository;
     private final SqlProperties sqlProperties;
     private final RecordParserProperties parserProperties;
@@ -96,7 +98,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onEnd(RecordFile recordFile) {
         if (isEnabled()) {
-            flush();
+            flush(recordFile);
         }
     }
 
@@ -423,10 +425,28 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         context.add(transactionSignature);
     }
 
-    private void flush() {
+    private void flush(RecordFile recordFile) {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+
+            try {
+                context.forEach(items -> {
+                    if (!parallelFlushTxManager.submit(items) && !entityStateCache.persist(items)) {
+                        batchPersister.persist(items);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // Still wait for the submitted workers, but don't let their failure hide the original one
+                try {
+                    parallelFlushTxManager.await(recordFile);
+                } catch (RuntimeException awaitException) {
+                    e.addSuppressed(awaitException);
+                }
+                throw e;
+            }
+
+            parallelFlushTxManager.await(recordFile);
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -440,7 +460,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
             NFT_FLUSH.forEach(c -> {
                 var data = context.get(c);
-                batchPersister.persist(data);
+                if (!entityStateCache.persist(data)) {
+                    batchPersister.persist(data);
+                }
                 context.remove(c);
             });
         } catch (ParserException e) {
@@ -982,6 +1004,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         return previous;
     }
 
+    private static Id tokenAccountId(long accountId, long tokenId) {
+        var id = new Id();
+        id.setAccountId(accountId);
+        id.setTokenId(tokenId);
+        return id;
+    }
+
     private void onNftTransferList(Transaction transaction) {
         var nftTransferList = transaction.getNftTransfer();
         if (CollectionUtils.isEmpty(nftTransferList)) {
@@ -993,11 +1022,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
                 flushNftState();
+                long newTreasury = nftTransfer.getReceiverAccountId().getId();
+                long previousTreasury = nftTransfer.getSenderAccountId().getId();
                 nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
-                        nftTransfer.getReceiverAccountId().getId(),
-                        nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                        transaction.getConsensusTimestamp(), newTreasury, previousTreasury, tokenId);
+                entityStateCache.invalidate(
+                        TokenAccount.class,
+                        List.of(tokenAccountId(newTreasury, tokenId), tokenAccountId(previousTreasury, tokenId)));
                 return;
             }
 
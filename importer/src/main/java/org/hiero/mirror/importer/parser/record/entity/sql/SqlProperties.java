@@ -2,6 +2,10 @@
 
 package org.hiero.mirror.importer.parser.record.entity.sql;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -12,4 +16,33 @@ import org.springframework.validation.annotation.Validated;
 public class SqlProperties {
 
     private boolean enabled = true;
+
+    @NotNull
+    @Valid
+    private ParallelFlushProperties parallelFlush = new ParallelFlushProperties();
+
+    @NotNull
+    @Valid
+    private StateCacheProperties stateCache = new StateCacheProperties();
+
+    @Data
+    @Validated
+    public static class ParallelFlushProperties {
+
+        @Min(1)
+        @Max(32)
+        private int connections = 4;
+
+        private boolean enabled = false;
+    }
+
+    @Data
+    @Validated
+    public static class StateCacheProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private long maxSize = 500_000;
+    }
 }
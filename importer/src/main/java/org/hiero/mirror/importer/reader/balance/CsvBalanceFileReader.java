@@ -3,18 +3,15 @@
 package org.hiero.mirror.importer.reader.balance;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -64,44 +61,39 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
 
     protected abstract String getVersionHeaderPrefix();
 
+    /**
+     * Reads the balance file by splitting the lines after the header into chunks of about the configured file buffer
+     * size and parsing the chunks in parallel. The file hash is computed in a separate pass over the same bytes.
+     */
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        MessageDigest messageDigest = DigestUtils.getSha384Digest();
-        int bufferSize = balanceParserProperties.getFileBufferSize();
-
-        try (InputStream inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest);
-                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, CHARSET), bufferSize)) {
-            long consensusTimestamp = parseConsensusTimestamp(reader);
-            AtomicLong count = new AtomicLong(0L);
-            List<AccountBalance> items = new ArrayList<>();
-
-            AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
-            accountBalanceFile.setBytes(streamFileData.getBytes());
-            accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
-            accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
-            accountBalanceFile.setName(streamFileData.getFilename());
-
-            reader.lines()
-                    .map(line -> {
-                        try {
-                            AccountBalance accountBalance = parser.parse(line, consensusTimestamp);
-                            count.incrementAndGet();
-                            return accountBalance;
-                        } catch (InvalidDatasetException ex) {
-                            log.error("Error reading line", ex);
-                            return null;
-                        }
-                    })
-                    .filter(Objects::nonNull)
-                    .forEachOrdered(items::add);
-
-            accountBalanceFile.setCount(count.get());
-            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
-            accountBalanceFile.setItems(items);
-            return accountBalanceFile;
+        byte[] bytes = streamFileData.getDecompressedBytes();
+        long consensusTimestamp;
+
+        try (BufferedReader reader =
+                new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes), CHARSET))) {
+            consensusTimestamp = parseConsensusTimestamp(reader);
         } catch (IOException ex) {
             throw new InvalidDatasetException("Error reading account balance file", ex);
         }
+
+        var chunks = getChunks(bytes, getDataOffset(bytes));
+        var parsedChunks = chunks.parallelStream()
+                .map(chunk -> parse(bytes, chunk, consensusTimestamp))
+                .toList();
+        int count = parsedChunks.stream().mapToInt(List::size).sum();
+        var items = new ArrayList<AccountBalance>(count);
+        parsedChunks.forEach(items::addAll);
+
+        AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
+        accountBalanceFile.setBytes(streamFileData.getBytes());
+        accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
+        accountBalanceFile.setCount((long) count);
+        accountBalanceFile.setFileHash(DomainUtils.bytesToHex(DigestUtils.sha384(bytes)));
+        accountBalanceFile.setItems(items);
+        accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
+        accountBalanceFile.setName(streamFileData.getFilename());
+        return accountBalanceFile;
     }
 
     protected abstract long parseConsensusTimestamp(BufferedReader reader);
@@ -110,4 +102,86 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
         Instant instant = Instant.parse(timestamp);
         return DomainUtils.convertToNanosMax(instant);
     }
+
+    /**
+     * Splits the bytes from the offset into chunks that start and end on line boundaries
+     */
+    private List<Chunk> getChunks(byte[] bytes, int offset) {
+        int chunkSize = balanceParserProperties.getFileBufferSize();
+        var chunks = new ArrayList<Chunk>();
+
+        for (int from = offset; from < bytes.length; ) {
+            int to = Math.min(from + chunkSize, bytes.length);
+            while (to < bytes.length && !isLineBoundary(bytes, to)) {
+                to++;
+            }
+
+            chunks.add(new Chunk(from, to));
+            from = to;
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Gets the offset of the first line after the column header. The header was already validated by
+     * parseConsensusTimestamp, which stops at the first line starting with the column header prefix.
+     */
+    private int getDataOffset(byte[] bytes) {
+        for (int from = 0; from < bytes.length; ) {
+            int to = nextLineEnd(bytes, from, bytes.length);
+            String line = new String(bytes, from, to - from, CHARSET);
+            from = nextLineStart(bytes, to, bytes.length);
+
+            if (Strings.CI.startsWith(line, COLUMN_HEADER_PREFIX)) {
+                return from;
+            }
+        }
+
+        return bytes.length;
+    }
+
+    private List<AccountBalance> parse(byte[] bytes, Chunk chunk, long consensusTimestamp) {
+        var items = new ArrayList<AccountBalance>();
+
+        for (int from = chunk.from(); from < chunk.to(); ) {
+            int to = nextLineEnd(bytes, from, chunk.to());
+            String line = new String(bytes, from, to - from, CHARSET);
+            from = nextLineStart(bytes, to, chunk.to());
+
+            try {
+                items.add(parser.parse(line, consensusTimestamp));
+            } catch (InvalidDatasetException ex) {
+                log.error("Error reading line", ex);
+            }
+        }
+
+        return items;
+    }
+
+    // Like BufferedReader, a line ends at a line feed, a carriage return, or a carriage return followed by a line feed
+    private static boolean isLineBoundary(byte[] bytes, int index) {
+        byte previous = bytes[index - 1];
+        return previous == '\n' || (previous == '\r' && bytes[index] != '\n');
+    }
+
+    private static int nextLineEnd(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == '\n' || bytes[i] == '\r') {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    private static int nextLineStart(byte[] bytes, int lineEnd, int to) {
+        if (lineEnd >= to) {
+            return to;
+        }
+
+        return bytes[lineEnd] == '\r' && lineEnd + 1 < to && bytes[lineEnd + 1] == '\n' ? lineEnd + 2 : lineEnd + 1;
+    }
+
+    private record Chunk(int from, int to) {}
 }
@@ -18,17 +18,23 @@ import org.jspecify.annotations.NullUnmarked;
 public final class BlockRootHashDigest {
 
     private static final int HASH_LENGTH = DigestAlgorithm.SHA_384.getSize();
+    // Below this many leaves, hashing the subtrees on the caller's thread is cheaper than forking
+    private static final int PARALLEL_THRESHOLD = 256;
     // Slots 0-7 carry the block's subtree roots, slots 8-15 are reserved for future extension
     private static final int SLOT_COUNT = 16;
 
-    private final IncrementalStreamingHasher consensusHeaderHasher = new IncrementalStreamingHasher();
-    private final IncrementalStreamingHasher inputHasher = new IncrementalStreamingHasher();
-    private final IncrementalStreamingHasher outputHasher = new IncrementalStreamingHasher();
-    private final IncrementalStreamingHasher stateChangesHasher = new IncrementalStreamingHasher();
-    private final IncrementalStreamingHasher traceDataHasher = new IncrementalStreamingHasher();
+    private final Subtree consensusHeaderSubtree = new Subtree();
+    private final Subtree inputSubtree = new Subtree();
+    private final Subtree outputSubtree = new Subtree();
+    private final Subtree stateChangesSubtree = new Subtree();
+    private final Subtree traceDataSubtree = new Subtree();
+    // In slot order
+    private final List<Subtree> subtrees = List.of(
+            consensusHeaderSubtree, inputSubtree, outputSubtree, stateChangesSubtree, traceDataSubtree);
 
     private Timestamp blockTimestamp;
     private boolean finalized;
+    private int leafCount;
     private byte[] previousBlocksTreeHash;
     private byte[] previousHash;
     private byte[] startOfBlockStateHash;
@@ -38,11 +44,11 @@ public final class BlockRootHashDigest {
             throw new IllegalStateException("Can't add more block items once finalized");
         }
 
-        final var hasher =
+        final var subtree =
                 switch (blockItem.getItemCase()) {
                     case BLOCK_HEADER -> {
                         blockTimestamp = blockItem.getBlockHeader().getBlockTimestamp();
-                        yield outputHasher;
+                        yield outputSubtree;
                     }
                     case BLOCK_FOOTER -> {
                         final var blockFooter = blockItem.getBlockFooter();
@@ -51,16 +57,17 @@ public final class BlockRootHashDigest {
                         startOfBlockStateHash = DomainUtils.toBytes(blockFooter.getStartOfBlockStateRootHash());
                         yield null;
                     }
-                    case EVENT_HEADER, ROUND_HEADER -> consensusHeaderHasher;
-                    case RECORD_FILE, TRANSACTION_OUTPUT, TRANSACTION_RESULT -> outputHasher;
-                    case SIGNED_TRANSACTION -> inputHasher;
-                    case STATE_CHANGES -> stateChangesHasher;
-                    case TRACE_DATA -> traceDataHasher;
+                    case EVENT_HEADER, ROUND_HEADER -> consensusHeaderSubtree;
+                    case RECORD_FILE, TRANSACTION_OUTPUT, TRANSACTION_RESULT -> outputSubtree;
+                    case SIGNED_TRANSACTION -> inputSubtree;
+                    case STATE_CHANGES -> stateChangesSubtree;
+                    case TRACE_DATA -> traceDataSubtree;
                     default -> null;
                 };
 
-        if (hasher != null) {
-            hasher.addLeaf(blockItem.toByteArray());
+        if (subtree != null) {
+            subtree.items.add(blockItem);
+            leafCount++;
         }
     }
 
@@ -77,11 +84,13 @@ public final class BlockRootHashDigest {
         slots.add(validate(previousHash, 0));
         slots.add(validate(previousBlocksTreeHash, 1));
         slots.add(validate(startOfBlockStateHash, 2));
-        slots.add(consensusHeaderHasher.computeRootHash());
-        slots.add(inputHasher.computeRootHash());
-        slots.add(outputHasher.computeRootHash());
-        slots.add(stateChangesHasher.computeRootHash());
-        slots.add(traceDataHasher.computeRootHash());
+        if (leafCount < PARALLEL_THRESHOLD) {
+            subtrees.forEach(subtree -> slots.add(subtree.computeRootHash()));
+        } else {
+            // Each subtree is hashed in leaf order on its own, so the subtrees can be hashed concurrently
+            slots.addAll(subtrees.parallelStream().map(Subtree::computeRootHash).toList());
+        }
+
         appendReservedSlots(slots);
 
         final byte[] streamedRootHash = streamedRootOf(slots);
@@ -115,4 +124,21 @@ public final class BlockRootHashDigest {
 
         return hash;
     }
+
+    /**
+     * The leaves of one of the block's subtrees. The leaves are only hashed when the root is computed, so that
+     * subtrees can be hashed concurrently once the whole block is read.
+     */
+    private static final class Subtree {
+
+        private final List<BlockItem> items = new ArrayList<>();
+
+        byte[] computeRootHash() {
+            final var hasher = new IncrementalStreamingHasher();
+            for (final var item : items) {
+                hasher.addLeaf(item.toByteArray());
+            }
+            return hasher.computeRootHash();
+        }
+    }
 }
@@ -6,8 +6,6 @@ import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 import static org.hiero.mirror.importer.reader.block.hash.HashUtils.hashLeaf;
 
 import java.security.MessageDigest;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * A memory-efficient Merkle tree hasher that computes root hashes in a streaming fashion.
@@ -25,8 +23,13 @@ final class IncrementalStreamingHasher {
 
     /** The hashing algorithm used for computing the hashes. */
     private final MessageDigest digest = createSha384Digest();
-    /** A list to store intermediate hashes as we build the tree. */
-    private final List<byte[]> hashList = new LinkedList<>();
+    /**
+     * A stack of the roots of the complete subtrees built so far. There is at most one per set bit of the leaf count,
+     * plus the node being folded.
+     */
+    private final byte[][] hashes = new byte[Long.SIZE + 1][];
+    /** The number of hashes in the stack. */
+    private int size;
     /** The count of leaves in the tree. */
     private long leafCount;
 
@@ -60,19 +63,19 @@ final class IncrementalStreamingHasher {
      *         if no leaves have been added
      */
     public byte[] computeRootHash() {
-        if (hashList.isEmpty()) {
+        if (size == 0) {
             // This value is precomputed as the hash of an empty tree; therefore it should _not_ be hashed as a leaf
             return EMPTY_TREE_HASH;
         }
 
-        if (hashList.size() == 1) {
+        if (size == 1) {
             // This value should already have been hashed as a leaf, and therefore should _not_ be re-hashed
-            return hashList.getFirst();
+            return hashes[0];
         }
 
-        byte[] merkleRootHash = hashList.getLast();
-        for (int i = hashList.size() - 2; i >= 0; i--) {
-            merkleRootHash = hashInternalNode(hashList.get(i), merkleRootHash);
+        byte[] merkleRootHash = hashes[size - 1];
+        for (int i = size - 2; i >= 0; i--) {
+            merkleRootHash = hashInternalNode(hashes[i], merkleRootHash);
         }
         return merkleRootHash;
     }
@@ -84,13 +87,14 @@ final class IncrementalStreamingHasher {
      * @param hash the 48-byte SHA-384 hash of the node to add (must already include the prefixing)
      */
     public void addNodeByHash(final byte[] hash) {
-        hashList.add(hash);
+        hashes[size++] = hash;
         // Fold up: combine sibling pairs while the current position is odd
         for (long n = leafCount; (n & 1L) == 1; n >>= 1) {
-            final byte[] y = hashList.removeLast();
-            final byte[] x = hashList.removeLast();
-            hashList.add(hashInternalNode(x, y));
+            final byte[] y = hashes[--size];
+            final byte[] x = hashes[size - 1];
+            hashes[size - 1] = hashInternalNode(x, y);
         }
+        hashes[size] = null;
         leafCount++;
     }
 
@@ -13,7 +13,6 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.DigestOutputStream;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -28,6 +27,7 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.data.util.Version;
 
@@ -37,6 +37,12 @@ public final class ProtoRecordFileReader implements RecordFileReader {
 
     public static final int VERSION = 6;
 
+    private final RecordItemDecoder recordItemDecoder;
+
+    public ProtoRecordFileReader(RecordParserProperties recordParserProperties) {
+        this.recordItemDecoder = new RecordItemDecoder(recordParserProperties);
+    }
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
@@ -170,20 +176,15 @@ public final class ProtoRecordFileReader implements RecordFileReader {
         var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
         var hapiVersion =
                 new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
-        RecordItem previousItem = null;
+        var items = recordItemDecoder.decode(
+                recordStreamFile.getRecordStreamItemsList(),
+                hapiVersion,
+                recordStreamItem -> RecordItem.builder()
+                        .transactionRecord(recordStreamItem.getRecord())
+                        .transaction(recordStreamItem.getTransaction()));
         long minConsensusTimestamp = Long.MAX_VALUE;
         long maxConsensusTimestamp = Long.MIN_VALUE;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(hapiVersion)
-                    .previous(previousItem)
-                    .transactionRecord(recordStreamItem.getRecord())
-                    .transaction(recordStreamItem.getTransaction())
-                    .transactionIndex(items.size())
-                    .build();
-            items.add(recordItem);
-            previousItem = recordItem;
+        for (var recordItem : items) {
             minConsensusTimestamp = Math.min(minConsensusTimestamp, recordItem.getConsensusTimestamp());
             maxConsensusTimestamp = Math.max(maxConsensusTimestamp, recordItem.getConsensusTimestamp());
         }
@@ -5,6 +5,7 @@ package org.hiero.mirror.importer.reader.record;
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
 import com.google.common.primitives.Longs;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.inject.Named;
@@ -24,6 +25,7 @@ import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
 import org.hiero.mirror.importer.exception.StreamFileReaderException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.reader.AbstractStreamObject;
 import org.hiero.mirror.importer.reader.HashObject;
 import org.hiero.mirror.importer.reader.ValidatedDataInputStream;
@@ -34,6 +36,12 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
     private static final DigestAlgorithm DIGEST_ALGORITHM = DigestAlgorithm.SHA_384;
     private static final int VERSION = 5;
 
+    private final RecordItemDecoder recordItemDecoder;
+
+    public RecordFileReaderImplV5(RecordParserProperties recordParserProperties) {
+        this.recordItemDecoder = new RecordItemDecoder(recordParserProperties);
+    }
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         MessageDigest messageDigestFile = createSha384Digest();
@@ -91,36 +99,22 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         metadataDigestInputStream.on(false); // metadata hash is not calculated on record stream objects
         long hashObjectClassId = startHashObject.getClassId();
 
-        int count = 0;
-        long consensusStart = 0;
-        List<RecordItem> items = new ArrayList<>();
-        RecordItem lastRecordItem = null;
+        List<RecordStreamObject> recordStreamObjects = new ArrayList<>();
 
         // read record stream objects
         while (!isHashObject(vdis, hashObjectClassId)) {
-            RecordStreamObject recordStreamObject = new RecordStreamObject(vdis);
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(recordFile.getHapiVersion())
-                    .previous(lastRecordItem)
-                    .transactionRecord(TransactionRecord.parseFrom(recordStreamObject.recordBytes))
-                    .transactionIndex(count)
-                    .transaction(Transaction.parseFrom(recordStreamObject.transactionBytes))
-                    .build();
-
-            items.add(recordItem);
-
-            if (count == 0) {
-                consensusStart = recordItem.getConsensusTimestamp();
-            }
-
-            lastRecordItem = recordItem;
-            count++;
+            recordStreamObjects.add(new RecordStreamObject(vdis));
         }
 
+        int count = recordStreamObjects.size();
         if (count == 0) {
             throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
-        long consensusEnd = lastRecordItem.getConsensusTimestamp();
+
+        var items = recordItemDecoder.decode(
+                recordStreamObjects, recordFile.getHapiVersion(), o -> decode(o, filename));
+        long consensusStart = items.getFirst().getConsensusTimestamp();
+        long consensusEnd = items.getLast().getConsensusTimestamp();
 
         // end object running hash, metadata hash is calculated on it
         metadataDigestInputStream.on(true);
@@ -138,6 +132,16 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         recordFile.setPreviousHash(Hex.encodeHexString(startHashObject.getHash()));
     }
 
+    private RecordItem.RecordItemBuilder decode(RecordStreamObject recordStreamObject, String filename) {
+        try {
+            return RecordItem.builder()
+                    .transactionRecord(TransactionRecord.parseFrom(recordStreamObject.recordBytes))
+                    .transaction(Transaction.parseFrom(recordStreamObject.transactionBytes));
+        } catch (InvalidProtocolBufferException e) {
+            throw new StreamFileReaderException("Error reading record file " + filename, e);
+        }
+    }
+
     private boolean isHashObject(DataInputStream dis, long hashObjectClassId) throws IOException {
         dis.mark(Longs.BYTES);
         long classId = dis.readLong();
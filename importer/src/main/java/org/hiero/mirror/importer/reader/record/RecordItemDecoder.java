@@ -0,0 +1,49 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.common.domain.transaction.RecordItem.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.springframework.data.util.Version;
+
+/**
+ * Builds the record items of a record file from their raw stream objects. When parallel decoding is enabled and the
+ * file is large enough, the protobuf messages are parsed on the common fork-join pool and only the order dependent
+ * linking of the previous and parent items and the transaction index is done in a sequential pass.
+ */
+@RequiredArgsConstructor
+final class RecordItemDecoder {
+
+    private final RecordParserProperties recordParserProperties;
+
+    <S> List<RecordItem> decode(List<S> sources, Version hapiVersion, Function<S, RecordItemBuilder> decoder) {
+        int count = sources.size();
+        List<RecordItemBuilder> decoded = null;
+
+        if (recordParserProperties.getDecode().isParallel(count)) {
+            decoded = sources.parallelStream()
+                    .map(source -> decoder.apply(source).decode())
+                    .toList();
+        }
+
+        var items = new ArrayList<RecordItem>(count);
+        RecordItem previous = null;
+
+        for (int i = 0; i < count; i++) {
+            var builder = decoded != null ? decoded.get(i) : decoder.apply(sources.get(i));
+            var recordItem = builder.hapiVersion(hapiVersion)
+                    .previous(previous)
+                    .transactionIndex(i)
+                    .build();
+            items.add(recordItem);
+            previous = recordItem;
+        }
+
+        return items;
+    }
+}
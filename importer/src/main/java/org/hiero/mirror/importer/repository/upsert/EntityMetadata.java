@@ -9,10 +9,11 @@ import lombok.Value;
 import org.hiero.mirror.common.domain.Upsertable;
 
 /**
- * Contains the metadata associated with an @Upsertable entity. Used to generate dynamic upsert SQL.
+ * Contains the metadata associated with an entity. Used to generate dynamic upsert SQL and binary COPY encoders. The
+ * upsertable is null for entities that are not annotated with @Upsertable.
  */
 @Value
-class EntityMetadata {
+public class EntityMetadata {
 
     private final String tableName;
     private final Upsertable upsertable;
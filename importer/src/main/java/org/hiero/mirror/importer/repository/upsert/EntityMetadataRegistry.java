@@ -43,16 +43,25 @@ public final class EntityMetadataRegistry {
     private final JdbcOperations jdbcOperations;
 
     public EntityMetadata lookup(Class<?> domainClass) {
+        if (AnnotationUtils.findAnnotation(domainClass, Upsertable.class) == null) {
+            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
+        }
+
+        return lookupEntity(domainClass);
+    }
+
+    /**
+     * Looks up the metadata of any JPA entity, regardless of whether it's annotated with @Upsertable.
+     *
+     * @param domainClass the entity class
+     * @return the entity metadata
+     */
+    public EntityMetadata lookupEntity(Class<?> domainClass) {
         return domainEntityMetadata.computeIfAbsent(domainClass, this::create);
     }
 
     private EntityMetadata create(Class<?> domainClass) {
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
-
-        if (upsertable == null) {
-            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
-        }
-
         EntityType<?> entityType = entityManager.getMetamodel().entity(domainClass);
         Table table = AnnotationUtils.findAnnotation(domainClass, Table.class);
         String tableName = table != null ? table.name() : toSnakeCase(entityType.getName());
@@ -67,11 +76,12 @@ public final class EntityMetadataRegistry {
             if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
                 var persistentAttribute = (SingularPersistentAttribute) attribute;
                 var embeddableType = (EmbeddableType<?>) persistentAttribute.getType();
+                var parentGetter = getter((Field) attribute.getJavaMember());
                 embeddableType
                         .getDeclaredSingularAttributes()
-                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id)));
+                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id, parentGetter)));
             } else {
-                columnMetadata.add(columnMetadata(schema, attribute, id));
+                columnMetadata.add(columnMetadata(schema, attribute, id, null));
             }
         }
 
@@ -82,7 +92,10 @@ public final class EntityMetadataRegistry {
 
     @SuppressWarnings("java:S4276")
     private ColumnMetadata columnMetadata(
-            Map<String, InformationSchemaColumns> schema, Attribute<?, ?> attribute, boolean id) {
+            Map<String, InformationSchemaColumns> schema,
+            Attribute<?, ?> attribute,
+            boolean id,
+            Function<Object, Object> parentGetter) {
         String name = attribute.getName();
         Field field = (Field) attribute.getJavaMember();
         Column column = field.getAnnotation(Column.class);
@@ -97,10 +110,11 @@ public final class EntityMetadataRegistry {
             throw new IllegalStateException("Missing information schema for " + columnName);
         }
 
-        var getter = getter(field);
+        var getter = embeddedGetter(parentGetter, getter(field));
         var setter = setter(field);
         boolean updatable = !id && (column == null || column.updatable());
         return new ColumnMetadata(
+                columnSchema.getDataType(),
                 columnSchema.getColumnDefault(),
                 getter,
                 id,
@@ -118,7 +132,7 @@ public final class EntityMetadataRegistry {
     private Map<String, InformationSchemaColumns> getColumnSchema(String tableName) {
         String sql = """
                 select distinct column_name, regexp_replace(column_default, '::.*', '') as column_default,
-                is_nullable = 'YES' as nullable from information_schema.columns
+                is_nullable = 'YES' as nullable, udt_name from information_schema.columns
                 where table_name = ? and table_schema = ?
                 """;
 
@@ -129,6 +143,7 @@ public final class EntityMetadataRegistry {
                     columnSchema.setColumnName(rs.getString(1));
                     columnSchema.setColumnDefault(rs.getString(2));
                     columnSchema.setNullable(rs.getBoolean(3));
+                    columnSchema.setDataType(rs.getString(4));
                     return columnSchema;
                 },
                 tableName,
@@ -160,6 +175,22 @@ public final class EntityMetadataRegistry {
         }
     }
 
+    /*
+     * The getter of an embedded attribute's column is declared on the embeddable class, so compose it with the getter
+     * of the embedded attribute to be able to read the column value from the entity itself.
+     */
+    private Function<Object, Object> embeddedGetter(
+            Function<Object, Object> parentGetter, Function<Object, Object> getter) {
+        if (parentGetter == null) {
+            return getter;
+        }
+
+        return value -> {
+            var embedded = parentGetter.apply(value);
+            return embedded != null ? getter.apply(embedded) : null;
+        };
+    }
+
     private Function<Object, Object> getter(Field field) {
         try {
             final var prefix = field.getType().equals(boolean.class) ? "is" : "get";
@@ -199,6 +230,7 @@ public final class EntityMetadataRegistry {
     static class InformationSchemaColumns {
         private String columnName;
         private String columnDefault;
+        private String dataType;
         private boolean nullable;
     }
 }
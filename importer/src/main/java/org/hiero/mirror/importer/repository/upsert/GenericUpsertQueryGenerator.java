@@ -38,8 +38,7 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
         velocityEngine.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
         velocityEngine.init();
 
-        String templatePath = metadata.getUpsertable().history() ? UPSERT_HISTORY_TEMPLATE : UPSERT_TEMPLATE;
-        Template template = velocityEngine.getTemplate(templatePath);
+        Template template = velocityEngine.getTemplate(getTemplatePath());
 
         VelocityContext velocityContext = new VelocityContext();
         velocityContext.put("finalTable", getFinalTableName());
@@ -66,6 +65,10 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
         return writer.toString();
     }
 
+    protected String getTemplatePath() {
+        return metadata.getUpsertable().history() ? UPSERT_HISTORY_TEMPLATE : UPSERT_TEMPLATE;
+    }
+
     private String closeRange(String input) {
         return input.replace(
                 "e_timestamp_range", "int8range(lower(e_timestamp_range), lower(timestamp_range)) as timestamp_range");
@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.repository.upsert;
+
+/**
+ * Generates an upsert query for rows of a history table that were already merged with the existing row by the
+ * importer. Closed rows are inserted into the history table as is and the current row replaces the existing row, so
+ * there is no need to join against the final table.
+ */
+public class MergedUpsertQueryGenerator extends GenericUpsertQueryGenerator {
+
+    private static final String UPSERT_MERGED_TEMPLATE = "/db/template/upsert_merged.vm";
+
+    public MergedUpsertQueryGenerator(EntityMetadata metadata) {
+        super(metadata);
+
+        if (!metadata.getUpsertable().history()) {
+            throw new IllegalArgumentException("Table " + metadata.getTableName() + " has no history table");
+        }
+    }
+
+    @Override
+    protected String getTemplatePath() {
+        return UPSERT_MERGED_TEMPLATE;
+    }
+}
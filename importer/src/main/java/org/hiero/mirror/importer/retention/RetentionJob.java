@@ -17,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.Strings;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.RetentionRepository;
 import org.hiero.mirror.importer.util.Utility;
@@ -31,6 +32,7 @@ public class RetentionJob {
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -53,6 +55,10 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(maxTimestamp);
+            }
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -63,6 +69,26 @@ public class RetentionJob {
         }
     }
 
+    /**
+     * Drops whole time partitions that are past the retention period so that only the boundary partition and tables
+     * without time partitions need row level deletes. Every time partitioned table is partitioned on the same timestamp
+     * column its repository prunes on.
+     */
+    private void dropPartitions(long maxTimestamp) {
+        var stopwatch = Stopwatch.createStarted();
+        int count = 0;
+
+        for (var repository : retentionRepositories) {
+            String table = getTableName(repository);
+
+            if (retentionProperties.shouldPrune(table)) {
+                count += timePartitionService.dropTimePartitions(table, maxTimestamp).size();
+            }
+        }
+
+        log.info("Dropped {} time partitions on or before {} in {}", count, toInstant(maxTimestamp), stopwatch);
+    }
+
     private void prune(RecordFileIterator iterator) {
         var counters = iterator.getCounters();
         long countBefore = counters.values().stream().reduce(0L, Long::sum);
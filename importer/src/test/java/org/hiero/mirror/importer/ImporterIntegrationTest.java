@@ -38,6 +38,7 @@ import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.flywaydb.core.Flyway;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.config.CommonIntegrationTest;
+import org.hiero.mirror.common.config.CommonTestConfiguration;
 import org.hiero.mirror.common.config.RedisTestConfiguration;
 import org.hiero.mirror.common.converter.EntityIdConverter;
 import org.hiero.mirror.common.domain.DomainBuilder;
@@ -56,6 +57,9 @@ import org.postgresql.util.PGobject;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.support.DefaultConversionService;
@@ -63,9 +67,10 @@ import org.springframework.jdbc.core.DataClassRowMapper;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.testcontainers.postgresql.PostgreSQLContainer;
 
 @ExtendWith(SoftAssertionsExtension.class)
-@Import(RedisTestConfiguration.class)
+@Import({ImporterIntegrationTest.Configuration.class, RedisTestConfiguration.class})
 public abstract class ImporterIntegrationTest extends CommonIntegrationTest {
 
     protected static final CommonProperties COMMON_PROPERTIES = CommonProperties.getInstance();
@@ -251,4 +256,23 @@ public abstract class ImporterIntegrationTest extends CommonIntegrationTest {
             return sql;
         }
     }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class Configuration {
+
+        // The parallel flush commits each table worker as a prepared transaction, which are disabled by default
+        @Bean
+        static BeanPostProcessor postgresqlCustomizer() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof PostgreSQLContainer postgresql
+                            && CommonTestConfiguration.POSTGRESQL.equals(beanName)) {
+                        postgresql.withCommand("postgres", "-c", "fsync=off", "-c", "max_prepared_transactions=16");
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
 }
@@ -83,6 +83,40 @@ class TimePartitionServiceTest extends ImporterIntegrationTest {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
     }
 
+    @Test
+    void dropTimePartitions() {
+        ownerJdbcTemplate.execute("""
+                create table retention_event (timestamp bigint not null) partition by range (timestamp);
+                create table retention_event_00 partition of retention_event for values from ('1000') to ('2000');
+                create table retention_event_01 partition of retention_event for values from ('2000') to ('3000');
+                create table retention_event_02 partition of retention_event for values from ('3000') to ('4000');
+                insert into retention_event values (1000), (2500), (3999);
+                """);
+
+        try {
+            assertThat(timePartitionService.getTimePartitions("retention_event")).hasSize(3);
+            assertThat(timePartitionService.dropTimePartitions("retention_event", 2998L))
+                    .extracting(TimePartition::getName)
+                    .containsExactly("retention_event_00");
+            assertThat(timePartitionService.dropTimePartitions("retention_event", 5000L))
+                    .extracting(TimePartition::getName)
+                    .containsExactly("retention_event_01");
+            assertThat(timePartitionService.getTimePartitions("retention_event"))
+                    .extracting(TimePartition::getName)
+                    .containsExactly("retention_event_02");
+            assertThat(ownerJdbcTemplate.queryForList("select timestamp from retention_event", Long.class))
+                    .containsExactly(3999L);
+        } finally {
+            ownerJdbcTemplate.execute("drop table retention_event cascade");
+        }
+    }
+
+    @Test
+    void dropTimePartitionsNotPartitioned() {
+        assertThat(timePartitionService.dropTimePartitions("not_partitioned", Long.MAX_VALUE)).isEmpty();
+        assertThat(timePartitionService.dropTimePartitions("location", Long.MAX_VALUE)).isEmpty();
+    }
+
     @Test
     void getTimePartitionsEmpty() {
         // Table location is partitioned but not partitioned on timestamp
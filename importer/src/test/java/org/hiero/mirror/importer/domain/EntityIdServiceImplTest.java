@@ -9,10 +9,13 @@ import static org.hiero.mirror.importer.util.UtilityTest.ALIAS_ECDSA_SECP256K1;
 import static org.hiero.mirror.importer.util.UtilityTest.EVM_ADDRESS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.RecordItemBuilder;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
@@ -60,6 +63,7 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
 
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
 
     private static Stream<Arguments> shardAndRealmData() {
         return Stream.of(Arguments.of(0L, 0L), Arguments.of(1L, 0L), Arguments.of(0L, 1L), Arguments.of(1L, 2L));
@@ -93,6 +97,42 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         assertThat(entityIdService.lookup(contractIdProto)).isEmpty();
     }
 
+    @Test
+    void preload() {
+        var account = domainBuilder.entity().persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var accountId = getProtoAccountId(account);
+        var contractId = getProtoContractId(contract);
+        var recordItems = List.of(
+                recordItemBuilder
+                        .cryptoTransfer()
+                        .transactionBody(b -> b.getTransfersBuilder()
+                                .addAccountAmounts(AccountAmount.newBuilder()
+                                        .setAccountID(accountId)
+                                        .setAmount(-1L)))
+                        .build(),
+                recordItemBuilder.contractCall(contractId).build());
+
+        entityIdService.preload(recordItems);
+        entityRepository.deleteAll();
+
+        // cache hit
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+    }
+
+    @Test
+    void preloadNothingToResolve() {
+        var recordItems = List.of(
+                recordItemBuilder.cryptoTransfer().build(),
+                recordItemBuilder.contractCall().build());
+
+        assertDoesNotThrow(() -> entityIdService.preload(recordItems));
+    }
+
     @Test
     void lookupAccountNum() {
         AccountID accountId = AccountID.newBuilder().setAccountNum(100).build();
@@ -242,7 +242,8 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         signatureFileReader = new CompositeSignatureFileReader(
                 new SignatureFileReaderV2(), new SignatureFileReaderV5(), new ProtoSignatureFileReader());
         var consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         downloader = getDownloader();
         streamType = downloaderProperties.getStreamType();
 
@@ -271,6 +272,23 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @Test
+    @DisplayName("Download and verify files with look-ahead")
+    void downloadLookAhead() {
+        commonDownloaderProperties.setLookAhead(4);
+        fileCopier.copy();
+
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        var depth = meterRegistry
+                .get(Downloader.PIPELINE_DEPTH_METRIC_NAME)
+                .tag("stage", Downloader.PIPELINE_STAGE_DOWNLOAD)
+                .gauge();
+        assertThat(depth.value()).isZero();
+    }
+
     @Test
     @DisplayName("Non-unanimous consensus reached")
     void partialConsensus() throws IOException {
@@ -515,8 +533,10 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         verifyForSuccess();
     }
 
-    @Test
-    void singleNodeStreamFileCorrupted() throws Exception {
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void singleNodeStreamFileCorrupted(int lookAhead) throws Exception {
+        commonDownloaderProperties.setLookAhead(lookAhead);
         corruptedNodeAccountId = nodes.iterator().next().getNodeAccountId();
         fileCopier.copy();
         Files.walk(s3Path)
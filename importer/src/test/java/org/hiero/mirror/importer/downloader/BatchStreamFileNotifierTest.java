@@ -10,8 +10,11 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.util.concurrent.Uninterruptibles;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import lombok.CustomLog;
 import org.hiero.mirror.common.domain.DomainBuilder;
 import org.hiero.mirror.importer.parser.balance.AccountBalanceFileParser;
@@ -31,6 +34,7 @@ class BatchStreamFileNotifierTest {
 
     private final BalanceParserProperties balanceParserProperties = new BalanceParserProperties();
     private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
     private final RecordParserProperties recordParserProperties = new RecordParserProperties();
 
     @Mock
@@ -49,7 +53,7 @@ class BatchStreamFileNotifierTest {
         balanceParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
         recordParserProperties.setFrequency(Duration.ofMillis(1L));
         recordParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, meterRegistry, recordFileParser);
     }
 
     @AfterEach
@@ -161,12 +165,49 @@ class BatchStreamFileNotifierTest {
         verify(recordFileParser).parse(recordFile);
     }
 
+    @Test
+    void pipelineMetrics() throws InterruptedException {
+        recordParserProperties.getBatch().setMaxFiles(1);
+        var latch = new CountDownLatch(1);
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+
+        doAnswer(invocation -> {
+                    latch.await();
+                    return null;
+                })
+                .when(recordFileParser)
+                .parse(recordFile1);
+
+        notifier.verified(recordFile1);
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(100L));
+        notifier.verified(recordFile2);
+
+        var depth = meterRegistry
+                .get(Downloader.PIPELINE_DEPTH_METRIC_NAME)
+                .tag("stage", Downloader.PIPELINE_STAGE_PARSE)
+                .tag("type", "RECORD")
+                .gauge();
+        var occupancy = meterRegistry
+                .get(Downloader.PIPELINE_OCCUPANCY_METRIC_NAME)
+                .tag("stage", Downloader.PIPELINE_STAGE_PARSE)
+                .tag("type", "RECORD")
+                .gauge();
+        assertThat(depth.value()).isOne();
+        assertThat(occupancy.value()).isEqualTo(0.1);
+
+        latch.countDown();
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(200L));
+        verify(recordFileParser).parse(recordFile2);
+        assertThat(depth.value()).isZero();
+    }
+
     @Test
     void queueCapacityReached() {
         recordParserProperties.getBatch().setQueueCapacity(1);
         recordParserProperties.getBatch().setMaxFiles(1);
         notifier.close();
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, meterRegistry, recordFileParser);
         var recordFile1 = domainBuilder.recordFile().get();
         var recordFile2 = domainBuilder.recordFile().get();
         var recordFile3 = domainBuilder.recordFile().get();
@@ -7,6 +7,8 @@ import static org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStat
 import static org.hiero.mirror.importer.domain.StreamFileSignature.SignatureStatus.VERIFIED;
 import static org.mockito.ArgumentMatchers.any;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.KeyPair;
@@ -14,6 +16,7 @@ import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.SneakyThrows;
 import org.hiero.mirror.common.domain.StreamType;
@@ -24,11 +27,11 @@ import org.hiero.mirror.importer.domain.ConsensusNodeStub;
 import org.hiero.mirror.importer.domain.StreamFileSignature;
 import org.hiero.mirror.importer.domain.StreamFileSignature.SignatureType;
 import org.hiero.mirror.importer.domain.StreamFilename;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -40,11 +43,11 @@ class NodeSignatureVerifierTest {
     private Signature signer;
 
     private CommonDownloaderProperties commonDownloaderProperties;
+    private MeterRegistry meterRegistry;
 
     @Mock
     private ConsensusValidator consensusValidator;
 
-    @InjectMocks
     private NodeSignatureVerifier nodeSignatureVerifier;
 
     @BeforeAll
@@ -61,12 +64,19 @@ class NodeSignatureVerifierTest {
         commonDownloaderProperties = new CommonDownloaderProperties(new ImporterProperties());
         commonDownloaderProperties.setConsensusRatio(
                 BigDecimal.ONE.divide(BigDecimal.valueOf(3), 19, RoundingMode.DOWN));
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         signer = Signature.getInstance("SHA384withRSA", "SunRsaSign");
         signer.initSign(privateKey);
         consensusValidator.validate(any());
     }
 
+    @AfterEach
+    void teardown() {
+        nodeSignatureVerifier.close();
+    }
+
     @Test
     void v2() {
         var signature = streamFileSignature();
@@ -109,6 +119,97 @@ class NodeSignatureVerifierTest {
                 .containsExactly(VERIFIED, VERIFIED, DOWNLOADED);
     }
 
+    @Test
+    void concurrent() {
+        var signatures = new ArrayList<StreamFileSignature>();
+        for (int i = 0; i < 10; i++) {
+            var signature = streamFileSignature(i, 10L);
+            if (i % 3 == 0) {
+                signature.setFileHashSignature(corruptSignature(signature.getFileHashSignature()));
+            }
+            signatures.add(signature);
+        }
+
+        nodeSignatureVerifier.verify(signatures);
+
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(
+                        DOWNLOADED, VERIFIED, VERIFIED, DOWNLOADED, VERIFIED, VERIFIED, DOWNLOADED, VERIFIED,
+                        VERIFIED, DOWNLOADED);
+        assertThat(verifications()).isEqualTo(10);
+        assertThat(skipped()).isZero();
+    }
+
+    @Test
+    void shortCircuit() {
+        commonDownloaderProperties.setSignatureConcurrency(1);
+        commonDownloaderProperties.setSignatureShortCircuit(true);
+        var fileHash = TestUtils.generateRandomByteArray(48);
+        var signatures = new ArrayList<StreamFileSignature>();
+        for (int i = 0; i < 6; i++) {
+            signatures.add(streamFileSignature(i, 6L, fileHash));
+        }
+        signatures.getFirst().setFileHashSignature(corruptSignature(signatures.getFirst().getFileHashSignature()));
+
+        nodeSignatureVerifier.verify(signatures);
+
+        // 2 of 6 stake is required for consensus
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(DOWNLOADED, VERIFIED, VERIFIED, DOWNLOADED, DOWNLOADED, DOWNLOADED);
+        assertThat(verifications()).isEqualTo(3);
+        assertThat(skipped()).isEqualTo(3);
+    }
+
+    @Test
+    void shortCircuitConcurrent() {
+        commonDownloaderProperties.setSignatureShortCircuit(true);
+        var fileHash = TestUtils.generateRandomByteArray(48);
+        var signatures = new ArrayList<StreamFileSignature>();
+        for (int i = 0; i < 20; i++) {
+            signatures.add(streamFileSignature(i, 20L, fileHash));
+        }
+
+        nodeSignatureVerifier.verify(signatures);
+
+        // 7 of 20 stake is required for consensus
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .filteredOn(VERIFIED::equals)
+                .hasSize(7);
+        assertThat(verifications()).isBetween(7.0, 10.0);
+        assertThat(skipped()).isBetween(10.0, 13.0);
+    }
+
+    @Test
+    void shortCircuitDifferentHashes() {
+        commonDownloaderProperties.setSignatureConcurrency(1);
+        commonDownloaderProperties.setSignatureShortCircuit(true);
+        var signatures = new ArrayList<StreamFileSignature>();
+        for (int i = 0; i < 3; i++) {
+            signatures.add(streamFileSignature(i, 6L));
+        }
+
+        nodeSignatureVerifier.verify(signatures);
+
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).containsOnly(VERIFIED);
+        assertThat(skipped()).isZero();
+    }
+
+    @Test
+    void shortCircuitNoConsensusRatio() {
+        commonDownloaderProperties.setConsensusRatio(BigDecimal.ZERO);
+        commonDownloaderProperties.setSignatureShortCircuit(true);
+        commonDownloaderProperties.setSignatureConcurrency(1);
+        var signatures = List.of(streamFileSignature(0L, 2L), streamFileSignature(1L, 2L));
+
+        nodeSignatureVerifier.verify(signatures);
+
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).containsExactly(VERIFIED, DOWNLOADED);
+        assertThat(skipped()).isOne();
+    }
+
     @Test
     void invalidFileSignature() {
         var signature = streamFileSignature();
@@ -188,12 +289,34 @@ class NodeSignatureVerifierTest {
                 .doesNotContain(VERIFIED);
     }
 
+    private double skipped() {
+        var counter = meterRegistry.find(NodeSignatureVerifier.SKIPPED_METRIC_NAME).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private double verifications() {
+        return meterRegistry
+                .get(NodeSignatureVerifier.VERIFICATIONS_METRIC_NAME)
+                .summary()
+                .totalAmount();
+    }
+
     private StreamFileSignature streamFileSignature() {
-        var fileHash = TestUtils.generateRandomByteArray(48);
+        return streamFileSignature(0L, 1L);
+    }
+
+    private StreamFileSignature streamFileSignature(long nodeId, long totalStake) {
+        return streamFileSignature(nodeId, totalStake, TestUtils.generateRandomByteArray(48));
+    }
+
+    private StreamFileSignature streamFileSignature(long nodeId, long totalStake, byte[] fileHash) {
         var metadataHash = TestUtils.generateRandomByteArray(48);
         var node = ConsensusNodeStub.builder()
-                .nodeAccountId(EntityId.of("0.0.3"))
+                .nodeAccountId(EntityId.of(3L + nodeId))
+                .nodeId(nodeId)
                 .publicKey(publicKey)
+                .stake(1L)
+                .totalStake(totalStake)
                 .build();
 
         StreamFileSignature streamFileSignature = new StreamFileSignature();
@@ -192,6 +192,7 @@ abstract class AbstractBlockNodeIntegrationTest extends ImporterIntegrationTest
                 blockStreamVerifier,
                 commonDownloaderProperties,
                 cutoverService,
+                meterRegistry,
                 blockProperties,
                 schedulerSupplier);
     }
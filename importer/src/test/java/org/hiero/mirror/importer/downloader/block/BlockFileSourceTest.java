@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.assertArg;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -47,6 +48,7 @@ import org.hiero.mirror.importer.ImporterProperties;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.addressbook.ConsensusNodeService;
 import org.hiero.mirror.importer.downloader.CommonDownloaderProperties;
+import org.hiero.mirror.importer.downloader.Downloader;
 import org.hiero.mirror.importer.downloader.NodeSignatureVerifier;
 import org.hiero.mirror.importer.downloader.block.cutover.CutoverProperties;
 import org.hiero.mirror.importer.downloader.block.cutover.CutoverService;
@@ -55,6 +57,7 @@ import org.hiero.mirror.importer.downloader.block.tss.LedgerIdPublicationTransac
 import org.hiero.mirror.importer.downloader.block.tss.TssVerifier;
 import org.hiero.mirror.importer.downloader.provider.S3StreamFileProvider;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
+import org.hiero.mirror.importer.downloader.provider.TransientProviderException;
 import org.hiero.mirror.importer.downloader.record.RecordDownloaderProperties;
 import org.hiero.mirror.importer.exception.BlockStreamException;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
@@ -72,6 +75,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -82,6 +86,7 @@ import reactor.core.publisher.Mono;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 @ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
 final class BlockFileSourceTest {
@@ -106,6 +111,7 @@ final class BlockFileSourceTest {
     private RecordFileRepository recordFileRepository;
 
     private S3Proxy s3Proxy;
+    private S3StreamFileProvider streamFileProvider;
 
     private static BlockFile blockFile(int index) {
         return TEST_BLOCK_FILES.get(index);
@@ -132,7 +138,7 @@ final class BlockFileSourceTest {
                 .forcePathStyle(true)
                 .region(Region.of(commonDownloaderProperties.getRegion()))
                 .build();
-        var streamFileProvider = new S3StreamFileProvider(properties, commonDownloaderProperties, s3AsyncClient);
+        streamFileProvider = spy(new S3StreamFileProvider(properties, commonDownloaderProperties, s3AsyncClient));
         var blockFileTransformer = mock(BlockFileTransformer.class);
         lenient()
                 .doAnswer(invocation -> {
@@ -300,6 +306,125 @@ final class BlockFileSourceTest {
         verifyArchivedFile(blockFile(1).getName());
     }
 
+    @Test
+    void lookAhead(final CapturedOutput output) {
+        // given
+        commonDownloaderProperties.setLookAhead(3);
+        filterFiles(blockFile(0)).copy();
+        filterFiles(blockFile(1)).copy();
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .consensusStart(blockFile(0).getConsensusStart())
+                        .build()));
+
+        // when
+        blockFileSource.get();
+
+        // then both blocks are verified in order and the missing next block ends the window without error
+        final var captor = ArgumentCaptor.forClass(BlockFile.class);
+        verify(blockStreamVerifier, times(2)).verify(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(BlockFile::getIndex)
+                .containsExactly(blockNumber(0), blockNumber(1));
+        verify(recordFileRepository).findLatest();
+        assertThat(meterRegistry
+                        .get(Downloader.PIPELINE_DEPTH_METRIC_NAME)
+                        .tag("stage", Downloader.PIPELINE_STAGE_DOWNLOAD)
+                        .tag("type", StreamType.BLOCK.toString())
+                        .gauge()
+                        .value())
+                .isZero();
+
+        final var logs = output.getAll();
+        assertThat(countMatches(logs, "Downloaded block file " + blockFile(0).getName()))
+                .isOne();
+        assertThat(countMatches(logs, "Downloaded block file " + blockFile(1).getName()))
+                .isOne();
+    }
+
+    @Test
+    void lookAheadNextBlockNotFound() {
+        // given
+        commonDownloaderProperties.setLookAhead(3);
+        filterFiles(blockFile(0)).copy();
+        final var missing = BlockFile.getFilename(blockNumber(1), true);
+        doReturn(Mono.error(new TransientProviderException(NoSuchKeyException.builder().build())))
+                .when(streamFileProvider)
+                .get(argThat(s -> s.getFilename().equals(missing)));
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .consensusStart(blockFile(0).getConsensusStart())
+                        .build()));
+
+        // when
+        blockFileSource.get();
+
+        // then the missing next block ends the window without error
+        verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == blockNumber(0)));
+        verify(blockStreamVerifier, never()).verify(argThat(b -> b.getIndex() == blockNumber(1)));
+    }
+
+    @Test
+    void lookAheadNextBlockFailure() {
+        // given
+        commonDownloaderProperties.setLookAhead(3);
+        filterFiles(blockFile(0)).copy();
+        filterFiles(blockFile(1)).copy();
+        final var failed = BlockFile.getFilename(blockNumber(1), true);
+        doReturn(Mono.error(new IllegalStateException("Access denied")))
+                .when(streamFileProvider)
+                .get(argThat(s -> s.getFilename().equals(failed)));
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .consensusStart(blockFile(0).getConsensusStart())
+                        .build()));
+
+        // when, then
+        assertThatThrownBy(blockFileSource::get)
+                .isInstanceOf(BlockStreamException.class)
+                .hasMessage("Failed to download block file " + failed)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == blockNumber(0)));
+        verify(blockStreamVerifier, never()).verify(argThat(b -> b.getIndex() == blockNumber(1)));
+    }
+
+    @Test
+    void lookAheadEndBlockNumber() {
+        // given
+        commonDownloaderProperties.setLookAhead(3);
+        final var block0 = blockFile(0);
+        importerProperties.setStartBlockNumber(block0.getIndex());
+        importerProperties.setEndBlockNumber(block0.getIndex());
+        filterFiles(block0).copy();
+        filterFiles(blockFile(1)).copy();
+
+        // when
+        blockFileSource.get();
+
+        // then
+        verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == block0.getIndex()));
+        verify(blockStreamVerifier, never()).verify(argThat(b -> b.getIndex() == blockNumber(1)));
+    }
+
+    @Test
+    void lookAheadGenesisNotFound() {
+        // given
+        commonDownloaderProperties.setLookAhead(3);
+        final var filename = BlockFile.getFilename(0L, true);
+
+        // when, then
+        assertThatThrownBy(blockFileSource::get)
+                .isInstanceOf(BlockStreamException.class)
+                .hasMessage("Failed to download block file " + filename);
+        verify(blockStreamVerifier, never()).verify(any(BlockFile.class));
+    }
+
     @Test
     void genesisNotFound(final CapturedOutput output) {
         // given, when
@@ -23,11 +23,15 @@ import com.asarkar.grpc.test.Resources;
 import io.grpc.Server;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import lombok.SneakyThrows;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.hiero.block.api.protoc.BlockNodeServiceGrpc;
@@ -83,6 +87,7 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
     @Mock
     private CutoverService cutoverService;
 
+    private BlockProperties blockProperties;
     private CommonDownloaderProperties commonDownloaderProperties;
     private Map<String, Server> servers;
     private Map<String, Integer> statusCalls;
@@ -91,10 +96,10 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
     @BeforeEach
     void setup() {
         commonDownloaderProperties = new CommonDownloaderProperties(new ImporterProperties());
-        final var blockProperties = new BlockProperties(commonDownloaderProperties.getImporterProperties());
+        blockProperties = new BlockProperties(commonDownloaderProperties.getImporterProperties());
         servers = new HashMap<>();
         statusCalls = new HashMap<>();
-        streamCalls = new HashMap<>();
+        streamCalls = new ConcurrentHashMap<>();
         final var blockNodeProperties = List.of(
                 blockNodeProperties(0, SERVER_NAMES[0]),
                 blockNodeProperties(0, SERVER_NAMES[1]),
@@ -114,6 +119,7 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
                 blockStreamVerifier,
                 commonDownloaderProperties,
                 cutoverService,
+                meterRegistry,
                 blockProperties,
                 schedulerFactory);
     }
@@ -451,6 +457,196 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
         verify(cutoverService, times(3)).getNextBlockNumber();
     }
 
+    @Test
+    void getHedged(Resources resources) {
+        // given
+        blockProperties.getStream().setHedgedStreams(2);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        for (int i = 0; i < 2; i++) {
+            startServer(
+                    SERVER_NAMES[i],
+                    resources,
+                    serverStatusResponse(10, 11),
+                    ResponsesOrError.fromResponses(fullBlockResponses(10)).addResponses(fullBlockResponses(11)));
+        }
+
+        // when
+        blockNodeSubscriber.get();
+
+        // then each block is processed once regardless of which node delivered it first
+        assertCalls(statusCalls, "1,1,0");
+        var captor = ArgumentCaptor.forClass(BlockStream.class);
+        verify(blockStreamReader, times(2)).read(captor.capture());
+        var values = captor.getAllValues();
+        assertBlockStream(values.getFirst(), 10);
+        assertBlockStream(values.get(1), 11);
+        verify(blockStreamVerifier, times(2)).verify(any());
+        assertThat(hedgeWonCount()).isEqualTo(2.0);
+    }
+
+    @Test
+    void getHedgedWhenOneNodeFails(Resources resources) {
+        // given
+        blockProperties.getStream().setHedgedStreams(3);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        startServer(
+                SERVER_NAMES[0],
+                resources,
+                serverStatusResponse(10, 11),
+                ResponsesOrError.fromError(new RuntimeException("oops")));
+        startServer(
+                SERVER_NAMES[1],
+                resources,
+                serverStatusResponse(10, 11),
+                ResponsesOrError.fromResponses(fullBlockResponses(10)).addResponses(fullBlockResponses(11)));
+        startServer(
+                SERVER_NAMES[2],
+                resources,
+                serverStatusResponse(12, 12),
+                ResponsesOrError.fromResponses(fullBlockResponses(12)));
+
+        // when
+        blockNodeSubscriber.get();
+
+        // then test3 doesn't have block 10 so only test1 and test2 are streamed from
+        assertCalls(statusCalls, "1,1,1");
+        assertThat(streamCalls).doesNotContainKey(SERVER_NAMES[2]);
+        verify(blockStreamReader, times(2)).read(any());
+        verify(blockStreamVerifier, times(2)).verify(any());
+        assertThat(meterRegistry
+                        .get(BlockNodeSubscriber.HEDGE_WON_METRIC_NAME)
+                        .tag("block_node", "BlockNode(" + SERVER_NAMES[1] + ":40840)")
+                        .counter()
+                        .count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void getHedgedWhenAllFail(Resources resources) {
+        // given
+        blockProperties.getStream().setHedgedStreams(2);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        for (int i = 0; i < 2; i++) {
+            startServer(
+                    SERVER_NAMES[i],
+                    resources,
+                    serverStatusResponse(10, 10),
+                    ResponsesOrError.fromError(new RuntimeException("oops")));
+        }
+
+        // when, then
+        assertThatThrownBy(blockNodeSubscriber::get).isInstanceOf(BlockStreamException.class);
+        assertCalls(streamCalls, "1,1,0");
+        verifyNoInteractions(blockStreamReader);
+        verify(blockStreamVerifier, never()).verify(any());
+        assertThat(hedgeWonCount()).isZero();
+    }
+
+    @Test
+    void getStriped(Resources resources) {
+        // given
+        setStriped(2, 5, 0);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        startRangeServer(SERVER_NAMES[0], resources, serverStatusResponse(10, 29), 29, -1);
+        startRangeServer(SERVER_NAMES[1], resources, serverStatusResponse(10, 29), 29, -1);
+
+        // when
+        blockNodeSubscriber.get();
+
+        // then the ranges are processed in block number order regardless of which node streamed them
+        assertCalls(statusCalls, "2,2,0");
+        assertThat(streamCalls.values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(4);
+        assertReadBlocks(10, 29);
+        verify(blockStreamVerifier, times(20)).verify(any());
+        assertThat(meterRegistry
+                        .find(BlockNodeSubscriber.STRIPE_THROUGHPUT_METRIC_NAME)
+                        .summaries())
+                .isNotEmpty()
+                .allSatisfy(s -> assertThat(s.mean()).isPositive());
+    }
+
+    @Test
+    void getStripedEndBlockNumber(Resources resources) {
+        // given
+        setStriped(2, 5, 0);
+        commonDownloaderProperties.getImporterProperties().setEndBlockNumber(21L);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        startRangeServer(SERVER_NAMES[0], resources, serverStatusResponse(10, 29), 29, -1);
+        startRangeServer(SERVER_NAMES[1], resources, serverStatusResponse(10, 29), 29, -1);
+
+        // when
+        blockNodeSubscriber.get();
+
+        // then the last range is cut short at the end block number
+        assertThat(streamCalls.values().stream().mapToInt(Integer::intValue).sum())
+                .isEqualTo(3);
+        assertReadBlocks(10, 21);
+    }
+
+    @Test
+    void getStripedNearTip(Resources resources) {
+        // given
+        setStriped(2, 5, 15);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        startRangeServer(SERVER_NAMES[0], resources, serverStatusResponse(10, 29), 29, -1);
+        startRangeServer(SERVER_NAMES[1], resources, serverStatusResponse(10, 25), 25, -1);
+
+        // when
+        blockNodeSubscriber.get();
+
+        // then the last block both nodes have is within the tip distance, so test1 streams all blocks alone
+        assertCalls(streamCalls, "1,0,0");
+        assertReadBlocks(10, 29);
+        assertThat(meterRegistry
+                        .find(BlockNodeSubscriber.STRIPE_THROUGHPUT_METRIC_NAME)
+                        .summaries())
+                .isEmpty();
+    }
+
+    @Test
+    void getStripedWhenRangeFails(Resources resources) {
+        // given
+        setStriped(2, 5, 0);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        startRangeServer(SERVER_NAMES[0], resources, serverStatusResponse(10, 29), 29, 15);
+        startRangeServer(SERVER_NAMES[1], resources, serverStatusResponse(10, 29), 29, 15);
+
+        // when, then only the range before the failed one is processed
+        assertThatThrownBy(blockNodeSubscriber::get).isInstanceOf(BlockStreamException.class);
+        assertReadBlocks(10, 14);
+        verify(blockStreamVerifier, times(5)).verify(any());
+    }
+
+    @Test
+    void getStripedWhenRangeIncomplete(Resources resources) {
+        // given
+        setStriped(2, 5, 0);
+        doReturn(10L).when(cutoverService).getNextBlockNumber();
+        doReturn(blockFile(0)).when(blockStreamReader).read(any());
+        doNothing().when(blockStreamVerifier).verify(any());
+        startRangeServer(SERVER_NAMES[0], resources, serverStatusResponse(10, 29), 27, -1);
+        startRangeServer(SERVER_NAMES[1], resources, serverStatusResponse(10, 29), 27, -1);
+
+        // when, then the last range ends early and fails after the complete ranges are processed
+        assertThatThrownBy(blockNodeSubscriber::get)
+                .isInstanceOf(BlockStreamException.class)
+                .hasMessageContaining("Received 3 of blocks 25 to 29");
+        assertReadBlocks(10, 24);
+    }
+
     private void assertBlockStream(BlockStream actual, long blockNumber) {
         assertThat(actual)
                 .returns(null, BlockStream::bytes)
@@ -459,6 +655,15 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
                 .isGreaterThan(0L);
     }
 
+    private void assertReadBlocks(long from, long to) {
+        var captor = ArgumentCaptor.forClass(BlockStream.class);
+        verify(blockStreamReader, times((int) (to - from + 1))).read(captor.capture());
+        var expected = LongStream.rangeClosed(from, to)
+                .mapToObj(blockNumber -> BlockFile.getFilename(blockNumber, false))
+                .toList();
+        assertThat(captor.getAllValues()).extracting(BlockStream::filename).containsExactlyElementsOf(expected);
+    }
+
     private void assertCalls(Map<String, Integer> calls, String expected) {
         var actual = Arrays.stream(SERVER_NAMES)
                 .map(name -> calls.getOrDefault(name, 0))
@@ -467,6 +672,19 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
         assertThat(actual).isEqualTo(expected);
     }
 
+    private void setStriped(int stripedStreams, int stripeSize, long stripeTipDistance) {
+        var streamProperties = blockProperties.getStream();
+        streamProperties.setStripedStreams(stripedStreams);
+        streamProperties.setStripeSize(stripeSize);
+        streamProperties.setStripeTipDistance(stripeTipDistance);
+    }
+
+    private double hedgeWonCount() {
+        return meterRegistry.find(BlockNodeSubscriber.HEDGE_WON_METRIC_NAME).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
     private BlockNodeProperties blockNodeProperties(int priority, String serverName) {
         var properties = BlockNodeTestUtils.singleEndpointProperties(serverName);
         properties.setPriority(priority);
@@ -499,6 +717,42 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
             Resources resources,
             ServerStatusDetailResponse statusResponse,
             ResponsesOrError streamResponse) {
+        startServer(name, resources, statusResponse, _ -> streamResponse);
+    }
+
+    /**
+     * Starts a fake block node that streams the requested blocks up to the last served block number, and fails any
+     * subscription starting from the fail block number.
+     */
+    private void startRangeServer(
+            String name,
+            Resources resources,
+            ServerStatusDetailResponse statusResponse,
+            long lastServedBlockNumber,
+            long failBlockNumber) {
+        startServer(name, resources, statusResponse, request -> {
+            if (request.getStartBlockNumber() == failBlockNumber) {
+                return ResponsesOrError.fromError(new RuntimeException("oops"));
+            }
+
+            long end = request.getEndBlockNumber() < 0
+                    ? lastServedBlockNumber
+                    : Math.min(request.getEndBlockNumber(), lastServedBlockNumber);
+            var responses = ResponsesOrError.fromResponses(List.of());
+            for (long blockNumber = request.getStartBlockNumber(); blockNumber <= end; blockNumber++) {
+                responses.addResponses(fullBlockResponses(blockNumber));
+            }
+
+            return responses;
+        });
+    }
+
+    @SneakyThrows
+    private void startServer(
+            String name,
+            Resources resources,
+            ServerStatusDetailResponse statusResponse,
+            Function<SubscribeStreamRequest, ResponsesOrError> streamResponses) {
         if (servers.containsKey(name)) {
             var server = servers.get(name);
             server.shutdown();
@@ -519,6 +773,7 @@ final class BlockNodeSubscriberTest extends BlockNodeTestBase {
             public void subscribeBlockStream(
                     SubscribeStreamRequest request, StreamObserver<SubscribeStreamResponse> responseObserver) {
                 recordCall(name, streamCalls);
+                var streamResponse = streamResponses.apply(request);
 
                 if (!streamResponse.getResponses().isEmpty()) {
                     streamResponse.getResponses().forEach(responseObserver::onNext);
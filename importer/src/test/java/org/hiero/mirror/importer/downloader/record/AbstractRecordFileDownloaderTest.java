@@ -27,6 +27,7 @@ import org.hiero.mirror.importer.downloader.Downloader;
 import org.hiero.mirror.importer.downloader.DownloaderProperties;
 import org.hiero.mirror.importer.downloader.block.cutover.CutoverService;
 import org.hiero.mirror.importer.downloader.provider.S3StreamFileProvider;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.hiero.mirror.importer.parser.record.sidecar.SidecarProperties;
 import org.hiero.mirror.importer.reader.record.CompositeRecordFileReader;
 import org.hiero.mirror.importer.reader.record.ProtoRecordFileReader;
@@ -81,8 +82,8 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
         var recordFileReader = new CompositeRecordFileReader(
                 new RecordFileReaderImplV1(),
                 new RecordFileReaderImplV2(),
-                new RecordFileReaderImplV5(),
-                new ProtoRecordFileReader());
+                new RecordFileReaderImplV5(new RecordParserProperties()),
+                new ProtoRecordFileReader(new RecordParserProperties()));
         sidecarProperties = new SidecarProperties();
         sidecarProperties.setEnabled(true);
         var streamFileProvider = new S3StreamFileProvider(blockProperties, commonDownloaderProperties, s3AsyncClient);
@@ -7,6 +7,8 @@ import static org.hiero.mirror.common.domain.entity.EntityType.CONTRACT;
 import static org.hiero.mirror.common.domain.entity.EntityType.TOPIC;
 import static org.hiero.mirror.common.domain.entity.EntityType.UNKNOWN;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.Range;
 import java.time.Duration;
@@ -23,6 +25,7 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
 import org.hiero.mirror.importer.ImporterProperties;
 import org.hiero.mirror.importer.downloader.block.BlockProperties;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.reader.block.BlockStreamReader;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.AccountBalanceRepository;
@@ -63,6 +66,7 @@ final class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest
     private final RecordFileRepository recordFileRepository;
     private final TransactionTemplate transactionTemplate;
 
+    private EntityStateCache entityStateCache;
     private InitializeEntityBalanceMigration migration;
     private Entity account;
     private Entity account2;
@@ -78,6 +82,7 @@ final class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest
     void beforeEach() {
         timestamp = new AtomicLong(0L);
 
+        entityStateCache = mock(EntityStateCache.class);
         var accountBalanceFileRepositoryProvider = objectProvider(accountBalanceFileRepository);
         var namedParameterJdbcOperationsProvider = objectProvider(namedParameterJdbcOperations);
         var recordFileRepositoryProvider = objectProvider(recordFileRepository);
@@ -85,6 +90,7 @@ final class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest
         migration = new InitializeEntityBalanceMigration(
                 accountBalanceFileRepositoryProvider,
                 blockStreamResolver,
+                objectProvider(entityStateCache),
                 environment,
                 importerProperties,
                 namedParameterJdbcOperationsProvider,
@@ -260,6 +266,7 @@ final class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest
         migration.onEnd(accountBalanceFile2);
 
         // then
+        verify(entityStateCache, never()).invalidateAll();
         assertThat(entityRepository.findAll()).containsExactlyInAnyOrder(account, accountDeleted, contract, topic);
     }
 
@@ -318,6 +325,7 @@ final class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest
         migration.onEnd(accountBalanceFile1);
 
         // then
+        verify(entityStateCache).invalidateAll();
         assertThat(entityRepository.findAll())
                 .containsExactlyInAnyOrder(account, account2, accountDeleted, contract, topic);
     }
@@ -4,6 +4,9 @@ package org.hiero.mirror.importer.migration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hiero.mirror.common.domain.entity.EntityType.ACCOUNT;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.Range;
 import java.time.Duration;
@@ -21,6 +24,7 @@ import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
 import org.hiero.mirror.importer.ImporterProperties;
+import org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.TokenAccountHistoryRepository;
@@ -53,6 +57,7 @@ class TokenAccountBalanceMigrationTest extends ImporterIntegrationTest {
     private final TokenTransferRepository tokenTransferRepository;
     private final ImporterProperties importerProperties;
 
+    private EntityStateCache entityStateCache;
     private TokenAccountBalanceMigration tokenAccountBalanceMigration;
     private AccountBalanceFile accountBalanceFile1;
     private AccountBalanceFile accountBalanceFile2;
@@ -68,12 +73,14 @@ class TokenAccountBalanceMigrationTest extends ImporterIntegrationTest {
     void beforeEach() {
         timestamp = new AtomicLong(domainBuilder.timestamp());
 
+        entityStateCache = mock(EntityStateCache.class);
         var accountBalanceFileRepositoryProvider = objectProvider(accountBalanceFileRepository);
         var namedParameterJdbcTemplateProvider = objectProvider(namedParameterJdbcOperations);
         var recordFileRepositoryProvider = objectProvider(recordFileRepository);
         var transactionTemplateProvider = objectProvider(transactionTemplate);
         tokenAccountBalanceMigration = new TokenAccountBalanceMigration(
                 accountBalanceFileRepositoryProvider,
+                objectProvider(entityStateCache),
                 importerProperties,
                 namedParameterJdbcTemplateProvider,
                 recordFileRepositoryProvider,
@@ -289,6 +296,7 @@ class TokenAccountBalanceMigrationTest extends ImporterIntegrationTest {
         tokenAccountBalanceMigration.onEnd(accountBalanceFile2);
 
         // then
+        verify(entityStateCache, never()).invalidateAll();
         tokenAccount.setBalance(0L);
         tokenAccount2.setBalance(0L);
         tokenAccount3.setBalance(0L);
@@ -373,6 +381,7 @@ class TokenAccountBalanceMigrationTest extends ImporterIntegrationTest {
         tokenAccountBalanceMigration.onEnd(accountBalanceFile1);
 
         // then
+        verify(entityStateCache).invalidateAll();
         assertThat(tokenAccountRepository.findAll())
                 .containsExactlyInAnyOrder(
                         tokenAccount,
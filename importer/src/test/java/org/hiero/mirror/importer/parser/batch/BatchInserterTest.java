@@ -26,13 +26,18 @@ import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.domain.transaction.AssessedCustomFee;
 import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.common.domain.transaction.Transaction;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.CryptoTransferRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageRepository;
+import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyManager;
 
@@ -40,9 +45,13 @@ import org.postgresql.copy.CopyManager;
 class BatchInserterTest extends ImporterIntegrationTest {
 
     private final BatchPersister batchInserter;
+    private final CommonParserProperties commonParserProperties;
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final TopicMessageRepository topicMessageRepository;
     private final TokenTransferRepository tokenTransferRepository;
+    private final TransactionRepository transactionRepository;
 
     @Test
     void persist() {
@@ -63,6 +72,32 @@ class BatchInserterTest extends ImporterIntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void persistBinary() {
+        // given
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().customize(c -> c.isApproval(null)).get());
+        var tokenTransfers =
+                List.of(domainBuilder.tokenTransfer().get(), domainBuilder.tokenTransfer().get());
+        var topicMessages = List.of(topicMessage(6000), topicMessage(10));
+        var transactions = List.of(
+                domainBuilder.transaction().get(),
+                domainBuilder.transaction().customize(t -> t.maxCustomFees(null)).get());
+
+        // when
+        binaryBatchInserter(CryptoTransfer.class).persist(cryptoTransfers);
+        binaryBatchInserter(TokenTransfer.class).persist(tokenTransfers);
+        binaryBatchInserter(TopicMessage.class).persist(topicMessages);
+        binaryBatchInserter(Transaction.class).persist(transactions);
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
     @Test
     void throwsParserException() throws SQLException, IOException {
         // given
@@ -103,8 +138,9 @@ class BatchInserterTest extends ImporterIntegrationTest {
         assertThat(topicMessageRepository.findAll()).hasSize(4).containsExactlyInAnyOrderElementsOf(topicMessages);
     }
 
-    @Test
-    void assessedCustomFees() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void assessedCustomFees(boolean binary) {
         long consensusTimestamp = 10L;
         EntityId collectorId1 = EntityId.of("0.0.2000");
         EntityId collectorId2 = EntityId.of("0.0.2001");
@@ -140,13 +176,24 @@ class BatchInserterTest extends ImporterIntegrationTest {
                 List.of(assessedCustomFee1, assessedCustomFee2, assessedCustomFee3);
 
         // when
-        batchInserter.persist(assessedCustomFees);
+        var persister = binary ? binaryBatchInserter(AssessedCustomFee.class) : batchInserter;
+        persister.persist(assessedCustomFees);
 
         // then
         assertThat(jdbcOperations.query("select * from assessed_custom_fee", rowMapper(AssessedCustomFee.class)))
                 .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
     }
 
+    private BatchInserter binaryBatchInserter(Class<?> entityClass) {
+        return new BatchInserter(
+                entityClass,
+                dataSource,
+                new SimpleMeterRegistry(),
+                commonParserProperties,
+                entityClass.getSimpleName(),
+                entityMetadataRegistry.lookupEntity(entityClass));
+    }
+
     private TopicMessage topicMessage(int messageSize) {
         return domainBuilder
                 .topicMessage()
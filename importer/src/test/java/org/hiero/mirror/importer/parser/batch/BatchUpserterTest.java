@@ -8,10 +8,12 @@ import static org.hiero.mirror.common.domain.entity.EntityType.ACCOUNT;
 import com.google.common.collect.Range;
 import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Hex;
@@ -39,6 +41,7 @@ import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
 import org.hiero.mirror.importer.repository.CryptoAllowanceRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.repository.NftAllowanceRepository;
@@ -52,6 +55,8 @@ import org.hiero.mirror.importer.repository.TokenRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageLookupRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -63,7 +68,10 @@ class BatchUpserterTest extends ImporterIntegrationTest {
             .build();
 
     private final BatchPersister batchPersister;
+    private final CommonParserProperties commonParserProperties;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final EntityRepository entityRepository;
     private final NftRepository nftRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
@@ -77,6 +85,7 @@ class BatchUpserterTest extends ImporterIntegrationTest {
     private final TopicMessageLookupRepository topicMessageLookupRepository;
     private final TransactionRepository transactionRepository;
     private final TransactionOperations transactionOperations;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     @Test
     void cryptoAllowance() {
@@ -141,6 +150,38 @@ class BatchUpserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrder(2L, 3L, 4L);
     }
 
+    @Test
+    void entityInsertAndUpdateBinary() {
+        var entities = new ArrayList<Entity>();
+        long consensusTimestamp = 1;
+        entities.add(getEntity(1, consensusTimestamp, consensusTimestamp, "memo-1"));
+        entities.add(getEntity(2, consensusTimestamp, consensusTimestamp, "memo-2"));
+        entities.add(getEntity(3, consensusTimestamp, consensusTimestamp, "memo-3"));
+        var binaryBatchUpserter = binaryBatchUpserter(Entity.class);
+
+        persist(binaryBatchUpserter, entities);
+
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrderElementsOf(entities);
+
+        // update
+        var updatedEntities = new ArrayList<Entity>();
+        long updateTimestamp = 5;
+        updatedEntities.add(getEntity(2, null, updateTimestamp, ""));
+        updatedEntities.add(getEntity(3, null, updateTimestamp, "updated-memo-3"));
+        updatedEntities.add(getEntity(4, null, updateTimestamp, "memo-4"));
+
+        persist(binaryBatchUpserter, updatedEntities);
+
+        assertThat(entityRepository.findAll())
+                .hasSize(4)
+                .extracting(Entity::getMemo)
+                .containsExactlyInAnyOrder("memo-1", "", "updated-memo-3", "memo-4");
+        assertThat(findHistory(Entity.class))
+                .hasSize(2)
+                .extracting(Entity::getId)
+                .containsExactlyInAnyOrder(2L, 3L);
+    }
+
     @Test
     void entityInsertAndUpdateBatched() {
         var entities = new ArrayList<Entity>();
@@ -235,6 +276,17 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(tokenRepository.findAll()).containsOnly(token);
     }
 
+    @Test
+    void tokenInsertBinary() {
+        var tokens = new ArrayList<Token>();
+        tokens.add(getToken("0.0.2000", "0.0.1001", 1L, false, null, null, null));
+        tokens.add(getToken("0.0.3000", "0.0.1001", 2L, true, KEY, KEY, KEY));
+
+        persist(binaryBatchUpserter(Token.class), tokens);
+
+        assertThat(tokenRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokens);
+    }
+
     @Test
     void tokenAccountInsertOnly() {
         // inserts token first
@@ -690,6 +742,16 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.findAll()).containsExactly(transaction);
     }
 
+    private BatchUpserter binaryBatchUpserter(Class<?> entityClass) {
+        return new BatchUpserter(
+                entityClass,
+                dataSource,
+                new SimpleMeterRegistry(),
+                commonParserProperties,
+                upsertQueryGeneratorFactory.get(entityClass),
+                entityMetadataRegistry.lookupEntity(entityClass));
+    }
+
     private void persist(BatchPersister batchPersister, Collection<?>... items) {
         transactionOperations.executeWithoutResult(t -> {
             for (Collection<?> batch : items) {
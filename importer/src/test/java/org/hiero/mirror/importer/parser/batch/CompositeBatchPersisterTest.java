@@ -4,31 +4,56 @@ package org.hiero.mirror.importer.parser.batch;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.DomainBuilder;
 import org.hiero.mirror.common.domain.contract.Contract;
 import org.hiero.mirror.common.domain.contract.ContractResult;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.CommonParserProperties.CopyFormat;
 import org.hiero.mirror.importer.repository.ContractRepository;
 import org.hiero.mirror.importer.repository.ContractResultRepository;
+import org.hiero.mirror.importer.repository.upsert.ColumnMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 class CompositeBatchPersisterTest extends ImporterIntegrationTest {
 
+    private static final String CONTRACT_RESULT = "contract_result";
+
     private final CompositeBatchPersister compositeBatchInserter;
     private final DomainBuilder domainBuilder;
     private final ContractRepository contractRepository;
     private final ContractResultRepository contractResultRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final MeterRegistry meterRegistry;
+    private final CommonParserProperties parserProperties;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
+
+    @AfterEach
+    void cleanup() {
+        parserProperties.getCopyFormats().remove(CONTRACT_RESULT);
+    }
 
     @Test
     @Transactional
@@ -43,6 +68,30 @@ class CompositeBatchPersisterTest extends ImporterIntegrationTest {
         assertThat(contractResultRepository.findAll()).containsExactly(contractResult);
     }
 
+    @Test
+    @Transactional
+    void persistBinaryUnsupportedType() {
+        // given
+        var contractResult = domainBuilder.contractResult().get();
+        var metadata = entityMetadataRegistry.lookupEntity(ContractResult.class);
+        var columns = metadata.getColumns().stream()
+                .map(c -> c.getName().equals("gas_limit") ? withDataType(c, "numeric") : c)
+                .collect(Collectors.toCollection(TreeSet::new));
+        var registry = mock(EntityMetadataRegistry.class);
+        when(registry.lookupEntity(ContractResult.class))
+                .thenReturn(new EntityMetadata(metadata.getTableName(), metadata.getUpsertable(), columns));
+        parserProperties.getCopyFormats().put(CONTRACT_RESULT, CopyFormat.BINARY);
+        var batchPersister = new CompositeBatchPersister(
+                dataSource, registry, meterRegistry, parserProperties, upsertQueryGeneratorFactory, Optional.empty());
+
+        // when
+        batchPersister.persist(List.of(contractResult));
+
+        // then
+        verify(registry).lookupEntity(ContractResult.class);
+        assertThat(contractResultRepository.findAll()).containsExactly(contractResult);
+    }
+
     @Test
     void persistEmpty() {
         compositeBatchInserter.persist(null);
@@ -69,4 +118,18 @@ class CompositeBatchPersisterTest extends ImporterIntegrationTest {
         assertThatThrownBy(() -> compositeBatchInserter.persist(toPersist))
                 .isInstanceOf(UnsupportedOperationException.class);
     }
+
+    private ColumnMetadata withDataType(ColumnMetadata column, String dataType) {
+        return new ColumnMetadata(
+                dataType,
+                column.getDefaultValue(),
+                column.getGetter(),
+                column.isId(),
+                column.getName(),
+                column.isNullable(),
+                column.getSetter(),
+                column.getType(),
+                column.isUpdatable(),
+                column.getUpsertColumn());
+    }
 }
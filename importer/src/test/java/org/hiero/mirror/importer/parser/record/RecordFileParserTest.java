@@ -23,6 +23,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
 import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
@@ -48,6 +50,7 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
 import org.hiero.mirror.importer.config.DateRangeCalculator.DateRangeFilter;
+import org.hiero.mirror.importer.domain.EntityIdService;
 import org.hiero.mirror.importer.exception.HashMismatchException;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParserTest;
@@ -76,6 +79,9 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
     @Mock(strictness = LENIENT)
     private DateRangeCalculator dateRangeCalculator;
 
+    @Mock
+    private EntityIdService entityIdService;
+
     @Mock
     private EntityListener entityListener;
 
@@ -107,6 +113,7 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
         }
 
         if (parsed || dbError) {
+            verify(entityIdService).preload(recordFile.getItems());
             // Can't verify the event object since ApplicationEvent has a timestamp field for when the event happened
             verify(applicationEventPublisher)
                     .publishEvent(argThat(e -> e instanceof RecordFileParsedEvent recordFileParsedEvent
@@ -123,6 +130,7 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
         return new RecordFileParser(
                 applicationEventPublisher,
                 dateRangeCalculator,
+                entityIdService,
                 entityListener,
                 entityProperties,
                 new SimpleMeterRegistry(),
@@ -159,6 +167,33 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
         verify(recordStreamFileListener).onEnd(recordFile);
     }
 
+    @Test
+    void preloadAliases() {
+        // given
+        var alias = recordItemBuilder.key().toByteString();
+        var evmAddress = recordItemBuilder.evmAddress().getValue();
+        var aliasTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(accountAmount(AccountID.newBuilder().setAlias(alias), -100L))
+                        .addAccountAmounts(accountAmount(AccountID.newBuilder().setAlias(evmAddress), 100L)))
+                .build();
+        var recordFile = getStreamFile(List.of(aliasTransfer), aliasTransfer.getConsensusTimestamp());
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(entityIdService).preload(argThat(items -> items.stream()
+                .map(RecordItem::getTransactionBody)
+                .flatMap(b -> b.getCryptoTransfer().getTransfers().getAccountAmountsList().stream())
+                .map(a -> a.getAccountID().getAlias())
+                .filter(a -> !a.isEmpty())
+                .toList()
+                .equals(List.of(alias, evmAddress))));
+        verify(recordItemListener).onItem(aliasTransfer);
+    }
+
     @ParameterizedTest(name = "endDate with offset {0}ns")
     @CsvSource({"-1", "0", "1"})
     void endDate(long offset) {
@@ -582,6 +617,10 @@ final class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile
                 .build();
     }
 
+    private AccountAmount.Builder accountAmount(AccountID.Builder accountId, long amount) {
+        return AccountAmount.newBuilder().setAccountID(accountId).setAmount(amount);
+    }
+
     private RecordItem cryptoTransferRecordItem(long timestamp) {
         CryptoTransferTransactionBody cryptoTransfer =
                 CryptoTransferTransactionBody.newBuilder().build();
@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@ExtendWith(MockitoExtension.class)
+class NotifyPublisherTest {
+
+    private static final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    private NotifyProperties notifyProperties;
+    private NotifyPublisher notifyPublisher;
+    private ParserContext parserContext;
+
+    @BeforeEach
+    void setup() {
+        notifyProperties = new NotifyProperties();
+        notifyProperties.setEnabled(true);
+        parserContext = new ParserContext();
+        notifyPublisher = new NotifyPublisher(
+                jdbcOperations, new SimpleMeterRegistry(), notifyProperties, parserContext, new RecordParserProperties());
+    }
+
+    @Test
+    void onTopicMessage() {
+        // given
+        var recordFile = domainBuilder.recordFile().get();
+        parserContext.add(domainBuilder.topicMessage().get());
+        parserContext.add(domainBuilder.topicMessage().get());
+
+        // when
+        notifyPublisher.onEnd(recordFile);
+
+        // then
+        verify(jdbcOperations)
+                .queryForObject(
+                        "select pg_notify(?, ?)",
+                        Object.class,
+                        NotifyPublisher.CHANNEL,
+                        String.valueOf(recordFile.getConsensusEnd()));
+    }
+
+    @Test
+    void onTopicMessageEmpty() {
+        // when
+        notifyPublisher.onEnd(domainBuilder.recordFile().get());
+
+        // then
+        verify(jdbcOperations, never()).queryForObject(anyString(), eq(Object.class), any(Object[].class));
+    }
+
+    @Test
+    void onTopicMessageDisabled() {
+        // given
+        notifyProperties.setEnabled(false);
+        parserContext.add(domainBuilder.topicMessage().get());
+
+        // when
+        notifyPublisher.onEnd(domainBuilder.recordFile().get());
+
+        // then
+        verify(jdbcOperations, never()).queryForObject(anyString(), eq(Object.class), any(Object[].class));
+    }
+}
@@ -0,0 +1,324 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.common.domain.entity.EntityType.ACCOUNT;
+import static org.hiero.mirror.common.domain.entity.EntityType.CONTRACT;
+import static org.hiero.mirror.importer.parser.record.entity.sql.EntityStateCache.METRIC_REQUESTS;
+
+import com.google.common.collect.Range;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.common.domain.token.TokenFreezeStatusEnum;
+import org.hiero.mirror.common.domain.token.TokenKycStatusEnum;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.TestUtils;
+import org.hiero.mirror.importer.repository.EntityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+final class EntityStateCacheTest extends ImporterIntegrationTest {
+
+    private final EntityRepository entityRepository;
+    private final EntityStateCache entityStateCache;
+    private final MeterRegistry meterRegistry;
+    private final SqlEntityListener sqlEntityListener;
+    private final SqlProperties sqlProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        entityStateCache.clear();
+        sqlProperties.getStateCache().setEnabled(true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        sqlProperties.getStateCache().setEnabled(false);
+        entityStateCache.clear();
+        parserContext.clear();
+    }
+
+    @Test
+    void entity() {
+        // given
+        var account = domainBuilder.entity().get();
+        var contract = domainBuilder.entity().customize(e -> e.type(CONTRACT)).get();
+        long timestamp = account.getTimestampLower();
+
+        var memoUpdate = account.toEntityId().toEntity();
+        memoUpdate.setMemo("updated");
+        memoUpdate.setTimestampLower(timestamp + 10);
+        memoUpdate.setType(ACCOUNT);
+
+        var keyClear = account.toEntityId().toEntity();
+        keyClear.setKey(new byte[0]);
+        keyClear.setTimestampLower(timestamp + 20);
+        keyClear.setType(ACCOUNT);
+
+        var delete = account.toEntityId().toEntity();
+        delete.setDeleted(true);
+        delete.setTimestampLower(timestamp + 30);
+        delete.setType(ACCOUNT);
+
+        var files = List.of(
+                List.<Object>of(account, contract),
+                List.<Object>of(balance(account, 100L, timestamp + 5), memoUpdate, nonce(contract, 5L)),
+                List.<Object>of(balance(account, -30L, timestamp + 15), balance(contract, 7L, timestamp + 15)),
+                List.<Object>of(keyClear, delete, balance(account, 1L, timestamp + 25)));
+
+        // when
+        var expected = replay(false, files);
+        double hits = count("Entity", "hit");
+        var actual = replay(true, files);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(count("Entity", "hit") - hits).isEqualTo(5);
+    }
+
+    @Test
+    void tokenAccount() {
+        // given
+        var associate = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.balance(0).createdTimestamp(5L).timestampRange(Range.atLeast(5L)))
+                .get();
+        var freeze = tokenAccount(associate, Range.atLeast(10L));
+        freeze.setFreezeStatus(TokenFreezeStatusEnum.FROZEN);
+        var kycGrant = tokenAccount(associate, Range.atLeast(15L));
+        kycGrant.setKycStatus(TokenKycStatusEnum.GRANTED);
+        var dissociate = tokenAccount(associate, Range.atLeast(20L));
+        dissociate.setAssociated(false);
+        var reassociate = tokenAccount(associate, Range.atLeast(25L));
+        reassociate.setAssociated(true);
+        reassociate.setAutomaticAssociation(false);
+        reassociate.setCreatedTimestamp(25L);
+
+        var files = List.of(
+                List.<Object>of(associate),
+                List.<Object>of(transfer(associate, 10L, 8L), freeze, transfer(associate, 3L, 11L)),
+                List.<Object>of(transfer(associate, -4L, 13L)),
+                List.<Object>of(kycGrant, transfer(associate, -9L, 17L), dissociate),
+                List.<Object>of(reassociate, transfer(associate, 2L, 26L)));
+
+        // when
+        var expected = replay(false, files);
+        double hits = count("TokenAccount", "hit");
+        var actual = replay(true, files);
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(count("TokenAccount", "hit") - hits).isEqualTo(4);
+    }
+
+    @Test
+    void invalidate() {
+        // given
+        var account = domainBuilder.entity().get();
+        persist(List.of(List.<Object>of(account)));
+        double misses = count("Entity", "miss");
+
+        // when
+        jdbcOperations.update("update entity set memo = 'external' where id = ?", account.getId());
+        entityStateCache.invalidate(Entity.class, List.of(account.getId()));
+        persist(List.of(List.<Object>of(balance(account, 10L, account.getTimestampLower() + 1))));
+
+        // then
+        assertThat(count("Entity", "miss") - misses).isEqualTo(1);
+        assertThat(entityRepository.findById(account.getId()))
+                .get()
+                .returns("external", Entity::getMemo)
+                .returns(account.getBalance() + 10L, Entity::getBalance);
+    }
+
+    @Test
+    void invalidateInTransaction() {
+        // given
+        var account = domainBuilder.entity().get();
+        var other = domainBuilder.entity().get();
+        long timestamp = account.getTimestampLower();
+        persist(List.of(List.<Object>of(account, other)));
+        double hits = count("Entity", "hit");
+        double misses = count("Entity", "miss");
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onEntity(balance(account, 10L, timestamp + 1));
+            entityStateCache.invalidate(Entity.class, List.of(other.getId()));
+            sqlEntityListener.onEnd(recordFile());
+        });
+        parserContext.clear();
+        persist(List.of(List.<Object>of(balance(account, 5L, timestamp + 2))));
+
+        // then
+        assertThat(count("Entity", "hit") - hits).isEqualTo(1);
+        assertThat(count("Entity", "miss") - misses).isEqualTo(1);
+        assertThat(entityRepository.findById(account.getId()))
+                .get()
+                .returns(account.getBalance() + 15L, Entity::getBalance)
+                .returns(timestamp + 2, Entity::getBalanceTimestamp);
+    }
+
+    @Test
+    void invalidateAll() {
+        // given
+        var account = domainBuilder.entity().get();
+        long timestamp = account.getTimestampLower();
+        persist(List.of(List.<Object>of(account)));
+        double hits = count("Entity", "hit");
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcOperations.update("update entity set balance = 1000 where id = ?", account.getId());
+            entityStateCache.invalidateAll();
+            sqlEntityListener.onEntity(balance(account, 1L, timestamp + 1));
+            sqlEntityListener.onEnd(recordFile());
+        });
+        parserContext.clear();
+        persist(List.of(
+                List.<Object>of(balance(account, 10L, timestamp + 2)),
+                List.<Object>of(balance(account, 5L, timestamp + 3))));
+
+        // then
+        assertThat(count("Entity", "hit") - hits).isEqualTo(1);
+        assertThat(entityRepository.findById(account.getId()))
+                .get()
+                .returns(1016L, Entity::getBalance)
+                .returns(timestamp + 3, Entity::getBalanceTimestamp);
+    }
+
+    @Test
+    void rollback() {
+        // given
+        var account = domainBuilder.entity().get();
+        long timestamp = account.getTimestampLower();
+        persist(List.of(List.<Object>of(account)));
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onEntity(balance(account, 100L, timestamp + 1));
+            sqlEntityListener.onEnd(recordFile());
+            status.setRollbackOnly();
+        });
+        parserContext.clear();
+        persist(List.of(List.<Object>of(balance(account, 5L, timestamp + 2))));
+
+        // then
+        assertThat(entityRepository.findById(account.getId()))
+                .get()
+                .returns(account.getBalance() + 5L, Entity::getBalance)
+                .returns(timestamp + 2, Entity::getBalanceTimestamp);
+    }
+
+    @Test
+    void disabled() {
+        var entities = List.of(domainBuilder.entity().get());
+        sqlProperties.getStateCache().setEnabled(false);
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(entityStateCache.persist(entities)).isFalse();
+        });
+    }
+
+    @Test
+    void notCached() {
+        var recordFiles = List.of(domainBuilder.recordFile().get());
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(entityStateCache.persist(recordFiles)).isFalse();
+            assertThat(entityStateCache.persist(List.of())).isFalse();
+        });
+    }
+
+    @Test
+    void noTransaction() {
+        var entities = List.of(domainBuilder.entity().get());
+        assertThat(entityStateCache.persist(entities)).isFalse();
+    }
+
+    private Entity balance(Entity entity, long amount, long timestamp) {
+        var update = entity.toEntityId().toEntity();
+        update.setBalance(amount);
+        update.setBalanceTimestamp(timestamp);
+        update.setTimestampRange(null);
+        update.setType(entity.getType());
+        return update;
+    }
+
+    private Entity nonce(Entity entity, long ethereumNonce) {
+        var update = entity.toEntityId().toEntity();
+        update.setEthereumNonce(ethereumNonce);
+        update.setTimestampRange(null);
+        update.setType(entity.getType());
+        return update;
+    }
+
+    private RecordFile recordFile() {
+        return domainBuilder.recordFile().customize(r -> r.sidecars(List.of())).get();
+    }
+
+    private TokenAccount tokenAccount(TokenAccount tokenAccount, Range<Long> timestampRange) {
+        var update = new TokenAccount();
+        update.setAccountId(tokenAccount.getAccountId());
+        update.setTokenId(tokenAccount.getTokenId());
+        update.setTimestampRange(timestampRange);
+        return update;
+    }
+
+    private TokenAccount transfer(TokenAccount tokenAccount, long amount, long timestamp) {
+        var update = tokenAccount(tokenAccount, null);
+        update.setAssociated(true);
+        update.setBalance(amount);
+        update.setBalanceTimestamp(timestamp);
+        return update;
+    }
+
+    private double count(String table, String result) {
+        return meterRegistry.counter(METRIC_REQUESTS, "result", result, "table", table).count();
+    }
+
+    // Persists each list of rows in its own record file
+    private void persist(List<List<Object>> files) {
+        for (var file : files) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (var row : file) {
+                    var clone = TestUtils.clone(row);
+                    if (clone instanceof Entity entity) {
+                        sqlEntityListener.onEntity(entity);
+                    } else {
+                        sqlEntityListener.onTokenAccount((TokenAccount) clone);
+                    }
+                }
+
+                sqlEntityListener.onEnd(recordFile());
+            });
+            parserContext.clear();
+        }
+    }
+
+    /*
+     * Persists the rows from empty tables and returns the resulting current and history rows so the same rows can be
+     * compared with and without the cache.
+     */
+    private List<Object> replay(boolean enabled, List<List<Object>> files) {
+        jdbcOperations.execute("truncate entity, entity_history, token_account, token_account_history");
+        entityStateCache.clear();
+        sqlProperties.getStateCache().setEnabled(enabled);
+        persist(files);
+
+        var rows = new ArrayList<Object>();
+        rows.addAll(findEntity(Entity.class, "id", "entity"));
+        rows.addAll(findHistory(Entity.class));
+        rows.addAll(findEntity(TokenAccount.class, "account_id, token_id", "token_account"));
+        rows.addAll(findHistory(TokenAccount.class));
+        return rows;
+    }
+}
@@ -0,0 +1,223 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.importer.parser.record.entity.sql.ParallelFlushTxManager.GID_PREFIX;
+
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.EnabledIfV1;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.repository.ContractLogRepository;
+import org.hiero.mirror.importer.repository.CryptoTransferRepository;
+import org.hiero.mirror.importer.repository.EntityRepository;
+import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@EnabledIfV1
+@RequiredArgsConstructor
+class ParallelFlushTxManagerTest extends ImporterIntegrationTest {
+
+    private final ContractLogRepository contractLogRepository;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityRepository entityRepository;
+    private final ParallelFlushTxManager parallelFlushTxManager;
+    private final ParserContext parserContext;
+    private final RecordFileRepository recordFileRepository;
+    private final SqlEntityListener sqlEntityListener;
+    private final SqlProperties sqlProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+        sqlProperties.getParallelFlush().setEnabled(true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        sqlProperties.getParallelFlush().setEnabled(false);
+        parserContext.clear();
+
+        // Prepared transactions left behind by a failed test would otherwise block the table cleanup
+        var sql = "select gid from pg_prepared_xacts where starts_with(gid, ?)";
+        jdbcOperations
+                .queryForList(sql, String.class, GID_PREFIX)
+                .forEach(gid -> jdbcOperations.execute("rollback prepared '" + gid + "'"));
+    }
+
+    @Test
+    void commit() {
+        // given
+        var contractLog = domainBuilder.contractLog().get();
+        var cryptoTransfer1 = domainBuilder.cryptoTransfer().get();
+        var cryptoTransfer2 = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var recordFile = recordFile();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onContractLog(contractLog);
+            sqlEntityListener.onCryptoTransfer(cryptoTransfer1);
+            sqlEntityListener.onCryptoTransfer(cryptoTransfer2);
+            sqlEntityListener.onEntity(entity);
+            sqlEntityListener.onEnd(recordFile);
+
+            // Inserted by the worker connections so not visible until the parent commits
+            assertThat(cryptoTransferRepository.count()).isZero();
+            assertThat(contractLogRepository.count()).isZero();
+            assertThat(entityRepository.findAll()).containsExactly(entity);
+        });
+
+        // then
+        assertThat(contractLogRepository.findAll()).containsExactly(contractLog);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrder(cryptoTransfer1, cryptoTransfer2);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(recordFileRepository.count()).isOne();
+        assertThat(preparedTransactions()).isZero();
+    }
+
+    @Test
+    void disabled() {
+        // given
+        sqlProperties.getParallelFlush().setEnabled(false);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+            sqlEntityListener.onEnd(recordFile());
+            assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        });
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+    }
+
+    @Test
+    void notParallelizable() {
+        var contractStateChanges = List.of(domainBuilder.contractStateChange().get());
+        var entities = List.of(domainBuilder.entity().get());
+        var recordFiles = List.of(domainBuilder.recordFile().get());
+        var topicMessages = List.of(domainBuilder.topicMessage().get());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(parallelFlushTxManager.submit(contractStateChanges)).isFalse();
+            assertThat(parallelFlushTxManager.submit(entities)).isFalse();
+            assertThat(parallelFlushTxManager.submit(recordFiles)).isFalse();
+            assertThat(parallelFlushTxManager.submit(topicMessages)).isFalse();
+            assertThat(parallelFlushTxManager.submit(List.of())).isFalse();
+        });
+    }
+
+    @Test
+    void noTransaction() {
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get());
+        assertThat(parallelFlushTxManager.submit(cryptoTransfers)).isFalse();
+    }
+
+    @Test
+    void rollback() {
+        // given
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var recordFile = recordFile();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+            sqlEntityListener.onEnd(recordFile);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(preparedTransactions()).isZero();
+    }
+
+    @Test
+    void recover() {
+        // given a prepared transaction left behind after its record file committed
+        var committedRecordFile = domainBuilder.recordFile().persist();
+        var committedTransfer = domainBuilder.cryptoTransfer().get();
+        prepare(committedRecordFile.getConsensusEnd(), committedTransfer);
+
+        // and a prepared transaction left behind after its record file rolled back
+        var rolledBackTransfer = domainBuilder.cryptoTransfer().get();
+        prepare(committedRecordFile.getConsensusEnd() + 1, rolledBackTransfer);
+        assertThat(preparedTransactions()).isEqualTo(2);
+
+        // when
+        parallelFlushTxManager.recover();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(committedTransfer);
+        assertThat(preparedTransactions()).isZero();
+    }
+
+    @Test
+    void recoverOnStartupWhenDisabled() {
+        // given
+        sqlProperties.getParallelFlush().setEnabled(false);
+        var recordFile = domainBuilder.recordFile().persist();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        prepare(recordFile.getConsensusEnd(), cryptoTransfer);
+
+        // when
+        parallelFlushTxManager.onStartup();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(preparedTransactions()).isZero();
+    }
+
+    private long preparedTransactions() {
+        var sql = "select count(*) from pg_prepared_xacts where starts_with(gid, ?)";
+        return jdbcOperations.queryForObject(sql, Long.class, GID_PREFIX);
+    }
+
+    @SneakyThrows
+    private void prepare(long consensusEnd, CryptoTransfer cryptoTransfer) {
+        var sql = """
+                insert into crypto_transfer (amount, consensus_timestamp, entity_id, errata, is_approval,
+                  payer_account_id)
+                values (?, ?, ?, ?::errata_type, ?, ?)
+                """;
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            try (var statement = connection.prepareStatement(sql)) {
+                statement.setLong(1, cryptoTransfer.getAmount());
+                statement.setLong(2, cryptoTransfer.getConsensusTimestamp());
+                statement.setLong(3, cryptoTransfer.getEntityId());
+                statement.setObject(
+                        4, cryptoTransfer.getErrata() != null ? cryptoTransfer.getErrata().name() : null);
+                statement.setObject(5, cryptoTransfer.getIsApproval());
+                statement.setLong(6, cryptoTransfer.getPayerAccountId().getId());
+                statement.execute();
+            }
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("prepare transaction '" + GID_PREFIX + consensusEnd + "_0'");
+            }
+
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private RecordFile recordFile() {
+        var recordFile = domainBuilder.recordFile().customize(r -> r.sidecars(List.of())).get();
+        parserContext.add(recordFile);
+        return recordFile;
+    }
+}
@@ -33,6 +33,8 @@ import org.hiero.mirror.importer.reader.balance.line.AccountBalanceLineParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.cglib.core.ReflectUtils;
 import org.springframework.util.StringUtils;
 
@@ -87,6 +89,44 @@ abstract class CsvBalanceFileReaderTest {
         verifySuccess(balanceFile, accountBalanceFile, 2);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 64, 4096})
+    void readValidInChunks(int fileBufferSize) throws Exception {
+        balanceParserProperties.setFileBufferSize(fileBufferSize);
+        StreamFileData streamFileData = StreamFileData.from(balanceFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertAccountBalanceFile(accountBalanceFile);
+        assertFileHash(balanceFile, accountBalanceFile);
+        verifySuccess(balanceFile, accountBalanceFile, 2);
+    }
+
+    @Test
+    void readValidWhenFileHasWindowsLineEndings() throws Exception {
+        List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
+        FileUtils.writeLines(testFile, CsvBalanceFileReader.CHARSET.name(), lines, "\r\n");
+        balanceParserProperties.setFileBufferSize(64);
+
+        StreamFileData streamFileData = StreamFileData.from(testFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertAccountBalanceFile(accountBalanceFile);
+        assertFileHash(testFile, accountBalanceFile);
+        verifySuccess(testFile, accountBalanceFile, 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 64})
+    void readValidWhenFileHasCarriageReturnLineEndings(int fileBufferSize) throws Exception {
+        List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
+        FileUtils.writeLines(testFile, CsvBalanceFileReader.CHARSET.name(), lines, "\r");
+        balanceParserProperties.setFileBufferSize(fileBufferSize);
+
+        StreamFileData streamFileData = StreamFileData.from(testFile);
+        AccountBalanceFile accountBalanceFile = balanceFileReader.read(streamFileData);
+        assertAccountBalanceFile(accountBalanceFile);
+        assertFileHash(testFile, accountBalanceFile);
+        verifySuccess(testFile, accountBalanceFile, 2);
+    }
+
     @Test
     void readInvalidWhenFileHasNoTimestampHeader() throws IOException {
         List<String> lines = FileUtils.readLines(balanceFile, CsvBalanceFileReader.CHARSET);
@@ -8,8 +8,11 @@ import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 import static org.hiero.mirror.common.util.DomainUtils.fromBytes;
 import static org.hiero.mirror.importer.reader.block.hash.IncrementalStreamingHasherTest.EMPTY_TREE_HASH;
 
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
 import com.hedera.hapi.block.stream.output.protoc.BlockFooter;
 import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
+import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import java.security.MessageDigest;
@@ -58,6 +61,52 @@ final class BlockRootHashDigestTest {
                         EMPTY_TREE_HASH));
     }
 
+    @Test
+    void digestLargeBlock() {
+        // given enough leaves to hash the subtrees concurrently
+        final var digest = new BlockRootHashDigest();
+        final var inputHasher = new IncrementalStreamingHasher();
+        final var outputHasher = new IncrementalStreamingHasher();
+        final var stateChangesHasher = new IncrementalStreamingHasher();
+        final byte[] previousRootHash = hashOf((byte) 1);
+        final byte[] previousBlocksTreeHash = hashOf((byte) 2);
+        final byte[] startOfBlockStateRootHash = hashOf((byte) 3);
+        final var blockHeader = blockHeader();
+        digest.addBlockItem(blockHeader);
+        outputHasher.addLeaf(blockHeader.toByteArray());
+
+        for (int i = 0; i < 300; i++) {
+            final var signedTransaction = BlockItem.newBuilder()
+                    .setSignedTransaction(ByteString.copyFrom(Ints.toByteArray(i)))
+                    .build();
+            final var stateChanges = BlockItem.newBuilder()
+                    .setStateChanges(StateChanges.newBuilder()
+                            .setConsensusTimestamp(Timestamp.newBuilder().setNanos(i)))
+                    .build();
+            digest.addBlockItem(signedTransaction);
+            digest.addBlockItem(stateChanges);
+            inputHasher.addLeaf(signedTransaction.toByteArray());
+            stateChangesHasher.addLeaf(stateChanges.toByteArray());
+        }
+
+        digest.addBlockItem(blockFooter(previousRootHash, previousBlocksTreeHash, startOfBlockStateRootHash));
+
+        // when
+        final var actual = digest.digest();
+
+        // then
+        assertThat(actual)
+                .isEqualTo(expectedRootHash(
+                        previousRootHash,
+                        previousBlocksTreeHash,
+                        startOfBlockStateRootHash,
+                        EMPTY_TREE_HASH,
+                        inputHasher.computeRootHash(),
+                        outputHasher.computeRootHash(),
+                        stateChangesHasher.computeRootHash(),
+                        EMPTY_TREE_HASH));
+    }
+
     @ParameterizedTest(name = "hash {0} has incorrect length")
     @ValueSource(ints = {0, 1, 2})
     void throwWhenIncorrectHashLengthInFooter(final int index) {
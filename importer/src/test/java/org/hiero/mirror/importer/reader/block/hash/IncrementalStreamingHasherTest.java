@@ -3,10 +3,14 @@
 package org.hiero.mirror.importer.reader.block.hash;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.common.primitives.Ints;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 final class IncrementalStreamingHasherTest {
 
@@ -28,10 +32,42 @@ final class IncrementalStreamingHasherTest {
                                 "c84d5ef5565ebd554d692d4a9500c7f328f05c0a661cc627a036dcb84f6563a27ceabf32fdf70c77e4c527f7490f2fa8"));
     }
 
+    @ParameterizedTest(name = "{0} leaves")
+    @ValueSource(ints = {1, 2, 5, 64, 100, 1025})
+    void hashMatchesReference(final int count) {
+        // given
+        final var hasher = new IncrementalStreamingHasher();
+        final var leaves = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            leaves[i] = HashUtils.hashLeaf(createSha384Digest(), Ints.toByteArray(i));
+            hasher.addLeaf(Ints.toByteArray(i));
+        }
+
+        // when, then
+        assertThat(hasher.computeRootHash()).isEqualTo(referenceRootHash(leaves, 0, count));
+    }
+
     @Tag("Conformance constants")
     @Test
     void hashEmptyTree() {
         final var hasher = new IncrementalStreamingHasher();
         assertThat(hasher.computeRootHash()).isEqualTo(EMPTY_TREE_HASH);
     }
+
+    /**
+     * A recursive reference implementation. The streaming tree's left subtree is the largest perfect tree that fits
+     * and its right subtree is the tree of the remaining leaves.
+     */
+    private static byte[] referenceRootHash(final byte[][] leaves, final int from, final int to) {
+        final int count = to - from;
+        if (count == 1) {
+            return leaves[from];
+        }
+
+        final int left = Integer.bitCount(count) == 1 ? count / 2 : Integer.highestOneBit(count);
+        return HashUtils.hashInternalNode(
+                createSha384Digest(),
+                referenceRootHash(leaves, from, from + left),
+                referenceRootHash(leaves, from + left, to));
+    }
 }
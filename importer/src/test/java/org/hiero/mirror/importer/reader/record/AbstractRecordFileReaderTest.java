@@ -2,12 +2,15 @@
 
 package org.hiero.mirror.importer.reader.record;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.file.Path;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
 
@@ -29,4 +32,32 @@ abstract class AbstractRecordFileReaderTest extends RecordFileReaderTest {
                     assertThrows(InvalidStreamFileException.class, () -> recordFileReader.read(streamFileData));
                 });
     }
+
+    protected Stream<DynamicTest> readValidFileParallelDecode(
+            Function<RecordParserProperties, RecordFileReader> readerFactory) {
+        String template = "read valid version %d file %s with parallel decoding";
+        var properties = new RecordParserProperties();
+        properties.getDecode().setParallel(true);
+        properties.getDecode().setParallelThreshold(1);
+        var parallelReader = readerFactory.apply(properties);
+
+        return DynamicTest.stream(
+                getFilteredFiles(false),
+                recordFile -> String.format(template, recordFile.getVersion(), recordFile.getName()),
+                recordFile -> {
+                    // given
+                    Path testFile = getTestFile(recordFile);
+
+                    // when
+                    var expected = recordFileReader.read(StreamFileData.from(testFile.toFile()));
+                    var actual = parallelReader.read(StreamFileData.from(testFile.toFile()));
+
+                    // then
+                    assertThat(actual.getItems()).isNotEmpty().isEqualTo(expected.getItems());
+                    assertThat(actual)
+                            .usingRecursiveComparison()
+                            .ignoringFields("items", "loadStart")
+                            .isEqualTo(expected);
+                });
+    }
 }
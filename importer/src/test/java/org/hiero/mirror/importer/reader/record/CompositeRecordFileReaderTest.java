@@ -2,14 +2,18 @@
 
 package org.hiero.mirror.importer.reader.record;
 
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+
 class CompositeRecordFileReaderTest extends RecordFileReaderTest {
 
     @Override
     protected RecordFileReader getRecordFileReader() {
         RecordFileReaderImplV1 v1Reader = new RecordFileReaderImplV1();
         RecordFileReaderImplV2 v2Reader = new RecordFileReaderImplV2();
-        RecordFileReaderImplV5 v5Reader = new RecordFileReaderImplV5();
-        return new CompositeRecordFileReader(v1Reader, v2Reader, v5Reader, new ProtoRecordFileReader());
+        var recordParserProperties = new RecordParserProperties();
+        RecordFileReaderImplV5 v5Reader = new RecordFileReaderImplV5(recordParserProperties);
+        var v6Reader = new ProtoRecordFileReader(recordParserProperties);
+        return new CompositeRecordFileReader(v1Reader, v2Reader, v5Reader, v6Reader);
     }
 
     @Override
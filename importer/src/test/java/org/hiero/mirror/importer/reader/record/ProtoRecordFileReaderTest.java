@@ -23,6 +23,7 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import java.time.Instant;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.Strings;
 import org.hiero.mirror.common.domain.DigestAlgorithm;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
@@ -30,7 +31,10 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.TestUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
+import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
 
 final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
 
@@ -40,7 +44,7 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
 
     @Override
     protected RecordFileReader getRecordFileReader() {
-        return new ProtoRecordFileReader();
+        return new ProtoRecordFileReader(new RecordParserProperties());
     }
 
     @Override
@@ -48,10 +52,15 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
         return version == 6;
     }
 
+    @TestFactory
+    Stream<DynamicTest> readValidFileParallelDecode() {
+        return readValidFileParallelDecode(ProtoRecordFileReader::new);
+    }
+
     @Test
     void testEmptyRecordStreamItems() {
         var bytes = gzip(ProtoRecordStreamFile.of(RecordStreamFile.Builder::clearRecordStreamItems));
-        var reader = new ProtoRecordFileReader();
+        var reader = getRecordFileReader();
         var streamFileData = StreamFileData.from(FILENAME, bytes);
         final var recordFile = reader.read(streamFileData);
         assertThat(recordFile)
@@ -70,7 +79,7 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
             b.getEndObjectRunningHashBuilder().setAlgorithm(HashAlgorithm.HASH_ALGORITHM_UNKNOWN);
             return b;
         }));
-        var reader = new ProtoRecordFileReader();
+        var reader = getRecordFileReader();
         var streamFileData = StreamFileData.from(FILENAME, bytes);
         var exception = assertThrows(InvalidStreamFileException.class, () -> reader.read(streamFileData));
         var expected = String.format(
@@ -86,7 +95,7 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
             b.getStartObjectRunningHashBuilder().setAlgorithm(HashAlgorithm.HASH_ALGORITHM_UNKNOWN);
             return b;
         }));
-        var reader = new ProtoRecordFileReader();
+        var reader = getRecordFileReader();
         var streamFileData = StreamFileData.from(FILENAME, bytes);
         var recordFile = reader.read(streamFileData);
 
@@ -106,7 +115,7 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
             return b;
         }));
 
-        var recordFile = new ProtoRecordFileReader().read(StreamFileData.from(FILENAME, bytes));
+        var recordFile = recordFileReader.read(StreamFileData.from(FILENAME, bytes));
 
         assertThat(recordFile)
                 .returns(earliest, RecordFile::getConsensusStart)
@@ -127,7 +136,7 @@ final class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
             return b;
         }));
 
-        var recordFile = new ProtoRecordFileReader().read(StreamFileData.from(FILENAME, bytes));
+        var recordFile = recordFileReader.read(StreamFileData.from(FILENAME, bytes));
 
         assertThat(recordFile)
                 .returns(earliest, RecordFile::getConsensusStart)
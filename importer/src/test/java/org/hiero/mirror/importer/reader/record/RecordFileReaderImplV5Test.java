@@ -10,6 +10,7 @@ import lombok.SneakyThrows;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.domain.StreamFileData;
+import org.hiero.mirror.importer.parser.record.RecordParserProperties;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -18,7 +19,7 @@ class RecordFileReaderImplV5Test extends AbstractRecordFileReaderTest {
 
     @Override
     protected RecordFileReader getRecordFileReader() {
-        return new RecordFileReaderImplV5();
+        return new RecordFileReaderImplV5(new RecordParserProperties());
     }
 
     @Override
@@ -26,6 +27,11 @@ class RecordFileReaderImplV5Test extends AbstractRecordFileReaderTest {
         return version == 5;
     }
 
+    @TestFactory
+    Stream<DynamicTest> readValidFileParallelDecode() {
+        return readValidFileParallelDecode(RecordFileReaderImplV5::new);
+    }
+
     @SneakyThrows
     @TestFactory
     Stream<DynamicTest> verifyRecordItemLinksInEthTransactionValidFile() {
@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.repository.upsert;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.github.vertical_blank.sqlformatter.SqlFormatter;
 import com.github.vertical_blank.sqlformatter.languages.Dialect;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 class GenericUpsertQueryGeneratorTest extends ImporterIntegrationTest {
 
     private static final SqlFormatter.Formatter SQL_FORMATTER = SqlFormatter.of(Dialect.PostgreSql);
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final UpsertQueryGeneratorFactory factory;
 
     @Test
@@ -686,6 +688,37 @@ class GenericUpsertQueryGeneratorTest extends ImporterIntegrationTest {
         assertThat(format(generator.getUpsertQuery())).isEqualTo(format(sql));
     }
 
+    @Test
+    void getMergedUpsertQuery() {
+        var sql = """
+                insert into custom_fee_history (entity_id, fixed_fees, fractional_fees, royalty_fees, timestamp_range)
+                select entity_id, fixed_fees, fractional_fees, royalty_fees, timestamp_range
+                from custom_fee_temp
+                where upper(timestamp_range) is not null;
+
+                insert into custom_fee (entity_id, fixed_fees, fractional_fees, royalty_fees, timestamp_range)
+                select entity_id, fixed_fees, fractional_fees, royalty_fees, timestamp_range
+                from custom_fee_temp
+                where upper(timestamp_range) is null
+                on conflict (entity_id)
+                do update set
+                  fixed_fees = excluded.fixed_fees,
+                  fractional_fees = excluded.fractional_fees,
+                  royalty_fees = excluded.royalty_fees,
+                  timestamp_range = excluded.timestamp_range""";
+
+        var generator = new MergedUpsertQueryGenerator(entityMetadataRegistry.lookup(CustomFee.class));
+        assertThat(generator.getTemporaryTableName()).isEqualTo("custom_fee_temp");
+        assertThat(format(generator.getUpsertQuery())).isEqualTo(format(sql));
+    }
+
+    @Test
+    void getMergedUpsertQueryNoHistory() {
+        var entityMetadata = entityMetadataRegistry.lookup(Schedule.class);
+        assertThatThrownBy(() -> new MergedUpsertQueryGenerator(entityMetadata))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void skipPartialUpdate() {
         var generator = factory.get(Token.class);
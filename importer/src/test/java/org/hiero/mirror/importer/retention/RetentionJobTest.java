@@ -6,15 +6,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.hiero.mirror.importer.repository.RetentionRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
 
 @RequiredArgsConstructor
 class RetentionJobTest extends ImporterIntegrationTest {
@@ -22,6 +27,8 @@ class RetentionJobTest extends ImporterIntegrationTest {
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final TimePartitionService timePartitionService;
+    private final TransactionOperations transactionOperations;
     private final TransactionRepository transactionRepository;
 
     @BeforeEach
@@ -35,7 +42,9 @@ class RetentionJobTest extends ImporterIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setEnabled(false);
+        ownerJdbcTemplate.execute("drop table if exists retention_event cascade");
     }
 
     @Test
@@ -168,6 +177,81 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void dropPartitions() {
+        // given
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd() - 1;
+        retentionProperties.setDropPartitions(true);
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        // when
+        var partitions = pruneRetentionEvent(
+                recordFile1.getConsensusEnd() + 1,
+                recordFile3.getConsensusEnd(),
+                recordFile3.getConsensusEnd() + 1000,
+                List.of(recordFile1.getConsensusEnd(), recordFile2.getConsensusEnd(), recordFile3.getConsensusEnd()));
+
+        // then the partition entirely before the cutoff is dropped while the straddling one is pruned by row
+        assertThat(partitions).containsExactly("retention_event_01", "retention_event_02");
+        assertThat(ownerJdbcTemplate.queryForList("select timestamp from retention_event", Long.class))
+                .containsExactly(recordFile3.getConsensusEnd());
+    }
+
+    @Test
+    void dropPartitionsKeepsLatest() {
+        // given
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        retentionProperties.setDropPartitions(true);
+
+        // when
+        var partitions = pruneRetentionEvent(
+                recordFile2.getConsensusEnd(),
+                recordFile3.getConsensusEnd(),
+                recordFile3.getConsensusEnd() + 1,
+                List.of(recordFile1.getConsensusEnd(), recordFile2.getConsensusEnd(), recordFile3.getConsensusEnd()));
+
+        // then the latest partition is kept even though it's entirely before the cutoff
+        assertThat(partitions).containsExactly("retention_event_02");
+        assertThat(ownerJdbcTemplate.queryForList("select timestamp from retention_event", Long.class)).isEmpty();
+    }
+
+    /*
+     * Runs the retention job against a retention_event table with three time partitions whose lower bounds are 0 and
+     * the given bounds, and returns the names of the remaining partitions after verifying no detached partition was
+     * left behind.
+     */
+    private List<String> pruneRetentionEvent(long bound1, long bound2, long bound3, List<Long> timestamps) {
+        ownerJdbcTemplate.execute("""
+                create table retention_event (timestamp bigint not null) partition by range (timestamp);
+                create table retention_event_00 partition of retention_event for values from (0) to (%d);
+                create table retention_event_01 partition of retention_event for values from (%d) to (%d);
+                create table retention_event_02 partition of retention_event for values from (%d) to (%d);
+                """.formatted(bound1, bound1, bound2, bound2, bound3));
+        timestamps.forEach(t -> ownerJdbcTemplate.update("insert into retention_event values (?)", t));
+
+        RetentionEventRepository repository =
+                timestamp -> ownerJdbcTemplate.update("delete from retention_event where timestamp <= ?", timestamp);
+        var job = new RetentionJob(
+                recordFileRepository,
+                retentionProperties,
+                List.of(repository),
+                timePartitionService,
+                transactionOperations);
+
+        job.prune();
+
+        var sql = "select count(*) from pg_class where relname like 'retention_event_%' and not relispartition";
+        assertThat(ownerJdbcTemplate.queryForObject(sql, Long.class)).isZero();
+        return timePartitionService.getTimePartitions("retention_event").stream()
+                .map(TimePartition::getName)
+                .toList();
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
@@ -176,4 +260,6 @@ class RetentionJobTest extends ImporterIntegrationTest {
                 .persist();
         return recordFile;
     }
+
+    private interface RetentionEventRepository extends RetentionRepository {}
 }
@@ -22,6 +22,7 @@ import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Hooks;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.concurrent.Queues;
 
 @CustomLog
 @Configuration(proxyBeanMethods = false)
@@ -50,23 +51,33 @@ final class MonitorConfiguration {
      * the main nodes. Once the response is received, it will be sent to subscribers in case they need to sample them to
      * validate whether that transaction was received by the mirror node APIs. Finally, metrics will be collected for
      * every published transaction.
+     * <p>
+     * In open loop mode, the generator is decoupled from the rest of the flow by an unbounded buffer and the number of
+     * in-flight requests is not limited so that slow responses never delay when the next transaction is sent.
      *
      * @return the publishing flow's Disposable
      */
     @Bean(destroyMethod = "dispose")
     @ConditionalOnProperty(value = "hiero.mirror.monitor.publish.enabled", havingValue = "true", matchIfMissing = true)
     Disposable publish() {
-        return Flux.<List<PublishRequest>>generate(sink -> sink.next(transactionGenerator.next(0)))
+        boolean openLoop = publishProperties.isOpenLoop();
+        var requests = Flux.<List<PublishRequest>>generate(sink -> sink.next(transactionGenerator.next(0)))
                 .flatMapIterable(Function.identity())
                 .retry()
-                .name("generate")
+                .name("generate");
+
+        if (openLoop) {
+            requests = requests.onBackpressureBuffer();
+        }
+
+        return requests
                 .parallel(publishProperties.getClients())
                 .runOn(Schedulers.newParallel("publisher", publishProperties.getClients()))
                 .map(transactionPublisher::publish)
                 .sequential()
                 .parallel(publishProperties.getResponseThreads())
                 .runOn(Schedulers.newParallel("resolver", publishProperties.getResponseThreads()))
-                .flatMap(Function.identity())
+                .flatMap(Function.identity(), false, openLoop ? Integer.MAX_VALUE : Queues.SMALL_BUFFER_SIZE)
                 .sequential()
                 .doOnNext(mirrorSubscriber::onPublish)
                 .onErrorContinue(PublishException.class, (t, r) -> publishMetrics.onError((PublishException) t))
@@ -81,6 +81,7 @@ public class PublishMetrics {
     private Timer newHandleMetric(Tags tags) {
         return Timer.builder(METRIC_HANDLE)
                 .description("The time it takes from submit to being handled by the main nodes")
+                .publishPercentiles(0.5, 0.99, 0.999)
                 .tags(tags.common())
                 .tag(Tags.TAG_STATUS, tags.getStatus())
                 .register(meterRegistry);
@@ -89,6 +90,7 @@ public class PublishMetrics {
     private Timer newSubmitMetric(Tags tags) {
         return Timer.builder(METRIC_SUBMIT)
                 .description("The time it takes to submit a transaction")
+                .publishPercentiles(0.5, 0.99, 0.999)
                 .tags(tags.common())
                 .tag(Tags.TAG_STATUS, tags.getStatus())
                 .register(meterRegistry);
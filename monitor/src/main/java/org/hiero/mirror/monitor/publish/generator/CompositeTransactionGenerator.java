@@ -5,6 +5,7 @@ package org.hiero.mirror.monitor.publish.generator;
 import com.google.common.util.concurrent.RateLimiter;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -38,6 +39,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     private final PublishProperties properties;
     final AtomicReference<EnumeratedDistribution<TransactionGenerator>> distribution = new AtomicReference<>();
     final AtomicReference<RateLimiter> rateLimiter = new AtomicReference<>();
+    final AtomicReference<OpenLoopSchedule> schedule = new AtomicReference<>();
     final List<ConfigurableTransactionGenerator> transactionGenerators;
     final AtomicInteger batchSize = new AtomicInteger(1);
 
@@ -58,14 +60,23 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
     @Override
     public List<PublishRequest> next(int count) {
         int permits = count > 0 ? count : batchSize.get();
-        rateLimiter.get().acquire(permits);
+        List<Instant> timestamps = acquire(permits);
 
         List<PublishRequest> publishRequests = new ArrayList<>();
         int i = 0;
         while (i < permits) {
             try {
                 TransactionGenerator transactionGenerator = distribution.get().sample();
-                publishRequests.addAll(transactionGenerator.next());
+                List<PublishRequest> requests = transactionGenerator.next();
+
+                if (timestamps != null) {
+                    var timestamp = timestamps.get(i);
+                    requests = requests.stream()
+                            .map(r -> r.toBuilder().timestamp(timestamp).build())
+                            .toList();
+                }
+
+                publishRequests.addAll(requests);
                 i++;
             } catch (ScenarioException e) {
                 log.warn(e.getMessage());
@@ -89,6 +100,20 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         return Flux.fromIterable(transactionGenerators).flatMap(TransactionGenerator::scenarios);
     }
 
+    /**
+     * Waits until the permits are available. In open loop mode, returns the intended send time of each permit so that
+     * latency is measured from when the request should have been sent instead of when it was actually generated.
+     */
+    private List<Instant> acquire(int permits) {
+        var openLoopSchedule = schedule.get();
+        if (openLoopSchedule != null) {
+            return openLoopSchedule.acquire(permits);
+        }
+
+        rateLimiter.get().acquire(permits);
+        return null;
+    }
+
     private synchronized void rebuild() {
         double total = 0.0;
         List<Pair<TransactionGenerator, Double>> pairs = new ArrayList<>();
@@ -107,6 +132,7 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
             batchSize.set(1);
             distribution.set(null);
             rateLimiter.set(INACTIVE_RATE_LIMITER);
+            schedule.set(null);
             log.info("Publishing is disabled");
             return;
         }
@@ -124,6 +150,10 @@ public class CompositeTransactionGenerator implements TransactionGenerator {
         } else {
             rateLimiter.set(getRateLimiter(total, properties.getWarmupPeriod()));
         }
+
+        if (properties.isOpenLoop()) {
+            schedule.set(new OpenLoopSchedule(total));
+        }
     }
 
     private RateLimiter getRateLimiter(double tps, Duration warmupPeriod) {
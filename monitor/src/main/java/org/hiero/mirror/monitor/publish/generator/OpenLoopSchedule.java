@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.monitor.publish.generator;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed rate schedule that assigns every request the time it was intended to be sent, regardless of how long it took
+ * to send or resolve earlier requests. Measuring latency from the intended time instead of the actual send time avoids
+ * coordinated omission, since any delay in issuing a request is counted against it instead of silently dropped.
+ */
+final class OpenLoopSchedule {
+
+    private final double intervalNanos;
+    private final Instant start = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private long count;
+
+    OpenLoopSchedule(double tps) {
+        intervalNanos = TimeUnit.SECONDS.toNanos(1L) / tps;
+    }
+
+    /**
+     * Reserves the next permits on the schedule, waiting until the last one is due. If the caller has fallen behind the
+     * schedule it returns immediately with intended times in the past so that the backlog is issued without waiting.
+     *
+     * @param permits the number of requests to schedule
+     * @return the intended send time of each request
+     */
+    synchronized List<Instant> acquire(int permits) {
+        var timestamps = new ArrayList<Instant>(permits);
+        long offset = 0L;
+
+        for (int i = 0; i < permits; i++) {
+            offset = (long) (count++ * intervalNanos);
+            timestamps.add(start.plusNanos(offset));
+        }
+
+        long wait;
+        while ((wait = startNanos + offset - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+
+        return timestamps;
+    }
+}
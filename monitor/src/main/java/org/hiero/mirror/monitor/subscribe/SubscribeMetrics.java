@@ -58,6 +58,7 @@ public class SubscribeMetrics {
     private Timer newLatencyTimer(Scenario<?, ?> scenario) {
         return Timer.builder(METRIC_E2E)
                 .description("The end to end transaction latency starting from publish and ending at receive")
+                .publishPercentiles(0.5, 0.99, 0.999)
                 .tag(TAG_PROTOCOL, scenario.getProtocol().toString())
                 .tag(TAG_SCENARIO, scenario.getName())
                 .tag(TAG_SUBSCRIBER, String.valueOf(scenario.getId()))
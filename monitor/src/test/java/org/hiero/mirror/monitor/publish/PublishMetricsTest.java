@@ -17,9 +17,11 @@ import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Constructor;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import lombok.SneakyThrows;
@@ -86,6 +88,18 @@ class PublishMetricsTest {
                 .isGreaterThanOrEqualTo(3.0);
     }
 
+    @Test
+    void onSuccessPercentiles() {
+        publishMetrics.onSuccess(response());
+
+        assertMetric(meterRegistry.find(PublishMetrics.METRIC_SUBMIT).timers())
+                .extracting(t -> Arrays.stream(t.takeSnapshot().percentileValues())
+                        .map(ValueAtPercentile::percentile)
+                        .toList())
+                .asInstanceOf(InstanceOfAssertFactories.LIST)
+                .containsExactly(0.5, 0.99, 0.999);
+    }
+
     @Test
     void onSuccessWithNullResponseTimestamp(CapturedOutput output) {
         // verifies that when unexpected exception happens, onSuccess catches it and no metric is recorded
@@ -149,6 +149,43 @@ class CompositeTransactionGeneratorTest {
         assertThat(stopwatch.elapsed().toMillis() * 1.0 / 1000).isCloseTo(seconds, withinPercentage(5));
     }
 
+    @Test
+    void openLoop() {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        double seconds = 2.0;
+        int total = (int) (totalTps * seconds);
+        List<PublishRequest> publishRequests = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            publishRequests.addAll(generator.next(1));
+        }
+
+        assertThat(stopwatch.elapsed().toMillis() * 1.0 / 1000).isCloseTo(seconds, withinPercentage(5));
+        assertThat(publishRequests).hasSize(total);
+        var first = publishRequests.getFirst().getTimestamp();
+        var last = publishRequests.getLast().getTimestamp();
+        assertThat(Duration.between(first, last).toMillis()).isEqualTo((long) ((total - 1) * 1000 / totalTps));
+    }
+
+    @Test
+    void openLoopBehindSchedule() throws InterruptedException {
+        properties.setOpenLoop(true);
+        CompositeTransactionGenerator generator = supplier.get();
+        var start = generator.next(1).getFirst().getTimestamp();
+        Thread.sleep(500L);
+
+        // The backlog is generated without waiting and keeps the intended timestamps instead of the current time
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        var publishRequests = generator.next(100);
+        assertThat(stopwatch.elapsed().toMillis()).isLessThan(100L);
+        assertThat(publishRequests)
+                .hasSize(100)
+                .last()
+                .extracting(PublishRequest::getTimestamp)
+                .isEqualTo(start.plusMillis(100L));
+    }
+
     @Test
     void publishDisabled() {
         properties.setEnabled(false);
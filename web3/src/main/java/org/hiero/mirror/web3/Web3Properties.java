@@ -21,8 +21,14 @@ public class Web3Properties {
     @NotNull
     private Map<ApiEndpointName, @Valid ApiProperties> api = new HashMap<>();
 
+    @Positive
+    private int batchCallConcurrency = 4;
+
     private boolean enableStateOverrides = false;
 
+    @Positive
+    private int maxBatchCallSize = 50;
+
     @Positive
     private int maxPayloadLogSize = 300;
 
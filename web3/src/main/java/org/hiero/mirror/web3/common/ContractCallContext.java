@@ -7,6 +7,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.AccessLevel;
@@ -27,11 +28,12 @@ public class ContractCallContext {
     public static final String CONTEXT_NAME = "ContractCallContext";
     private static final ScopedValue<ContractCallContext> SCOPED_VALUE = ScopedValue.newInstance();
 
+    // Shared with forked contexts, so it must be thread-safe
     @Getter(AccessLevel.NONE)
-    private final Map<Integer, Map<Object, Object>> readCache = new HashMap<>();
+    private final Map<Integer, Map<Object, Object>> readCache;
 
     @Getter
-    private final long startTime = System.currentTimeMillis();
+    private final long startTime;
 
     @Getter(AccessLevel.NONE)
     private final Map<Integer, Map<Object, Object>> writeCache = new HashMap<>();
@@ -72,7 +74,14 @@ public class ContractCallContext {
     @Setter
     private Map<Bytes, StateOverride> stateOverrides;
 
-    private ContractCallContext() {}
+    private ContractCallContext() {
+        this(new ConcurrentHashMap<>(), System.currentTimeMillis());
+    }
+
+    private ContractCallContext(final Map<Integer, Map<Object, Object>> readCache, final long startTime) {
+        this.readCache = readCache;
+        this.startTime = startTime;
+    }
 
     public static ContractCallContext get() {
         return SCOPED_VALUE.get();
@@ -95,6 +104,41 @@ public class ContractCallContext {
                 .call(() -> function.apply(SCOPED_VALUE.get()));
     }
 
+    /**
+     * Runs the function with the given context, typically one {@link #fork() forked} from the context of another
+     * thread.
+     */
+    @SneakyThrows
+    public static <T> T run(ContractCallContext context, Function<ContractCallContext, T> function) {
+        return ScopedValue.where(SCOPED_VALUE, context).call(() -> function.apply(context));
+    }
+
+    /**
+     * Creates a context to execute the same call concurrently with this one. The fork shares the read cache and the
+     * call parameters, but has its own write cache so that the state changes of each execution are isolated.
+     */
+    public ContractCallContext fork() {
+        final var context = new ContractCallContext(readCache, startTime);
+        context.api = api;
+        context.blockSupplier = blockSupplier;
+        context.callServiceParameters = callServiceParameters;
+        context.entityNumber = entityNumber;
+        context.gasRequirement = gasRequirement;
+        context.isBalanceCall = isBalanceCall;
+        context.opcodeContext = opcodeContext;
+        context.stateOverrides = stateOverrides;
+        context.timestamp = timestamp;
+        return context;
+    }
+
+    /**
+     * Creates a context for another request that shares the read cache of this one, so that requests executed against
+     * the same block don't read the same state more than once.
+     */
+    public ContractCallContext share() {
+        return new ContractCallContext(readCache, System.currentTimeMillis());
+    }
+
     /**
      * Determines if payer balance validation should be performed. Balance validation is enabled when either gasPrice or
      * value is greater than zero, and a valid sender is provided.
@@ -138,7 +182,7 @@ public class ContractCallContext {
     }
 
     public Map<Object, Object> getReadCacheState(final int stateId) {
-        return readCache.computeIfAbsent(stateId, _ -> new HashMap<>());
+        return readCache.computeIfAbsent(stateId, _ -> new ConcurrentHashMap<>());
     }
 
     public Map<Object, Object> getWriteCacheState(final int stateId) {
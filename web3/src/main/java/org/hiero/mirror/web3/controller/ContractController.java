@@ -9,16 +9,28 @@ import static org.hiero.mirror.web3.validation.HexValidator.HEX_PREFIX;
 
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.web3.Web3Properties;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
 import org.hiero.mirror.web3.exception.InvalidParametersException;
+import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
+import org.hiero.mirror.web3.exception.ThrottleException;
 import org.hiero.mirror.web3.service.ContractExecutionService;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchRequest;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchResponse;
 import org.hiero.mirror.web3.viewmodel.ContractCallRequest;
 import org.hiero.mirror.web3.viewmodel.ContractCallResponse;
+import org.hiero.mirror.web3.viewmodel.GenericErrorResponse;
+import org.hiero.mirror.web3.viewmodel.GenericErrorResponse.ErrorMessage;
 import org.hyperledger.besu.datatypes.Address;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -58,6 +70,90 @@ class ContractController {
         }
     }
 
+    @PostMapping(value = "/call/batch")
+    ContractCallBatchResponse callBatch(@RequestBody @Valid ContractCallBatchRequest request) {
+        final var calls = request.getCalls();
+        if (calls.size() > web3Properties.getMaxBatchCallSize()) {
+            throw new InvalidParametersException(
+                    "calls field must contain at most %d calls".formatted(web3Properties.getMaxBatchCallSize()));
+        }
+
+        final var block = calls.getFirst().getBlock();
+        final var params = new ArrayList<ContractExecutionParameters>(calls.size());
+        for (final var call : calls) {
+            validateContractMaxGasLimit(call);
+            if (!block.equals(call.getBlock())) {
+                throw new InvalidParametersException("block field must be the same for every call in a batch");
+            }
+
+            final var callParams = constructServiceParameters(call);
+            if (!callParams.getStateOverrides().isEmpty() && !web3Properties.isEnableStateOverrides()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "State overrides are not supported.");
+            }
+
+            params.add(callParams);
+        }
+
+        throttle(calls);
+        final Set<ContractExecutionParameters> processed =
+                Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        try {
+            final var results = contractExecutionService.processCalls(
+                    params,
+                    web3Properties.getBatchCallConcurrency(),
+                    (callParams, result) -> {
+                        processed.add(callParams);
+                        return new ContractCallBatchResponse.Result(result.result(), null);
+                    },
+                    (callParams, e) -> {
+                        processed.add(callParams);
+                        return toErrorResult(callParams, e);
+                    });
+            return new ContractCallBatchResponse(results);
+        } catch (RuntimeException e) {
+            // The batch failed, so restore the consumed tokens of the calls that were skipped or never processed.
+            params.stream().filter(p -> !processed.contains(p)).forEach(p -> throttleManager.restore(p.getGas()));
+            throw e;
+        }
+    }
+
+    // Throttles every call of the batch as a separate request, restoring the gas taken if any is throttled
+    private void throttle(List<ContractCallRequest> calls) {
+        int throttled = 0;
+        try {
+            for (final var call : calls) {
+                throttleManager.throttle(call);
+                throttled++;
+            }
+        } catch (ThrottleException e) {
+            for (int i = 0; i < throttled; i++) {
+                throttleManager.restore(calls.get(i).getGas());
+            }
+            throw e;
+        }
+    }
+
+    private ContractCallBatchResponse.Result toErrorResult(ContractExecutionParameters params, RuntimeException e) {
+        return switch (e) {
+            case MirrorEvmTransactionException mete -> {
+                final var childTransactionErrors = mete.getChildTransactionErrors().stream()
+                        .map(message -> new ErrorMessage(message, StringUtils.EMPTY, StringUtils.EMPTY))
+                        .toList();
+                yield new ContractCallBatchResponse.Result(
+                        null,
+                        new GenericErrorResponse(
+                                mete.getMessage(), mete.getDetail(), mete.getData(), childTransactionErrors));
+            }
+            case IllegalArgumentException _, InvalidParametersException _ -> {
+                // Processing did not complete, so restore the consumed tokens.
+                throttleManager.restore(params.getGas());
+                yield new ContractCallBatchResponse.Result(
+                        null, new GenericErrorResponse(HttpStatus.BAD_REQUEST.getReasonPhrase(), e.getMessage()));
+            }
+            default -> throw e;
+        };
+    }
+
     private ContractExecutionParameters constructServiceParameters(ContractCallRequest request) {
         final var fromAddress = request.getFrom() != null ? Address.fromHexString(request.getFrom()) : Address.ZERO;
 
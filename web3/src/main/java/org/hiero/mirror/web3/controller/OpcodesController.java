@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.web3.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.rest.model.OpcodesResponse;
@@ -11,6 +13,7 @@ import org.hiero.mirror.web3.service.model.OpcodeRequest;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -47,21 +50,25 @@ class OpcodesController {
      * @param stack               Include stack information
      * @param memory              Include memory information
      * @param storage             Include storage information
-     * @return {@link OpcodesResponse} containing the result of the transaction execution
+     * @param response            The response the {@link OpcodesResponse} is streamed to as the opcodes are traced
      */
     @GetMapping(value = "/{transactionIdOrHash}/opcodes")
-    OpcodesResponse getContractOpcodes(
+    void getContractOpcodes(
             @PathVariable TransactionIdOrHashParameter transactionIdOrHash,
             @RequestParam(required = false, defaultValue = "true") boolean stack,
             @RequestParam(required = false, defaultValue = "false") boolean memory,
             @RequestParam(required = false, defaultValue = "false") boolean storage,
-            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING) String acceptEncoding) {
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            HttpServletResponse response)
+            throws IOException {
         if (properties.isEnabled()) {
             validateAcceptEncodingHeader(acceptEncoding);
             throttleManager.throttleOpcodeRequest();
 
             final var request = new OpcodeRequest(transactionIdOrHash, stack, memory, storage);
-            return opcodeService.processOpcodeCall(request);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            opcodeService.processOpcodeCall(request, response.getOutputStream());
+            return;
         }
 
         throw new ResponseStatusException(HttpStatus.NOT_FOUND);
@@ -4,6 +4,7 @@ package org.hiero.mirror.web3.evm.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.hapi.node.state.contract.Bytecode;
 import com.hedera.node.app.service.contract.impl.exec.gas.CustomGasCalculator;
 import com.hedera.node.app.service.entityid.EntityIdFactory;
 import com.hedera.node.app.service.entityid.impl.AppEntityIdFactory;
@@ -25,10 +26,12 @@ import org.springframework.context.annotation.Primary;
 @RequiredArgsConstructor
 public class EvmConfiguration {
 
+    public static final String CACHE_MANAGER_BYTECODE = "bytecode";
     public static final String CACHE_MANAGER_CONTRACT = "contract";
     public static final String CACHE_MANAGER_CONTRACT_SLOTS = "contractSlots";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
+    public static final String CACHE_MANAGER_HISTORICAL = "historical";
     public static final String CACHE_MANAGER_RECORD_FILE_LATEST = "recordFileLatest";
     public static final String CACHE_MANAGER_RECORD_FILE_EARLIEST = "recordFileEarliest";
     public static final String CACHE_MANAGER_RECORD_FILE_INDEX = "recordFileIndex";
@@ -40,6 +43,7 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_TOKEN_TYPE = "tokenType";
     public static final String CACHE_NAME = "default";
     public static final String CACHE_NAME_CONTRACT = "contract";
+    public static final String CACHE_NAME_CONTRACT_STATE = "contractState";
     public static final String CACHE_NAME_EVM_ADDRESS = "evmAddress";
     public static final String CACHE_NAME_ALIAS = "alias";
     public static final String CACHE_NAME_NFT = "nft";
@@ -63,6 +67,21 @@ public class EvmConfiguration {
     private final CacheProperties cacheProperties;
     private final EvmProperties evmProperties;
 
+    @Bean(CACHE_MANAGER_BYTECODE)
+    CacheManager cacheManagerBytecode() {
+        final var specification = cacheProperties.getBytecode();
+        var caffeine = Caffeine.from(specification);
+        if (specification.contains("maximumWeight")) {
+            caffeine = caffeine.weigher((Object key, Object value) ->
+                    value instanceof Bytecode bytecode ? (int) bytecode.code().length() : 1);
+        }
+
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(caffeine);
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_CONTRACT)
     CacheManager cacheManagerContract() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -83,7 +102,10 @@ public class EvmConfiguration {
     CacheManager cacheManagerContractState() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
         caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
-        caffeineCacheManager.setCacheSpecification(cacheProperties.getContractState());
+        caffeineCacheManager.setCacheSpecification(
+                cacheProperties.isEnableContractStateInvalidation()
+                        ? cacheProperties.getContractStateWithInvalidation()
+                        : cacheProperties.getContractState());
         return caffeineCacheManager;
     }
 
@@ -103,6 +125,19 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    /**
+     * State as of a past block never changes, so historical queries are cached by their block timestamp for much longer
+     * than the latest state
+     */
+    @Bean(CACHE_MANAGER_HISTORICAL)
+    CacheManager cacheManagerHistorical() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(
+                CACHE_NAME, CACHE_NAME_ALIAS, CACHE_NAME_CONTRACT_STATE, CACHE_NAME_EVM_ADDRESS, CACHE_NAME_TOKEN_ACCOUNT));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getHistorical());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_TOKEN)
     CacheManager cacheManagerToken() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
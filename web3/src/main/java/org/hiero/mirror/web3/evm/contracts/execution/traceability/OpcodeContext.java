@@ -8,13 +8,17 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.Setter;
+import lombok.ToString;
 import org.hiero.mirror.common.domain.contract.ContractAction;
 import org.hiero.mirror.rest.model.Opcode;
 import org.hiero.mirror.web3.controller.OpcodesProperties;
 import org.hiero.mirror.web3.service.model.OpcodeRequest;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Properties for tracing opcodes
@@ -58,6 +62,20 @@ public final class OpcodeContext {
 
     private List<Opcode> opcodes;
 
+    /**
+     * Receives the recorded opcodes as they are traced instead of keeping them in {@link #opcodes}, so a streamed trace
+     * does not have to be held in memory.
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final @Nullable Consumer<Opcode> opcodeWriter;
+
+    /**
+     * Number of opcodes recorded so far, whether kept in {@link #opcodes} or passed to the {@link #opcodeWriter}.
+     */
+    @Setter(AccessLevel.NONE)
+    private int recordedOpcodes;
+
     /**
      * Per-depth counter of system contract calls seen so far at each call depth.
      * Used to correlate EVM re-execution system calls with preloaded reverted sidecar actions.
@@ -120,11 +138,23 @@ public final class OpcodeContext {
 
     public OpcodeContext(
             final OpcodeRequest opcodeRequest, final int initialOpcodesCapacity, final OpcodesProperties properties) {
+        this(opcodeRequest, initialOpcodesCapacity, properties, null);
+    }
+
+    public OpcodeContext(
+            final OpcodeRequest opcodeRequest,
+            final int initialOpcodesCapacity,
+            final OpcodesProperties properties,
+            final @Nullable Consumer<Opcode> opcodeWriter) {
         this.stack = opcodeRequest.isStack();
         this.memory = opcodeRequest.isMemory();
         this.storage = opcodeRequest.isStorage();
         this.properties = properties;
-        this.opcodes = new ArrayList<>(Math.min(Math.max(initialOpcodesCapacity, 0), MAX_INITIAL_OPCODES_CAPACITY));
+        this.opcodeWriter = opcodeWriter;
+        // Streamed opcodes are never kept, so don't allocate a list for them
+        this.opcodes = opcodeWriter != null
+                ? List.of()
+                : new ArrayList<>(Math.min(Math.max(initialOpcodesCapacity, 0), MAX_INITIAL_OPCODES_CAPACITY));
     }
 
     /**
@@ -139,11 +169,11 @@ public final class OpcodeContext {
         if (isAtCapacity() || exceedsCaptureBudget(opcode)) {
             if (!truncated) {
                 truncated = true;
-                opcodes.add(TRUNCATED_OPCODE);
+                record(TRUNCATED_OPCODE);
             }
             return;
         }
-        opcodes.add(opcode);
+        record(opcode);
         capturedMemoryWords += size(opcode.getMemory());
         capturedStack += size(opcode.getStack());
         capturedStorage += size(opcode.getStorage());
@@ -154,7 +184,16 @@ public final class OpcodeContext {
      * memory/stack/storage captured so far. Once true the trace is truncated and no further opcodes are recorded.
      */
     public boolean isAtCapacity() {
-        return truncated || opcodes.size() + 1 >= properties.getMaxOpcodes();
+        return truncated || recordedOpcodes + 1 >= properties.getMaxOpcodes();
+    }
+
+    private void record(final Opcode opcode) {
+        recordedOpcodes++;
+        if (opcodeWriter != null) {
+            opcodeWriter.accept(opcode);
+        } else {
+            opcodes.add(opcode);
+        }
     }
 
     private boolean exceedsCaptureBudget(final Opcode opcode) {
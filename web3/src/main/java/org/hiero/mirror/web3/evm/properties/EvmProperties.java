@@ -76,6 +76,12 @@ public class EvmProperties {
     @Min(21_000L)
     private long maxGasLimit = 15_000_000L;
 
+    // Maximum number of concurrent executions per eth_estimateGas request. Values of 3 or more speculatively execute
+    // the next levels of the gas search in parallel.
+    @Max(31)
+    @Positive
+    private int maxGasEstimateConcurrency = 1;
+
     // Maximum iteration count for estimate gas' search algorithm
     @Positive
     private int maxGasEstimateRetriesCount = 20;
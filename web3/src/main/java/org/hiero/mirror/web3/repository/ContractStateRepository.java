@@ -2,10 +2,15 @@
 
 package org.hiero.mirror.web3.repository;
 
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_STATE;
+
 import java.util.List;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.contract.ContractState;
+import org.hiero.mirror.web3.state.ContractSlotChange;
 import org.hiero.mirror.web3.state.ContractSlotValue;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
@@ -36,6 +41,7 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
      * @param blockTimestamp The block timestamp up to which to retrieve the storage value.
      * @return An {@code Optional} containing the byte array of the storage value if found, or an empty {@code Optional} if not.
      */
+    @Cacheable(cacheNames = CACHE_NAME_CONTRACT_STATE, cacheManager = CACHE_MANAGER_HISTORICAL)
     @Query(value = """
             select
                 coalesce(value_written, value_read) as value
@@ -47,4 +53,25 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             limit 1
             """, nativeQuery = true)
     Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * Retrieves the slots whose current value in contract_state was modified after the given consensus timestamp, in
+     * the order the changes reached consensus. Only changes that write a value update contract_state.
+     *
+     * @param consensusTimestamp The exclusive lower bound of the consensus timestamp
+     * @param limit              The maximum number of changes to return
+     * @return The contract ID, slot and consensus timestamp of each change
+     */
+    @Query(value = """
+            select consensus_timestamp, contract_id, slot
+            from contract_state_change
+            where consensus_timestamp > ?1
+            and (value_written is not null or migration is true)
+            order by consensus_timestamp
+            limit ?2
+            """, nativeQuery = true)
+    List<ContractSlotChange> findChangesAfter(long consensusTimestamp, int limit);
+
+    @Query(value = "select coalesce(max(consensus_timestamp), 0) from contract_state_change", nativeQuery = true)
+    long findLatestChangeTimestamp();
 }
@@ -3,6 +3,7 @@
 package org.hiero.mirror.web3.repository;
 
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_SYSTEM_ACCOUNT;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
@@ -56,6 +57,7 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
      * @return an Optional containing the entity's state at the specified timestamp.
      *         If there is no record found for the given criteria, an empty Optional is returned.
      */
+    @Cacheable(cacheNames = CACHE_NAME_EVM_ADDRESS, cacheManager = CACHE_MANAGER_HISTORICAL)
     @Query(value = """
             with entity_cte as (
                 select id
@@ -92,6 +94,7 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
      * @return an Optional containing the entity's state at the specified timestamp.
      *         If there is no record found for the given criteria, an empty Optional is returned.
      */
+    @Cacheable(cacheNames = CACHE_NAME_ALIAS, cacheManager = CACHE_MANAGER_HISTORICAL)
     @Query(value = """
             with entity_cte as (
                 select id
@@ -133,6 +136,7 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
      * @return an Optional containing the entity's state at the specified timestamp.
      *         If there is no record found for the given criteria, an empty Optional is returned.
      */
+    @Cacheable(cacheNames = CACHE_NAME, cacheManager = CACHE_MANAGER_HISTORICAL)
     @Query(value = """
                     (
                         select *
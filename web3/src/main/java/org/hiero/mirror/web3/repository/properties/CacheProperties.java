@@ -5,6 +5,8 @@ package org.hiero.mirror.web3.repository.properties;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -20,8 +22,18 @@ public class CacheProperties {
      */
     private static final String ENTITY_CACHE_CONFIG = "expireAfterWrite=1s,maximumSize=10000,recordStats";
 
+    /**
+     * Contract runtime bytecode keyed by its code hash. Weighed by the size of the code in bytes when maximumWeight is
+     * used.
+     */
+    @NotBlank
+    private String bytecode = "expireAfterAccess=1h,maximumWeight=100000000,recordStats";
+
+    /**
+     * The code hash of each contract's runtime bytecode
+     */
     @NotBlank
-    private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
+    private String contract = "expireAfterAccess=1h,maximumSize=100000,recordStats";
 
     @NotBlank
     private String contractSlots = "expireAfterAccess=5m,maximumSize=3000,recordStats";
@@ -29,14 +41,32 @@ public class CacheProperties {
     @NotBlank
     private String contractState = "expireAfterWrite=2s,maximumSize=25000,recordStats";
 
+    @NotNull
+    private Duration contractStateInvalidationInterval = Duration.ofSeconds(1L);
+
+    /**
+     * The contract state cache configuration used instead of contractState when changed slots are invalidated, so the
+     * expiry only acts as a safety net
+     */
+    @NotBlank
+    private String contractStateWithInvalidation = "expireAfterWrite=1h,maximumSize=25000,recordStats";
+
     private boolean enableBatchContractSlotCaching = true;
 
+    private boolean enableContractStateInvalidation = false;
+
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
     @NotBlank
     private String fee = "expireAfterWrite=60m,maximumSize=20,recordStats";
 
+    /**
+     * Entities, token relationships and contract slots as of a historical block, which never change
+     */
+    @NotBlank
+    private String historical = "expireAfterAccess=1h,maximumSize=100000,recordStats";
+
     @Min(1)
     @Max(10000)
     private int maxSlotKeysPerBatch = 100;
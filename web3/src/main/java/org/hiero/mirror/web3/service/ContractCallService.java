@@ -16,7 +16,9 @@ import io.micrometer.core.instrument.Tags;
 import jakarta.inject.Named;
 import java.time.Instant;
 import java.time.YearMonth;
+import java.util.function.Supplier;
 import lombok.CustomLog;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
 import org.hiero.mirror.web3.exception.BlockNumberNotFoundException;
@@ -99,13 +101,27 @@ public abstract class ContractCallService {
      */
     protected final EvmTransactionResult callContract(CallServiceParameters params, ContractCallContext ctx)
             throws MirrorEvmTransactionException {
+        return callContract(params, ctx, blockSupplier(params.getBlock()));
+    }
+
+    /**
+     * Calls the contract against the record file of the given supplier, which may be shared by several calls so that
+     * they execute against the same block.
+     */
+    protected final EvmTransactionResult callContract(
+            CallServiceParameters params, ContractCallContext ctx, Supplier<RecordFile> blockSupplier)
+            throws MirrorEvmTransactionException {
         ctx.setCallServiceParameters(params);
-        ctx.setBlockSupplier(Suppliers.memoize(() ->
-                recordFileService.findByBlockType(params.getBlock()).orElseThrow(BlockNumberNotFoundException::new)));
+        ctx.setBlockSupplier(blockSupplier);
 
         return doProcessCall(params, params.getGas(), false);
     }
 
+    protected final Supplier<RecordFile> blockSupplier(BlockType block) {
+        return Suppliers.memoize(
+                () -> recordFileService.findByBlockType(block).orElseThrow(BlockNumberNotFoundException::new));
+    }
+
     protected final EvmTransactionResult doProcessCall(
             CallServiceParameters params, long estimatedGas, boolean estimate) throws MirrorEvmTransactionException {
         EvmTransactionResult result = null;
@@ -9,10 +9,23 @@ import com.google.common.base.Stopwatch;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.CustomLog;
 import org.apache.tuweni.bytes.Bytes;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
@@ -24,9 +37,10 @@ import org.hiero.mirror.web3.viewmodel.StateOverride;
 
 @CustomLog
 @Named
-public class ContractExecutionService extends ContractCallService {
+public class ContractExecutionService extends ContractCallService implements AutoCloseable {
 
     private final BinaryGasEstimator binaryGasEstimator;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
 
     @SuppressWarnings("java:S107")
     public ContractExecutionService(
@@ -47,6 +61,11 @@ public class ContractExecutionService extends ContractCallService {
         this.binaryGasEstimator = binaryGasEstimator;
     }
 
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
     /**
      * Backwards compatible method returning only the result hex string.
      */
@@ -58,47 +77,127 @@ public class ContractExecutionService extends ContractCallService {
      * New API that returns both the result and the actual gas used by the execution.
      */
     public ContractExecutionResult processCallWithGas(final ContractExecutionParameters params) {
-        return ContractCallContext.run(ctx -> {
-            ctx.setApi(CALL);
-            var stopwatch = Stopwatch.createStarted();
-            var stringResult = "";
-            long gasUsed;
-
-            try {
-                updateGasLimitMetric(params);
-
-                if (!params.getStateOverrides().isEmpty()) {
-                    final var addressToAccounts = new HashMap<com.hedera.pbj.runtime.io.buffer.Bytes, StateOverride>(
-                            params.getStateOverrides().size());
-                    for (final var stateOverride : params.getStateOverrides()) {
-                        final var address = stateOverride.getAddress();
-                        addressToAccounts.put(
-                                com.hedera.pbj.runtime.io.buffer.Bytes.wrap(parseHex(address)), stateOverride);
-                    }
+        return ContractCallContext.run(ctx -> processCall(params, ctx, blockSupplier(params.getBlock())));
+    }
 
-                    ctx.setStateOverrides(addressToAccounts);
+    /**
+     * Executes the calls against the same block, with up to the given number of calls executing concurrently. The state
+     * read by one call is shared with the others, so the calls should target the same block. Calls with state overrides
+     * use their own read cache so their overrides are not visible to the other calls. The results are returned in the
+     * order of the calls, with the exceptions of failed calls converted by the error handler. Once the error handler
+     * rethrows, the calls that have not started yet are skipped.
+     *
+     * @param params      the calls to execute, which must all use the same block
+     * @param concurrency the maximum number of calls to execute concurrently
+     * @param onResult    converts the result of a successful call
+     * @param onError     converts the exception of a failed call, or rethrows it to fail the whole batch
+     * @return the converted results in the order of the calls
+     */
+    public <T> List<T> processCalls(
+            final List<ContractExecutionParameters> params,
+            final int concurrency,
+            final BiFunction<ContractExecutionParameters, ContractExecutionResult, T> onResult,
+            final BiFunction<ContractExecutionParameters, RuntimeException, T> onError) {
+        return ContractCallContext.run(batchContext -> {
+            // Resolve the block up front so every call sees the same one
+            final var blockSupplier = blockSupplier(params.getFirst().getBlock());
+            blockSupplier.get();
+
+            final var results = new ArrayList<T>(Collections.nCopies(params.size(), null));
+            final var failed = new AtomicBoolean();
+            final var next = new AtomicInteger();
+            final var workers = new ArrayList<CompletableFuture<Void>>(concurrency);
+            final Runnable worker = () -> {
+                for (int i = next.getAndIncrement(); i < params.size() && !failed.get(); i = next.getAndIncrement()) {
+                    final var call = params.get(i);
+                    final Function<ContractCallContext, T> function = ctx -> {
+                        try {
+                            return onResult.apply(call, processCall(call, ctx, blockSupplier));
+                        } catch (RuntimeException e) {
+                            try {
+                                return onError.apply(call, e);
+                            } catch (RuntimeException rethrown) {
+                                failed.set(true);
+                                throw rethrown;
+                            }
+                        }
+                    };
+
+                    // The read cache holds overridden state, so calls with state overrides can't share it
+                    results.set(
+                            i,
+                            call.getStateOverrides().isEmpty()
+                                    ? ContractCallContext.run(batchContext.share(), function)
+                                    : ContractCallContext.run(function));
                 }
+            };
+
+            for (int i = 0; i < Math.min(concurrency, params.size()); i++) {
+                workers.add(CompletableFuture.runAsync(worker, executor));
+            }
 
-                Bytes result;
-                if (params.isEstimate()) {
-                    result = estimateGas(params, ctx);
-                    gasUsed = result.toLong();
-                } else {
-                    final var ethCallTxnResult = callContract(params, ctx);
-                    result = Objects.requireNonNullElse(
-                            Bytes.fromHexString(ethCallTxnResult.contractCallResult()), Bytes.EMPTY);
-                    gasUsed = ethCallTxnResult.gasUsed();
+            RuntimeException failure = null;
+            for (final var future : workers) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException re ? re : e;
+                    }
                 }
+            }
 
-                stringResult = result.toHexString();
-            } finally {
-                log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
+            if (failure != null) {
+                throw failure;
             }
 
-            return new ContractExecutionResult(stringResult, gasUsed);
+            return results;
         });
     }
 
+    private ContractExecutionResult processCall(
+            final ContractExecutionParameters params,
+            final ContractCallContext ctx,
+            final Supplier<RecordFile> blockSupplier) {
+        ctx.setApi(CALL);
+        var stopwatch = Stopwatch.createStarted();
+        var stringResult = "";
+        long gasUsed;
+
+        try {
+            updateGasLimitMetric(params);
+
+            if (!params.getStateOverrides().isEmpty()) {
+                final var addressToAccounts = new HashMap<com.hedera.pbj.runtime.io.buffer.Bytes, StateOverride>(
+                        params.getStateOverrides().size());
+                for (final var stateOverride : params.getStateOverrides()) {
+                    final var address = stateOverride.getAddress();
+                    addressToAccounts.put(
+                            com.hedera.pbj.runtime.io.buffer.Bytes.wrap(parseHex(address)), stateOverride);
+                }
+
+                ctx.setStateOverrides(addressToAccounts);
+            }
+
+            Bytes result;
+            if (params.isEstimate()) {
+                result = estimateGas(params, ctx, blockSupplier);
+                gasUsed = result.toLong();
+            } else {
+                final var ethCallTxnResult = callContract(params, ctx, blockSupplier);
+                result = Objects.requireNonNullElse(
+                        Bytes.fromHexString(ethCallTxnResult.contractCallResult()), Bytes.EMPTY);
+                gasUsed = ethCallTxnResult.gasUsed();
+            }
+
+            stringResult = result.toHexString();
+        } finally {
+            log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
+        }
+
+        return new ContractExecutionResult(stringResult, gasUsed);
+    }
+
     /**
      * This method estimates the amount of gas required to execute a smart contract function. The estimation process
      * involves two steps:
@@ -110,8 +209,11 @@ public class ContractExecutionService extends ContractCallService {
      * 2. Finally, if the first step is successful, a binary search is initiated. The lower bound of the search is the
      * gas used in the first step, while the upper bound is the inputted gas parameter.
      */
-    private Bytes estimateGas(final ContractExecutionParameters params, final ContractCallContext context) {
-        final var processingResult = callContract(params, context);
+    private Bytes estimateGas(
+            final ContractExecutionParameters params,
+            final ContractCallContext context,
+            final Supplier<RecordFile> blockSupplier) {
+        final var processingResult = callContract(params, context, blockSupplier);
         final var gasUsedByInitialCall = processingResult.gasUsed();
 
         // sanity check ensuring gasUsed is always lower than the inputted one
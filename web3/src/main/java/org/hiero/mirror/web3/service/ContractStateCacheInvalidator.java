@@ -0,0 +1,111 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+
+import com.google.common.base.Stopwatch;
+import jakarta.inject.Named;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.CustomLog;
+import org.hiero.mirror.web3.repository.ContractStateRepository;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.service.ContractStateServiceImpl.SlotKey;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Follows the contract state changes committed by the importer and evicts only the cached slots that changed, so hot
+ * slots can stay cached for much longer than the block interval.
+ *
+ * <p>A slot loaded concurrently with an eviction may have read the value from before the change. Loaders compare the
+ * {@link #getGeneration() generation} from before and after their query and evict what they cached if it moved.
+ *
+ * <p>The changes are only polled when invalidation is enabled at startup, since that also selects the cache expiry.
+ */
+@CustomLog
+@Named
+final class ContractStateCacheInvalidator implements SchedulingConfigurer {
+
+    static final int PAGE_SIZE = 10_000;
+
+    private final CacheProperties cacheProperties;
+    private final Cache contractStateCache;
+    private final ContractStateRepository contractStateRepository;
+    private final AtomicLong generation = new AtomicLong();
+
+    // The consensus timestamp of the last change applied to the cache, or -1 if not following changes
+    private long lastConsensusTimestamp = -1L;
+
+    ContractStateCacheInvalidator(
+            final @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager cacheManagerContractState,
+            final CacheProperties cacheProperties,
+            final ContractStateRepository contractStateRepository) {
+        this.cacheProperties = cacheProperties;
+        this.contractStateCache = cacheManagerContractState.getCache(CACHE_NAME);
+        this.contractStateRepository = contractStateRepository;
+    }
+
+    long getGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    public void configureTasks(final ScheduledTaskRegistrar taskRegistrar) {
+        if (cacheProperties.isEnableContractStateInvalidation()) {
+            taskRegistrar.addFixedDelayTask(this::invalidate, cacheProperties.getContractStateInvalidationInterval());
+        }
+    }
+
+    synchronized void invalidate() {
+        if (!cacheProperties.isEnableContractStateInvalidation()) {
+            lastConsensusTimestamp = -1L;
+            return;
+        }
+
+        try {
+            if (lastConsensusTimestamp < 0) {
+                // Anything cached before following the changes may already be stale
+                lastConsensusTimestamp = contractStateRepository.findLatestChangeTimestamp();
+                clear();
+                log.info("Invalidating cached contract state changed after {}", lastConsensusTimestamp);
+                return;
+            }
+
+            var stopwatch = Stopwatch.createStarted();
+            var changes = contractStateRepository.findChangesAfter(lastConsensusTimestamp, PAGE_SIZE);
+
+            if (changes.isEmpty()) {
+                return;
+            }
+
+            if (changes.size() >= PAGE_SIZE) {
+                // The page may end partway through a transaction's changes, so start over from the latest change
+                lastConsensusTimestamp = contractStateRepository.findLatestChangeTimestamp();
+                clear();
+                log.info("Cleared the contract state cache after more than {} changes", PAGE_SIZE);
+                return;
+            }
+
+            generation.incrementAndGet();
+
+            for (var change : changes) {
+                contractStateCache.evict(new SlotKey(change.getContractId(), change.getSlot()));
+            }
+
+            lastConsensusTimestamp = changes.getLast().getConsensusTimestamp();
+            log.debug("Invalidated {} changed contract slots in {}", changes.size(), stopwatch);
+        } catch (Exception e) {
+            log.warn("Unable to invalidate changed contract state: {}", e.getMessage());
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        contractStateCache.clear();
+    }
+}
@@ -33,6 +33,7 @@ final class ContractStateServiceImpl implements ContractStateService {
     private final CacheProperties cacheProperties;
     private final Cache contractSlotsCache;
     private final Cache contractStateCache;
+    private final ContractStateCacheInvalidator contractStateCacheInvalidator;
     private final ContractStateRepository contractStateRepository;
     private final CaffeineSpec slotsPerContractSpec;
 
@@ -40,10 +41,12 @@ final class ContractStateServiceImpl implements ContractStateService {
             final @Qualifier(CACHE_MANAGER_CONTRACT_SLOTS) CacheManager cacheManagerContractSlots,
             final @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager cacheManagerContractState,
             final CacheProperties cacheProperties,
+            final ContractStateCacheInvalidator contractStateCacheInvalidator,
             final ContractStateRepository contractStateRepository) {
         this.cacheProperties = cacheProperties;
         this.contractSlotsCache = cacheManagerContractSlots.getCache(CACHE_NAME);
         this.contractStateCache = cacheManagerContractState.getCache(CACHE_NAME);
+        this.contractStateCacheInvalidator = contractStateCacheInvalidator;
         this.contractStateRepository = contractStateRepository;
         this.slotsPerContractSpec = CaffeineSpec.parse(cacheProperties.getSlotsPerContract());
     }
@@ -83,9 +86,16 @@ final class ContractStateServiceImpl implements ContractStateService {
      * one query instead of each opening a connection.
      */
     private Optional<byte[]> findStorageSingle(final EntityId contractId, final byte[] key, final SlotKey cacheKey) {
-        return toOptional(contractStateCache.get(cacheKey, () -> contractStateRepository
+        final long generation = contractStateCacheInvalidator.getGeneration();
+        final var value = contractStateCache.get(cacheKey, () -> contractStateRepository
                 .findStorage(contractId.getId(), key)
-                .orElse(EMPTY_VALUE)));
+                .orElse(EMPTY_VALUE));
+
+        if (generation != contractStateCacheInvalidator.getGeneration()) {
+            contractStateCache.evict(cacheKey);
+        }
+
+        return toOptional(value);
     }
 
     /**
@@ -124,6 +134,7 @@ final class ContractStateServiceImpl implements ContractStateService {
         }
 
         final var minimalSlots = slots.length == size ? slots : Arrays.copyOf(slots, size);
+        final long generation = contractStateCacheInvalidator.getGeneration();
         final var contractSlotValues = contractStateRepository.findStorageBatch(contractId.getId(), minimalSlots);
         final var foundSlots = HashSet.<Bytes>newHashSet(contractSlotValues.size());
         byte[] value = null;
@@ -145,6 +156,13 @@ final class ContractStateServiceImpl implements ContractStateService {
             }
         }
 
+        // Slots changed while querying may have been cached with the value from before the change
+        if (generation != contractStateCacheInvalidator.getGeneration()) {
+            for (int i = 0; i < size; i++) {
+                contractStateCache.evict(generateCacheKey(contractId, slots[i]));
+            }
+        }
+
         return toOptional(value);
     }
 
@@ -175,7 +193,7 @@ final class ContractStateServiceImpl implements ContractStateService {
 
     @EqualsAndHashCode(cacheStrategy = CacheStrategy.LAZY)
     @Value
-    private static class SlotKey {
+    static class SlotKey {
         private final long contractId;
         private final byte[] slot;
     }
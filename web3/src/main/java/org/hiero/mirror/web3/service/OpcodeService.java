@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.web3.service;
 
+import java.io.OutputStream;
 import org.hiero.mirror.rest.model.OpcodesResponse;
 import org.hiero.mirror.web3.service.model.OpcodeRequest;
 import org.jspecify.annotations.NonNull;
@@ -13,4 +14,13 @@ public interface OpcodeService {
      * @return the {@link OpcodesResponse} holding the result of the opcode call
      */
     OpcodesResponse processOpcodeCall(@NonNull OpcodeRequest opcodeRequest);
+
+    /**
+     * Streams the {@link OpcodesResponse} as JSON while the transaction is traced instead of holding every opcode in
+     * memory. Nothing is written if the transaction cannot be found or fails before its first opcode.
+     *
+     * @param opcodeRequest the {@link OpcodeRequest}
+     * @param outputStream  the stream to write the response to
+     */
+    void processOpcodeCall(@NonNull OpcodeRequest opcodeRequest, @NonNull OutputStream outputStream);
 }
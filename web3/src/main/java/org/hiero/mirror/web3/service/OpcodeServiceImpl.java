@@ -9,13 +9,19 @@ import static org.hiero.mirror.web3.Web3Properties.ApiEndpointName.OPCODES;
 import static org.hiero.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
 import static org.hiero.mirror.web3.validation.HexValidator.HEX_PREFIX;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hedera.node.app.service.contract.impl.utils.ConversionUtils;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import jakarta.annotation.PostConstruct;
+import java.io.OutputStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.Consumer;
+import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.tuweni.bytes.Bytes;
@@ -46,14 +52,18 @@ import org.hiero.mirror.web3.state.CommonEntityAccessor;
 import org.hiero.mirror.web3.viewmodel.BlockType;
 import org.hyperledger.besu.datatypes.Address;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 
+@CustomLog
 @Service
 @RequiredArgsConstructor
 public class OpcodeServiceImpl implements OpcodeService {
 
     static final String EXECUTED_OPCODES_METRIC = "hiero.mirror.web3.opcodes.executed";
     static final String MEMORY_WORDS_METRIC = "hiero.mirror.web3.opcodes.memory";
+    static final String STREAMED_BYTES_METRIC = "hiero.mirror.web3.opcodes.streamed.bytes";
+    static final String STREAMED_OPCODES_METRIC = "hiero.mirror.web3.opcodes.streamed.opcodes";
     static final String STACK_METRIC = "hiero.mirror.web3.opcodes.stack";
     static final String STORAGE_METRIC = "hiero.mirror.web3.opcodes.storage";
 
@@ -69,10 +79,13 @@ public class OpcodeServiceImpl implements OpcodeService {
     private final CommonEntityAccessor commonEntityAccessor;
     private final OpcodesProperties opcodesProperties;
     private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
     private Counter opcodesCounter;
     private Counter memoryWordsCounter;
     private Counter stackCounter;
     private Counter storageCounter;
+    private DistributionSummary streamedBytesSummary;
+    private DistributionSummary streamedOpcodesSummary;
 
     @PostConstruct
     void init() {
@@ -88,6 +101,13 @@ public class OpcodeServiceImpl implements OpcodeService {
         storageCounter = Counter.builder(STORAGE_METRIC)
                 .description("The cumulative number of storage entries captured across opcode trace requests")
                 .register(meterRegistry);
+        streamedBytesSummary = DistributionSummary.builder(STREAMED_BYTES_METRIC)
+                .baseUnit(BaseUnits.BYTES)
+                .description("The size of each streamed opcode trace response before compression")
+                .register(meterRegistry);
+        streamedOpcodesSummary = DistributionSummary.builder(STREAMED_OPCODES_METRIC)
+                .description("The number of opcodes in each streamed opcode trace response")
+                .register(meterRegistry);
     }
 
     @Override
@@ -95,19 +115,54 @@ public class OpcodeServiceImpl implements OpcodeService {
         return ContractCallContext.run(ctx -> {
             ctx.setApi(OPCODES);
             final var params = buildCallServiceParameters(opcodeRequest.getTransactionIdOrHashParameter());
-            final var opcodeContext = new OpcodeContext(opcodeRequest, (int) params.getGas() / 3, opcodesProperties);
+            return trace(ctx, opcodeRequest, params, null);
+        });
+    }
 
-            ctx.setOpcodeContext(opcodeContext);
+    @Override
+    public void processOpcodeCall(@NonNull OpcodeRequest opcodeRequest, @NonNull OutputStream outputStream) {
+        ContractCallContext.run(ctx -> {
+            ctx.setApi(OPCODES);
+            final var params = buildCallServiceParameters(opcodeRequest.getTransactionIdOrHashParameter());
+            final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+            final OpcodesResponse response;
+
+            try {
+                response = trace(ctx, opcodeRequest, params, writer);
+            } catch (RuntimeException e) {
+                // Part of the body was already sent with a successful status, so end it with an error instead
+                if (writer.fail(e.getMessage())) {
+                    log.warn("Opcode trace failed after streaming {} opcodes: {}", writer.getOpcodes(), e.getMessage());
+                    return null;
+                }
+                throw e;
+            }
 
-            final OpcodesProcessingResult result = contractDebugService.processOpcodeCall(params, opcodeContext);
-            opcodesCounter.increment(opcodeContext.getExecutedOpcodes());
-            memoryWordsCounter.increment(opcodeContext.getCapturedMemoryWords());
-            stackCounter.increment(opcodeContext.getCapturedStack());
-            storageCounter.increment(opcodeContext.getCapturedStorage());
-            return buildOpcodesResponse(result, params.getConsensusTimestamp());
+            writer.finish(response);
+            streamedBytesSummary.record(writer.getBytes());
+            streamedOpcodesSummary.record(writer.getOpcodes());
+            return response;
         });
     }
 
+    private OpcodesResponse trace(
+            ContractCallContext ctx,
+            OpcodeRequest opcodeRequest,
+            ContractDebugParameters params,
+            @Nullable Consumer<Opcode> opcodeWriter) {
+        final var opcodeContext =
+                new OpcodeContext(opcodeRequest, (int) params.getGas() / 3, opcodesProperties, opcodeWriter);
+
+        ctx.setOpcodeContext(opcodeContext);
+
+        final OpcodesProcessingResult result = contractDebugService.processOpcodeCall(params, opcodeContext);
+        opcodesCounter.increment(opcodeContext.getExecutedOpcodes());
+        memoryWordsCounter.increment(opcodeContext.getCapturedMemoryWords());
+        stackCounter.increment(opcodeContext.getCapturedStack());
+        storageCounter.increment(opcodeContext.getCapturedStorage());
+        return buildOpcodesResponse(result, params.getConsensusTimestamp());
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash) {
         final Long consensusTimestamp;
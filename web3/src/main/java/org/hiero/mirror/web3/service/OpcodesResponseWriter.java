@@ -0,0 +1,166 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.CountingOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.Getter;
+import org.hiero.mirror.rest.model.Opcode;
+import org.hiero.mirror.rest.model.OpcodesResponse;
+import org.hiero.mirror.web3.viewmodel.GenericErrorResponse;
+
+/**
+ * Writes an {@link OpcodesResponse} incrementally as the opcodes are traced, so the memory used by a trace is bounded
+ * by the output buffers instead of the length of the trace. The opcodes are written first since the remaining fields
+ * are only known once the transaction completes. Nothing is written before the first opcode, so a failure up to then
+ * still results in a regular error response. A failure after part of the response was sent ends the document with the
+ * same {@code _status} field used by error responses.
+ */
+final class OpcodesResponseWriter implements Consumer<Opcode> {
+
+    static final String OPCODES_FIELD = "opcodes";
+
+    private final CountingOutputStream outputStream;
+    private final JsonGenerator generator;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter opcodeWriter;
+
+    @Getter
+    private long opcodes;
+
+    private IOException failure;
+    private boolean started;
+
+    OpcodesResponseWriter(final ObjectMapper objectMapper, final OutputStream outputStream) {
+        this.objectMapper = objectMapper;
+        this.outputStream = new CountingOutputStream(outputStream);
+        this.opcodeWriter =
+                objectMapper.writerFor(Opcode.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try {
+            this.generator = objectMapper
+                    .getFactory()
+                    .createGenerator(this.outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a traced opcode. A write failure, usually a disconnected client, is only reported by
+     * {@link #finish(OpcodesResponse)} so that it does not interrupt the transaction being traced.
+     */
+    @Override
+    public void accept(final Opcode opcode) {
+        if (failure != null) {
+            return;
+        }
+
+        try {
+            write(opcode);
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Writes any opcodes still held by the response followed by its remaining fields and completes the document. The
+     * opcodes are removed from the response once written.
+     */
+    void finish(final OpcodesResponse response) {
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+
+            final var remaining = response.getOpcodes();
+            if (remaining != null) {
+                for (final var opcode : remaining) {
+                    write(opcode);
+                }
+                response.setOpcodes(null);
+            }
+
+            start();
+            generator.writeEndArray();
+
+            final ObjectNode fields = objectMapper.valueToTree(response);
+            fields.remove(OPCODES_FIELD);
+            for (final var field : fields.properties()) {
+                generator.writeFieldName(field.getKey());
+                objectMapper.writeTree(generator, field.getValue());
+            }
+
+            generator.writeEndObject();
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Ends a response that has already been partly sent with an error in place of its remaining fields, so the client
+     * can tell it apart from a complete trace.
+     *
+     * @param message the error message
+     * @return false if nothing was sent yet, in which case the caller should return a regular error response instead
+     */
+    boolean fail(final String message) {
+        if (outputStream.getCount() == 0) {
+            return false;
+        }
+
+        if (failure != null) {
+            // The client is no longer reading the response
+            return true;
+        }
+
+        try {
+            start();
+            generator.writeEndArray();
+
+            final ObjectNode error = objectMapper.valueToTree(new GenericErrorResponse(message));
+            for (final var field : error.properties()) {
+                generator.writeFieldName(field.getKey());
+                objectMapper.writeTree(generator, field.getValue());
+            }
+
+            generator.writeEndObject();
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return true;
+    }
+
+    /**
+     * @return the number of bytes written to the output, before any compression applied by the server
+     */
+    long getBytes() {
+        return outputStream.getCount();
+    }
+
+    private void write(final Opcode opcode) throws IOException {
+        start();
+        opcodeWriter.writeValue(generator, opcode);
+        opcodes++;
+    }
+
+    private void start() throws IOException {
+        if (!started) {
+            started = true;
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(OPCODES_FIELD);
+        }
+    }
+}
@@ -2,7 +2,15 @@
 
 package org.hiero.mirror.web3.service.utils;
 
+import com.google.common.math.LongMath;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
 import lombok.CustomLog;
@@ -10,19 +18,23 @@ import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
 import org.hiero.mirror.web3.service.model.EvmTransactionResult;
+import org.hiero.mirror.web3.throttle.ThrottleManager;
 
 @CustomLog
 @RequiredArgsConstructor
 @Named
-public class BinaryGasEstimator {
+public class BinaryGasEstimator implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
     private final EvmProperties properties;
+    private final ThrottleManager throttleManager;
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
 
     public long search(
             final ObjIntConsumer<Long> metricUpdater, final LongFunction<EvmTransactionResult> call, long lo, long hi) {
-        long prevGasLimit = lo;
-        int iterationsMade = 0;
-        long totalGasUsed = 0;
-
         // Now that we also support gas estimates for precompile calls, the default threshold is too low, since
         // it does not take into account the minimum threshold of 5% higher estimate than the actual gas used.
         // The default value is working with some calls but that is not the case for precompile calls which have higher
@@ -30,35 +42,127 @@ public class BinaryGasEstimator {
         // Configurable tolerance of 10% over 5% is used, since the algorithm fails when using 5%, producing too narrow
         // threshold. Adjust via estimateGasIterationThresholdPercent value.
         final long estimateIterationThreshold = (long) (lo * properties.getEstimateGasIterationThresholdPercent());
+        final int depth = 31 - Integer.numberOfLeadingZeros(properties.getMaxGasEstimateConcurrency() + 1);
 
         ContractCallContext contractCallContext = ContractCallContext.get();
-        while (lo + 1 < hi && iterationsMade < properties.getMaxGasEstimateRetriesCount()) {
-            contractCallContext.reset();
+        var state = new SearchState(lo, hi, lo, 0, 0L, estimateIterationThreshold);
 
-            long mid = (hi + lo) / 2;
+        while (state.hasNext(properties.getMaxGasEstimateRetriesCount())) {
+            state = depth > 1
+                    ? speculate(state, depth, contractCallContext, call)
+                    : state.next(call(contractCallContext, state.mid(), call));
+        }
 
-            // If modularizedServices is true - we call the safeCall function that handles if an exception is thrown
-            final var transactionResult = safeCall(mid, call);
+        metricUpdater.accept(state.totalGasUsed(), state.iterations());
+        return state.hi();
+    }
 
-            iterationsMade++;
+    /**
+     * Executes the next levels of the binary search concurrently by probing the gas limits of every state the search
+     * could reach, then advances through them with the actual results. The outcome is identical to the sequential
+     * search since each step depends only on whether the previous probe succeeded. The extra probes are charged to the
+     * gas throttle and the search continues sequentially for this round if it has insufficient capacity.
+     */
+    private SearchState speculate(
+            final SearchState state,
+            final int depth,
+            final ContractCallContext contractCallContext,
+            final LongFunction<EvmTransactionResult> call) {
+        final var probes = new ArrayList<Long>();
+        collectProbes(state, depth, probes);
 
-            boolean err =
-                    transactionResult == null || !transactionResult.isSuccessful() || transactionResult.gasUsed() < 0;
-            long gasUsed = err ? prevGasLimit : transactionResult.gasUsed();
-            totalGasUsed += gasUsed;
-            if (err || gasUsed == 0) {
-                lo = mid;
-            } else {
-                hi = mid;
-                if (Math.abs(prevGasLimit - mid) < estimateIterationThreshold) {
-                    lo = hi;
+        final var speculativeProbes = probes.subList(1, probes.size());
+        final long speculativeGas = speculativeProbes.stream().reduce(0L, LongMath::saturatedAdd);
+
+        if (speculativeProbes.isEmpty() || !throttleManager.tryThrottle(speculativeGas)) {
+            return state.next(call(contractCallContext, state.mid(), call));
+        }
+
+        final var futures = new ArrayList<CompletableFuture<EvmTransactionResult>>(speculativeProbes.size());
+        for (final long gas : speculativeProbes) {
+            final var context = contractCallContext.fork();
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> ContractCallContext.run(context, ctx -> safeCall(gas, call)), executor));
+        }
+
+        final Map<Long, EvmTransactionResult> results = HashMap.newHashMap(probes.size());
+        try {
+            results.put(state.mid(), call(contractCallContext, state.mid(), call));
+        } catch (Throwable e) {
+            try {
+                awaitProbes(speculativeProbes, futures, results);
+            } catch (RuntimeException probeException) {
+                e.addSuppressed(probeException);
+            }
+            throw e;
+        }
+
+        awaitProbes(speculativeProbes, futures, results);
+
+        var next = state;
+        for (int i = 0; i < depth && next.hasNext(properties.getMaxGasEstimateRetriesCount()); i++) {
+            final long mid = next.mid();
+            next = next.next(results.containsKey(mid) ? results.get(mid) : call(contractCallContext, mid, call));
+        }
+
+        return next;
+    }
+
+    // Waits for every started probe and restores its unused gas to the throttle even if another probe failed
+    private void awaitProbes(
+            final List<Long> probes,
+            final List<CompletableFuture<EvmTransactionResult>> futures,
+            final Map<Long, EvmTransactionResult> results) {
+        RuntimeException failure = null;
+
+        for (int i = 0; i < futures.size(); i++) {
+            final long gas = probes.get(i);
+            EvmTransactionResult result = null;
+
+            try {
+                result = futures.get(i).join();
+                results.put(gas, result);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            } finally {
+                throttleManager.restore(gas - gasUsed(result, gas));
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    // Adds the gas limits the next levels of the search would probe, breadth first so that the current one is first
+    private void collectProbes(final SearchState root, final int depth, final List<Long> probes) {
+        var level = List.of(root);
+
+        for (int i = 0; i < depth && !level.isEmpty(); i++) {
+            final var nextLevel = new ArrayList<SearchState>(level.size() * 2);
+
+            for (final var state : level) {
+                if (state.hasNext(properties.getMaxGasEstimateRetriesCount())) {
+                    probes.add(state.mid());
+                    nextLevel.add(state.assume(true));
+                    nextLevel.add(state.assume(false));
                 }
             }
-            prevGasLimit = mid;
+
+            level = nextLevel;
         }
+    }
 
-        metricUpdater.accept(totalGasUsed, iterationsMade);
-        return hi;
+    private EvmTransactionResult call(
+            final ContractCallContext contractCallContext,
+            final long mid,
+            final LongFunction<EvmTransactionResult> call) {
+        contractCallContext.reset();
+        return safeCall(mid, call);
     }
 
     // This method is needed because within the modularized services if the contract call fails an exception is thrown
@@ -72,4 +176,47 @@ public class BinaryGasEstimator {
             return null;
         }
     }
+
+    private static long gasUsed(final EvmTransactionResult result, final long gasLimit) {
+        return result != null && result.gasUsed() > 0 ? Math.min(result.gasUsed(), gasLimit) : 0L;
+    }
+
+    private record SearchState(
+            long lo, long hi, long prevGasLimit, int iterations, long totalGasUsed, long threshold) {
+
+        boolean hasNext(final int maxIterations) {
+            return lo + 1 < hi && iterations < maxIterations;
+        }
+
+        long mid() {
+            return (hi + lo) / 2;
+        }
+
+        SearchState next(final EvmTransactionResult result) {
+            final boolean err = result == null || !result.isSuccessful() || result.gasUsed() < 0;
+            final long gasUsed = err ? prevGasLimit : result.gasUsed();
+            return advance(!err && gasUsed != 0, totalGasUsed + gasUsed);
+        }
+
+        SearchState assume(final boolean successful) {
+            return advance(successful, totalGasUsed);
+        }
+
+        private SearchState advance(final boolean successful, final long newTotalGasUsed) {
+            final long mid = mid();
+            long newLo = lo;
+            long newHi = hi;
+
+            if (!successful) {
+                newLo = mid;
+            } else {
+                newHi = mid;
+                if (Math.abs(prevGasLimit - mid) < threshold) {
+                    newLo = newHi;
+                }
+            }
+
+            return new SearchState(newLo, newHi, mid, iterations + 1, newTotalGasUsed, threshold);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_BYTECODE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT;
+
+import com.hedera.hapi.node.state.contract.Bytecode;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import jakarta.inject.Named;
+import java.util.Optional;
+import java.util.function.LongFunction;
+import org.hyperledger.besu.datatypes.Hash;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Caches contract runtime bytecode by its code hash, so contracts with identical code such as proxies share a single
+ * instance across contract IDs and requests. Each contract ID only caches the hash of its code, which lets far more
+ * contracts stay cached for the same amount of memory.
+ */
+@Named
+public final class ContractBytecodeCache {
+
+    private final Cache bytecodeCache;
+    private final Cache codeHashCache;
+
+    public ContractBytecodeCache(
+            final @Qualifier(CACHE_MANAGER_BYTECODE) CacheManager cacheManagerBytecode,
+            final @Qualifier(CACHE_MANAGER_CONTRACT) CacheManager cacheManagerContract) {
+        this.bytecodeCache = cacheManagerBytecode.getCache(CACHE_NAME);
+        this.codeHashCache = cacheManagerContract.getCache(CACHE_NAME_CONTRACT);
+    }
+
+    /**
+     * Gets the runtime bytecode of a contract, loading it with the loader if either its code hash or the code itself is
+     * not cached.
+     *
+     * @param contractId the contract's encoded entity ID
+     * @param loader     loads the contract's runtime bytecode
+     * @return the shared bytecode or empty if the contract has none
+     */
+    public Optional<Bytecode> get(final long contractId, final LongFunction<Optional<byte[]>> loader) {
+        final var codeHash = codeHashCache.get(contractId, Hash.class);
+        if (codeHash != null) {
+            final var bytecode = bytecodeCache.get(codeHash, Bytecode.class);
+            if (bytecode != null) {
+                return Optional.of(bytecode);
+            }
+        }
+
+        return loader.apply(contractId).map(code -> {
+            final var hash = Hash.hash(org.apache.tuweni.bytes.Bytes.wrap(code));
+            codeHashCache.put(contractId, hash);
+            return bytecodeCache.get(hash, () -> new Bytecode(Bytes.wrap(code)));
+        });
+    }
+}
@@ -0,0 +1,12 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import lombok.Value;
+
+@Value
+public class ContractSlotChange {
+    private final long consensusTimestamp;
+    private final long contractId;
+    private final byte[] slot;
+}
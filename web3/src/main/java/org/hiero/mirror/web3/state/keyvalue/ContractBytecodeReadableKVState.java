@@ -19,6 +19,7 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.repository.ContractRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.ContractBytecodeCache;
 import org.jspecify.annotations.NonNull;
 
 @Named
@@ -26,11 +27,15 @@ final class ContractBytecodeReadableKVState extends AbstractContractReadableKVSt
 
     public static final int STATE_ID = BYTECODE_STATE_ID;
 
+    private final ContractBytecodeCache contractBytecodeCache;
     private final ContractRepository contractRepository;
 
     ContractBytecodeReadableKVState(
-            final ContractRepository contractRepository, CommonEntityAccessor commonEntityAccessor) {
+            final ContractBytecodeCache contractBytecodeCache,
+            final ContractRepository contractRepository,
+            CommonEntityAccessor commonEntityAccessor) {
         super(ContractService.NAME, STATE_ID, commonEntityAccessor);
+        this.contractBytecodeCache = contractBytecodeCache;
         this.contractRepository = contractRepository;
     }
 
@@ -44,10 +49,8 @@ final class ContractBytecodeReadableKVState extends AbstractContractReadableKVSt
 
         final var entityId = toEntityId(contractID);
 
-        return contractRepository
-                .findRuntimeBytecode(entityId.getId())
-                .map(Bytes::wrap)
-                .map(Bytecode::new)
+        return contractBytecodeCache
+                .get(entityId.getId(), contractRepository::findRuntimeBytecode)
                 .orElse(null);
     }
 
@@ -11,4 +11,12 @@ public interface ThrottleManager {
     void throttleOpcodeRequest();
 
     void restore(long gas);
+
+    /**
+     * Takes the gas from the gas limit bucket if available, without failing the request otherwise.
+     *
+     * @param gas the amount of gas to take
+     * @return whether the gas was taken
+     */
+    boolean tryThrottle(long gas);
 }
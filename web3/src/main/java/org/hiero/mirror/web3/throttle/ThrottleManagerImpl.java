@@ -63,6 +63,12 @@ final class ThrottleManagerImpl implements ThrottleManager {
         }
     }
 
+    @Override
+    public boolean tryThrottle(long gas) {
+        long tokens = throttleProperties.scaleGas(gas);
+        return tokens <= 0 || gasLimitBucket.tryConsume(tokens);
+    }
+
     private void action(RequestProperties filter, ContractCallRequest request) {
         switch (filter.getAction()) {
             case LOG -> log.info("{}", request);
@@ -0,0 +1,18 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.viewmodel;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ContractCallBatchRequest {
+
+    @NotEmpty
+    private List<@NotNull @Valid ContractCallRequest> calls = List.of();
+}
@@ -0,0 +1,15 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.viewmodel;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+public record ContractCallBatchResponse(List<Result> results) {
+
+    /**
+     * The outcome of a single call in the batch, with either the result or the error of the call.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Result(String result, GenericErrorResponse error) {}
+}
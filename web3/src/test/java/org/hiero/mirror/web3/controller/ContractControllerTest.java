@@ -7,6 +7,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hiero.mirror.web3.validation.HexValidator.HEX_PREFIX;
 import static org.hiero.mirror.web3.validation.HexValidator.MESSAGE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
@@ -22,6 +23,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,8 +31,10 @@ import com.hedera.hapi.node.base.ResponseCodeEnum;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.Resource;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.core.StringContains;
@@ -43,9 +47,12 @@ import org.hiero.mirror.web3.exception.InvalidParametersException;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.exception.ThrottleException;
 import org.hiero.mirror.web3.service.ContractExecutionService;
+import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
+import org.hiero.mirror.web3.service.model.ContractExecutionResult;
 import org.hiero.mirror.web3.throttle.ThrottleManager;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
 import org.hiero.mirror.web3.viewmodel.BlockType;
+import org.hiero.mirror.web3.viewmodel.ContractCallBatchRequest;
 import org.hiero.mirror.web3.viewmodel.ContractCallRequest;
 import org.hiero.mirror.web3.viewmodel.GenericErrorResponse;
 import org.hiero.mirror.web3.viewmodel.StateOverride;
@@ -86,6 +93,7 @@ import org.springframework.test.web.servlet.ResultActions;
 final class ContractControllerTest {
 
     private static final String CALL_URI = "/api/v1/contracts/call";
+    private static final String BATCH_CALL_URI = CALL_URI + "/batch";
     private static final long THROTTLE_GAS_LIMIT = 10_000_000L;
     private static final String INIT_CODE = "0x6080604052348015600f57600080fd5b5060a38061001c6000396000f3";
 
@@ -126,6 +134,16 @@ final class ContractControllerTest {
                 .content(convert(request)));
     }
 
+    @SneakyThrows
+    private ResultActions contractCallBatch(List<ContractCallRequest> calls) {
+        final var request = new ContractCallBatchRequest();
+        request.setCalls(calls);
+        return mockMvc.perform(post(BATCH_CALL_URI)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(convert(request)));
+    }
+
     @SneakyThrows
     private ResultActions contractCall(ContractCallRequest request, final Map<String, String> headers) {
         final var requestBuilder = post(CALL_URI)
@@ -732,6 +750,119 @@ final class ContractControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void callBatch() throws Exception {
+        final var first = request();
+        final var second = request();
+        second.setData("0x12345678");
+        given(service.processCalls(any(), anyInt(), any(), any())).willAnswer(invocation -> {
+            final List<ContractExecutionParameters> params = invocation.getArgument(0);
+            final BiFunction<ContractExecutionParameters, ContractExecutionResult, Object> onResult =
+                    invocation.getArgument(2);
+            final BiFunction<ContractExecutionParameters, RuntimeException, Object> onError =
+                    invocation.getArgument(3);
+            return List.of(
+                    onResult.apply(params.getFirst(), new ContractExecutionResult("0x01", 21000L)),
+                    onError.apply(
+                            params.get(1),
+                            new MirrorEvmTransactionException(CONTRACT_REVERT_EXECUTED, "", "0x")));
+        });
+
+        contractCallBatch(List.of(first, second))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(2))
+                .andExpect(jsonPath("$.results[0].result").value("0x01"))
+                .andExpect(jsonPath("$.results[0].error").doesNotExist())
+                .andExpect(jsonPath("$.results[1].result").doesNotExist())
+                .andExpect(jsonPath("$.results[1].error._status.messages[0].message")
+                        .value(CONTRACT_REVERT_EXECUTED.name()));
+
+        verify(service).processCalls(argThat(params -> params.size() == 2), anyInt(), any(), any());
+        verify(throttleManager).throttle(first);
+        verify(throttleManager).throttle(second);
+    }
+
+    @Test
+    void callBatchInvalidParametersRestoresGas() throws Exception {
+        final var request = request();
+        given(service.processCalls(any(), anyInt(), any(), any())).willAnswer(invocation -> {
+            final List<ContractExecutionParameters> params = invocation.getArgument(0);
+            final BiFunction<ContractExecutionParameters, RuntimeException, Object> onError =
+                    invocation.getArgument(3);
+            return List.of(onError.apply(params.getFirst(), new InvalidParametersException("invalid")));
+        });
+
+        contractCallBatch(List.of(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].error._status.messages[0].message")
+                        .value(BAD_REQUEST.getReasonPhrase()))
+                .andExpect(jsonPath("$.results[0].error._status.messages[0].detail")
+                        .value("invalid"));
+
+        verify(throttleManager).restore(request.getGas());
+    }
+
+    @Test
+    void callBatchFailureRestoresUnprocessedGas() throws Exception {
+        final var first = request();
+        final var second = request();
+        second.setGas(first.getGas() - 1);
+        clearInvocations(throttleManager);
+        given(service.processCalls(any(), anyInt(), any(), any())).willAnswer(invocation -> {
+            final List<ContractExecutionParameters> params = invocation.getArgument(0);
+            final BiFunction<ContractExecutionParameters, ContractExecutionResult, Object> onResult =
+                    invocation.getArgument(2);
+            onResult.apply(params.getFirst(), new ContractExecutionResult("0x01", 21000L));
+            throw new BlockNumberNotFoundException();
+        });
+
+        contractCallBatch(List.of(first, second)).andExpect(status().isBadRequest());
+        verify(throttleManager).restore(second.getGas());
+        verify(throttleManager, never()).restore(first.getGas());
+    }
+
+    @Test
+    void callBatchEmpty() throws Exception {
+        contractCallBatch(List.of()).andExpect(status().isBadRequest());
+        verify(service, never()).processCalls(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void callBatchTooLarge() throws Exception {
+        clearInvocations(throttleManager);
+        final var calls = Collections.nCopies(web3Properties.getMaxBatchCallSize() + 1, request());
+
+        contractCallBatch(calls).andExpect(status().isBadRequest());
+        verify(throttleManager, never()).throttle(any());
+        verify(service, never()).processCalls(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void callBatchMixedBlocks() throws Exception {
+        final var first = request();
+        final var second = request();
+        second.setBlock(BlockType.EARLIEST);
+        clearInvocations(throttleManager);
+
+        contractCallBatch(List.of(first, second))
+                .andExpect(status().isBadRequest())
+                .andExpect(content()
+                        .string(new StringContains("block field must be the same for every call in a batch")));
+        verify(throttleManager, never()).throttle(any());
+    }
+
+    @Test
+    void callBatchThrottledRestoresGas() throws Exception {
+        final var first = request();
+        final var second = request();
+        second.setData("0x12345678");
+        doThrow(new ThrottleException("")).when(throttleManager).throttle(second);
+
+        contractCallBatch(List.of(first, second)).andExpect(status().isTooManyRequests());
+        verify(throttleManager).restore(first.getGas());
+        verify(service, never()).processCalls(any(), anyInt(), any(), any());
+    }
+
     private ContractCallRequest request() {
         final var request = new ContractCallRequest();
         request.setBlock(BlockType.LATEST);
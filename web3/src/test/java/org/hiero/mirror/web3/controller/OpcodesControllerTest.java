@@ -98,6 +98,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -259,8 +260,9 @@ class OpcodesControllerTest {
                 .contentType(MediaType.APPLICATION_JSON);
     }
 
+    // Opcode traces are streamed with the opcodes ahead of the fields only known once the trace completes
     private ResultMatcher responseBody(final Object expectedBody) throws JsonProcessingException {
-        return content().string(objectMapper.writeValueAsString(expectedBody));
+        return content().json(objectMapper.writeValueAsString(expectedBody), JsonCompareMode.STRICT);
     }
 
     @BeforeEach
@@ -388,6 +390,33 @@ class OpcodesControllerTest {
         assertThat(callServiceParametersCaptor.getValue()).isEqualTo(expectedCallServiceParameters.get());
     }
 
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamsTracedOpcodes(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+
+        reset(contractDebugService);
+        when(contractDebugService.processOpcodeCall(
+                        callServiceParametersCaptor.capture(), tracerOptionsCaptor.capture()))
+                .thenAnswer(invocation -> {
+                    final ContractDebugParameters params = invocation.getArgument(0);
+                    final OpcodeContext options = invocation.getArgument(1);
+                    final var result = Builder.successfulOpcodesProcessingResult(params, options);
+                    result.opcodes().forEach(options::addOpcodes);
+                    opcodesResultCaptor.set(result);
+                    return new OpcodesProcessingResult(
+                            result.transactionProcessingResult(), result.recipient(), options.getOpcodes());
+                });
+
+        mockMvc.perform(opcodesRequest(transactionIdOrHash))
+                .andExpect(status().isOk())
+                .andExpect(responseBody(Builder.opcodesResponse(opcodesResultCaptor.get(), commonEntityAccessor)));
+
+        assertThat(tracerOptionsCaptor.getValue().getOpcodes()).isEmpty();
+        assertThat(tracerOptionsCaptor.getValue().getRecordedOpcodes())
+                .isEqualTo(opcodesResultCaptor.get().opcodes().size());
+    }
+
     @ParameterizedTest
     @MethodSource("transactionsWithDifferentTracerOptions")
     void callWithDifferentCombinationsOfTracerOptions(final TransactionProviderEnum providerEnum, OpcodeContext options)
@@ -760,7 +789,8 @@ class OpcodesControllerTest {
                 final ContractResultRepository contractResultRepository,
                 final CommonEntityAccessor commonEntityAccessor,
                 final OpcodesProperties opcodesProperties,
-                final MeterRegistry meterRegistry) {
+                final MeterRegistry meterRegistry,
+                final ObjectMapper objectMapper) {
             return new OpcodeServiceImpl(
                     recordFileService,
                     contractDebugService,
@@ -770,7 +800,8 @@ class OpcodesControllerTest {
                     contractResultRepository,
                     commonEntityAccessor,
                     opcodesProperties,
-                    meterRegistry);
+                    meterRegistry,
+                    objectMapper);
         }
 
         @Bean
@@ -5,6 +5,7 @@ package org.hiero.mirror.web3.evm.contracts.execution.traceability;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -49,6 +50,19 @@ final class OpcodeContextTest {
         assertThat(context.getProperties().getMaxStorage()).isEqualTo(defaults.getMaxStorage());
     }
 
+    @Test
+    void streamedOpcodesAreNotKept() {
+        final var streamed = new ArrayList<Opcode>();
+        final var context = new OpcodeContext(request(), 1000, new OpcodesProperties(), streamed::add);
+
+        context.addOpcodes(opcode(0, 1, 0));
+        context.addOpcodes(opcode(0, 2, 0));
+
+        assertThat(context.getOpcodes()).isEmpty();
+        assertThat(streamed).hasSize(2);
+        assertThat(context.getRecordedOpcodes()).isEqualTo(2);
+    }
+
     @Test
     void truncatesWhenCumulativeMemoryBudgetReached() {
         // maxMemoryWords=10; each opcode captures 4 words, so the 3rd would reach 12 and is dropped before recording
@@ -21,13 +21,9 @@ class ContractRepositoryTest extends Web3IntegrationTest {
         assertThat(contractRepository.findRuntimeBytecode(contract1.getId()))
                 .get()
                 .isEqualTo(contract1.getRuntimeBytecode());
-
-        contractRepository.deleteAll();
-
-        assertThat(contractRepository.findRuntimeBytecode(contract1.getId()))
+        assertThat(contractRepository.findRuntimeBytecode(contract2.getId()))
                 .get()
-                .isEqualTo(contract1.getRuntimeBytecode());
-        assertThat(contractRepository.findRuntimeBytecode(contract2.getId())).isEmpty();
+                .isEqualTo(contract2.getRuntimeBytecode());
     }
 
     @Test
@@ -10,13 +10,16 @@ import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.contract.ContractState;
 import org.hiero.mirror.common.domain.contract.ContractStateChange;
 import org.hiero.mirror.web3.Web3IntegrationTest;
+import org.hiero.mirror.web3.state.ContractSlotChange;
 import org.hiero.mirror.web3.state.ContractSlotValue;
 import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
 
 @RequiredArgsConstructor
 class ContractStateRepositoryTest extends Web3IntegrationTest {
 
     private final ContractStateRepository contractStateRepository;
+    private final JdbcOperations jdbcOperations;
 
     @Test
     void findStorageSuccessfulCall() {
@@ -75,6 +78,26 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
                 .isEmpty();
     }
 
+    @Test
+    void findStorageByBlockTimestampCached() {
+        final var contractStateChange = domainBuilder.contractStateChange().persist();
+        final long contractId = contractStateChange.getContractId();
+        final var slot = contractStateChange.getSlot();
+        final long blockTimestamp = contractStateChange.getConsensusTimestamp();
+
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(contractId, slot, blockTimestamp))
+                .get()
+                .isEqualTo(contractStateChange.getValueWritten());
+
+        // Validate the value is cached by the slot content for the block timestamp but not a different one
+        jdbcOperations.update("delete from contract_state_change");
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(contractId, slot.clone(), blockTimestamp))
+                .get()
+                .isEqualTo(contractStateChange.getValueWritten());
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(contractId, slot, blockTimestamp + 1))
+                .isEmpty();
+    }
+
     @Test
     void findStorageFailCall() {
         ContractState contractState = domainBuilder.contractState().persist();
@@ -145,4 +168,37 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
         assertThat(contractStateRepository.findStorageBatch(contractId, contractSlots))
                 .containsAll(contractSlotValuesList);
     }
+
+    @Test
+    void findChangesAfter() {
+        final var change1 = domainBuilder.contractStateChange().persist();
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.migration(false).valueWritten(null))
+                .persist();
+        final var change2 = domainBuilder
+                .contractStateChange()
+                .customize(c -> c.migration(true).valueWritten(null))
+                .persist();
+        final var change3 = domainBuilder.contractStateChange().persist();
+
+        assertThat(contractStateRepository.findChangesAfter(change1.getConsensusTimestamp() - 1, 10))
+                .containsExactly(toSlotChange(change1), toSlotChange(change2), toSlotChange(change3));
+        assertThat(contractStateRepository.findChangesAfter(change1.getConsensusTimestamp(), 1))
+                .containsExactly(toSlotChange(change2));
+        assertThat(contractStateRepository.findChangesAfter(change3.getConsensusTimestamp(), 10))
+                .isEmpty();
+    }
+
+    @Test
+    void findLatestChangeTimestamp() {
+        assertThat(contractStateRepository.findLatestChangeTimestamp()).isZero();
+        domainBuilder.contractStateChange().persist();
+        final var change = domainBuilder.contractStateChange().persist();
+        assertThat(contractStateRepository.findLatestChangeTimestamp()).isEqualTo(change.getConsensusTimestamp());
+    }
+
+    private ContractSlotChange toSlotChange(final ContractStateChange change) {
+        return new ContractSlotChange(change.getConsensusTimestamp(), change.getContractId(), change.getSlot());
+    }
 }
@@ -193,6 +193,55 @@ class EntityRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(entity);
     }
 
+    @Test
+    void findByIdAndTimestampCached() {
+        final var entity = persistEntity();
+        final long blockTimestamp = entity.getTimestampLower();
+
+        assertThat(entityRepository.findActiveByIdAndTimestamp(entity.getId(), blockTimestamp))
+                .contains(entity);
+
+        // Validate the entity is cached for the block timestamp but not for a different block timestamp
+        entityRepository.deleteAll();
+        assertThat(entityRepository.findActiveByIdAndTimestamp(entity.getId(), blockTimestamp))
+                .contains(entity);
+        assertThat(entityRepository.findActiveByIdAndTimestamp(entity.getId(), blockTimestamp + 1))
+                .isEmpty();
+    }
+
+    @Test
+    void findByEvmAddressAndTimestampCached() {
+        final var entity = persistEntity();
+        final long blockTimestamp = entity.getTimestampLower();
+
+        assertThat(entityRepository.findActiveByEvmAddressAndTimestamp(entity.getEvmAddress(), blockTimestamp))
+                .contains(entity);
+
+        // Validate the entity is cached by the address content for the block timestamp but not a different one
+        entityRepository.deleteAll();
+        assertThat(entityRepository.findActiveByEvmAddressAndTimestamp(entity.getEvmAddress().clone(), blockTimestamp))
+                .contains(entity);
+        assertThat(entityRepository.findActiveByEvmAddressAndTimestamp(entity.getEvmAddress(), blockTimestamp + 1))
+                .isEmpty();
+    }
+
+    @Test
+    void findByEvmAddressOrAliasAndTimestampCached() {
+        final var entity = persistEntity();
+        final long blockTimestamp = entity.getTimestampLower();
+
+        assertThat(entityRepository.findActiveByEvmAddressOrAliasAndTimestamp(entity.getAlias(), blockTimestamp))
+                .contains(entity);
+
+        // Validate the entity is cached by the alias content for the block timestamp but not a different one
+        entityRepository.deleteAll();
+        final var alias = entity.getAlias().clone();
+        assertThat(entityRepository.findActiveByEvmAddressOrAliasAndTimestamp(alias, blockTimestamp))
+                .contains(entity);
+        assertThat(entityRepository.findActiveByEvmAddressOrAliasAndTimestamp(entity.getAlias(), blockTimestamp + 1))
+                .isEmpty();
+    }
+
     @Test
     void findByIdAndTimestampRangeGreaterThanBlockTimestampAndDeletedIsFalseCall() {
         final var entity = persistEntity();
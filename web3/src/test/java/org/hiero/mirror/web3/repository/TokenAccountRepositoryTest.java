@@ -135,6 +135,24 @@ class TokenAccountRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(tokenAccount);
     }
 
+    @Test
+    void findByIdAndTimestampCached() {
+        final var tokenAccount = domainBuilder.tokenAccount().persist();
+        final long accountId = tokenAccount.getId().getAccountId();
+        final long tokenId = tokenAccount.getId().getTokenId();
+        final long blockTimestamp = tokenAccount.getTimestampLower();
+
+        assertThat(repository.findByIdAndTimestamp(accountId, tokenId, blockTimestamp))
+                .contains(tokenAccount);
+
+        // Validate the token account is cached for the block timestamp but not for a different block timestamp
+        repository.deleteAll();
+        assertThat(repository.findByIdAndTimestamp(accountId, tokenId, blockTimestamp))
+                .contains(tokenAccount);
+        assertThat(repository.findByIdAndTimestamp(accountId, tokenId, blockTimestamp + 1))
+                .isEmpty();
+    }
+
     @Test
     void findByIdAndTimestampGreaterThanBlock() {
         final var tokenAccount = domainBuilder.tokenAccount().persist();
@@ -42,6 +42,7 @@ import java.math.BigInteger;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -1249,6 +1250,86 @@ final class ContractCallServiceTest extends ContractCallServicePrecompileHistori
             assertThat(result.gasUsed()).isPositive();
         }
 
+        @Test
+        void processCallsIsolatesStateOverrides() {
+            // Given
+            final var contract = testWeb3jService.deploy(StorageContract::deploy);
+            meterRegistry.clear();
+            final var functionCall = contract.call_slot0();
+
+            final var storageEntry = new StorageEntry();
+            final var slotValue = "33".repeat(32);
+            storageEntry.setKey(STORAGE_SLOT_0_KEY);
+            storageEntry.setValue(HEX_PREFIX + slotValue);
+
+            final var stateOverride = new StateOverride();
+            stateOverride.setAddress(contract.getContractAddress().toLowerCase());
+            stateOverride.setState(List.of(storageEntry));
+
+            final var overridden = contractExecutionParametersBuilder(
+                            BlockType.LATEST,
+                            functionCall.encodeFunctionCall(),
+                            Address.ZERO,
+                            Address.fromHexString(contract.getContractAddress()),
+                            ETH_CALL,
+                            0L)
+                    .stateOverrides(List.of(stateOverride))
+                    .build();
+            final var params = contractExecutionParametersBuilder(
+                            BlockType.LATEST,
+                            functionCall.encodeFunctionCall(),
+                            Address.ZERO,
+                            Address.fromHexString(contract.getContractAddress()),
+                            ETH_CALL,
+                            0L)
+                    .build();
+            final var expected = contractExecutionService.processCall(params);
+
+            // When
+            final var results = contractExecutionService.processCalls(
+                    List.of(overridden, params), 1, (_, result) -> result.result(), (_, e) -> {
+                        throw e;
+                    });
+
+            // Then
+            assertThat(decodeFirst(results.getFirst(), Uint256.class).getValue())
+                    .isEqualTo(new BigInteger(slotValue, 16));
+            assertThat(results.getLast()).isEqualTo(expected);
+        }
+
+        @Test
+        void processCallsSkipsRemainingCallsAfterFailure() {
+            // Given
+            final var contract = testWeb3jService.deploy(StorageContract::deploy);
+            meterRegistry.clear();
+            final var params = contractExecutionParametersBuilder(
+                            BlockType.LATEST,
+                            contract.call_slot0().encodeFunctionCall(),
+                            Address.ZERO,
+                            Address.fromHexString(contract.getContractAddress()),
+                            ETH_CALL,
+                            0L)
+                    .build();
+            final var processed = new AtomicInteger();
+
+            // When
+            assertThatThrownBy(() -> contractExecutionService.processCalls(
+                            List.of(params, params, params),
+                            1,
+                            (_, _) -> {
+                                processed.incrementAndGet();
+                                throw new IllegalStateException("failed");
+                            },
+                            (_, e) -> {
+                                throw e;
+                            }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("failed");
+
+            // Then
+            assertThat(processed.get()).isOne();
+        }
+
         @Test
         void processCallWithGasAppliesStateDiffOverridesToContractStorage() {
             // Given
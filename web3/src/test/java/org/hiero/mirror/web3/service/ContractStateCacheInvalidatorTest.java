@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.contract.ContractState;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.web3.Web3IntegrationTest;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@RequiredArgsConstructor
+final class ContractStateCacheInvalidatorTest extends Web3IntegrationTest {
+
+    private final CacheProperties cacheProperties;
+    private final ContractStateCacheInvalidator contractStateCacheInvalidator;
+    private final ContractStateService contractStateService;
+    private final JdbcOperations jdbcOperations;
+
+    @BeforeEach
+    void setup() {
+        cacheProperties.setEnableContractStateInvalidation(true);
+        contractStateCacheInvalidator.invalidate();
+    }
+
+    @AfterEach
+    void teardown() {
+        cacheProperties.setEnableContractStateInvalidation(false);
+        contractStateCacheInvalidator.invalidate();
+    }
+
+    @Test
+    void invalidatesChangedSlot() {
+        // Given
+        final var contractState = domainBuilder.contractState().persist();
+        final var contractId = EntityId.of(contractState.getContractId());
+        final var value = domainBuilder.bytes(32);
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(contractState.getValue());
+
+        // When
+        updateValue(contractState, value);
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(contractState.getValue());
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(contractState.getContractId())
+                        .slot(contractState.getSlot())
+                        .valueWritten(value))
+                .persist();
+        contractStateCacheInvalidator.invalidate();
+
+        // Then
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(value);
+    }
+
+    @Test
+    void ignoresReadOnlyChange() {
+        // Given
+        final var contractState = domainBuilder.contractState().persist();
+        final var contractId = EntityId.of(contractState.getContractId());
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(contractState.getValue());
+
+        // When
+        updateValue(contractState, domainBuilder.bytes(32));
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(contractState.getContractId())
+                        .slot(contractState.getSlot())
+                        .valueWritten(null))
+                .persist();
+        final long generation = contractStateCacheInvalidator.getGeneration();
+        contractStateCacheInvalidator.invalidate();
+
+        // Then
+        assertThat(contractStateCacheInvalidator.getGeneration()).isEqualTo(generation);
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(contractState.getValue());
+    }
+
+    @Test
+    void disabled() {
+        // Given
+        cacheProperties.setEnableContractStateInvalidation(false);
+        contractStateCacheInvalidator.invalidate();
+        final var contractState = domainBuilder.contractState().persist();
+        final var contractId = EntityId.of(contractState.getContractId());
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(contractState.getValue());
+
+        // When
+        updateValue(contractState, domainBuilder.bytes(32));
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(contractState.getContractId()).slot(contractState.getSlot()))
+                .persist();
+        contractStateCacheInvalidator.invalidate();
+
+        // Then
+        assertThat(contractStateService.findStorage(contractId, contractState.getSlot()))
+                .get()
+                .isEqualTo(contractState.getValue());
+    }
+
+    @Test
+    void configureTasks() {
+        var taskRegistrar = new ScheduledTaskRegistrar();
+        contractStateCacheInvalidator.configureTasks(taskRegistrar);
+        assertThat(taskRegistrar.getFixedDelayTaskList()).hasSize(1);
+
+        cacheProperties.setEnableContractStateInvalidation(false);
+        taskRegistrar = new ScheduledTaskRegistrar();
+        contractStateCacheInvalidator.configureTasks(taskRegistrar);
+        assertThat(taskRegistrar.getFixedDelayTaskList()).isEmpty();
+    }
+
+    private void updateValue(final ContractState contractState, final byte[] value) {
+        jdbcOperations.update(
+                "update contract_state set value = ? where contract_id = ? and slot = ?",
+                value,
+                contractState.getContractId(),
+                contractState.getSlot());
+    }
+}
@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hiero.mirror.rest.model.Opcode;
+import org.hiero.mirror.rest.model.OpcodesResponse;
+import org.junit.jupiter.api.Test;
+
+class OpcodesResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void streamed() throws Exception {
+        final var outputStream = new ByteArrayOutputStream();
+        final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+        final var opcodes = List.of(opcode(0, "PUSH1"), opcode(2, "MSTORE"), opcode(3, "STOP"));
+
+        opcodes.forEach(writer::accept);
+        writer.finish(response(new ArrayList<>()));
+
+        assertThat(writer.getOpcodes()).isEqualTo(opcodes.size());
+        assertThat(writer.getBytes()).isEqualTo(outputStream.size());
+        assertThat(objectMapper.readTree(outputStream.toByteArray()))
+                .isEqualTo(objectMapper.valueToTree(response(opcodes)));
+    }
+
+    @Test
+    void remainingOpcodes() throws Exception {
+        final var outputStream = new ByteArrayOutputStream();
+        final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+        final var streamed = opcode(0, "PUSH1");
+        final var remaining = opcode(2, "STOP");
+
+        writer.accept(streamed);
+        writer.finish(response(List.of(remaining)));
+
+        assertThat(writer.getOpcodes()).isEqualTo(2);
+        assertThat(objectMapper.readTree(outputStream.toByteArray()))
+                .isEqualTo(objectMapper.valueToTree(response(List.of(streamed, remaining))));
+    }
+
+    @Test
+    void empty() throws Exception {
+        final var outputStream = new ByteArrayOutputStream();
+        final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+
+        writer.finish(response(List.of()));
+
+        assertThat(writer.getOpcodes()).isZero();
+        assertThat(objectMapper.readTree(outputStream.toByteArray()))
+                .isEqualTo(objectMapper.valueToTree(response(List.of())));
+    }
+
+    @Test
+    void nothingWrittenBeforeFirstOpcode() {
+        final var outputStream = new ByteArrayOutputStream();
+        new OpcodesResponseWriter(objectMapper, outputStream);
+        assertThat(outputStream.size()).isZero();
+    }
+
+    @Test
+    void failureReportedOnFinish() {
+        final var outputStream = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+        final var response = response(List.of(opcode(0, "PUSH1")));
+
+        assertThatThrownBy(() -> writer.finish(response))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasMessageContaining("Connection reset");
+    }
+
+    @Test
+    void failBeforeSent() {
+        final var outputStream = new ByteArrayOutputStream();
+        final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+
+        writer.accept(opcode(0, "PUSH1"));
+
+        assertThat(writer.fail("Execution failed")).isFalse();
+        assertThat(outputStream.size()).isZero();
+    }
+
+    @Test
+    void failAfterSent() throws Exception {
+        final var outputStream = new ByteArrayOutputStream();
+        final var writer = new OpcodesResponseWriter(objectMapper, outputStream);
+        final int count = 1000;
+
+        for (int i = 0; i < count; i++) {
+            writer.accept(opcode(i, "PUSH1"));
+        }
+
+        assertThat(outputStream.size()).isPositive();
+        assertThat(writer.fail("Execution failed")).isTrue();
+
+        final var json = objectMapper.readTree(outputStream.toByteArray());
+        assertThat(json.get(OpcodesResponseWriter.OPCODES_FIELD)).hasSize(count);
+        assertThat(json.at("/_status/messages/0/message").asText()).isEqualTo("Execution failed");
+        assertThat(json.has("address")).isFalse();
+    }
+
+    private Opcode opcode(int pc, String op) {
+        return new Opcode()
+                .pc(pc)
+                .op(op)
+                .gas(30000L - pc)
+                .gasCost(3L)
+                .depth(1)
+                .stack(List.of("0x01"))
+                .memory(List.of())
+                .storage(Map.of());
+    }
+
+    private OpcodesResponse response(List<Opcode> opcodes) {
+        return new OpcodesResponse()
+                .address("0x0000000000000000000000000000000000000404")
+                .contractId("0.0.1028")
+                .failed(false)
+                .gas(21000L)
+                .opcodes(opcodes)
+                .returnValue("0x");
+    }
+}
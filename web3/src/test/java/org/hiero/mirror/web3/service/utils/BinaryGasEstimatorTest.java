@@ -3,15 +3,24 @@
 package org.hiero.mirror.web3.service.utils;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.ResponseCodeEnum;
 import com.hedera.hapi.node.contract.ContractFunctionResult;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.data.Percentage;
 import org.hiero.mirror.web3.Web3IntegrationTest;
 import org.hiero.mirror.web3.evm.properties.EvmProperties;
 import org.hiero.mirror.web3.service.model.EvmTransactionResult;
+import org.hiero.mirror.web3.throttle.ThrottleManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -23,6 +32,11 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
     private final EvmProperties properties;
     private final AtomicInteger iterations = new AtomicInteger(0);
 
+    @AfterEach
+    void teardown() {
+        properties.setMaxGasEstimateConcurrency(1);
+    }
+
     /**
      * @link BinaryGasEstimator is using slightly modified binary algorithm which is coupled to some exttend with the
      * gas used estimation and its metric updates. Here the logic of processing contact calls is replaced with a dummy
@@ -98,6 +112,76 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, required {2}, concurrency {3})")
+    @CsvSource({
+        "21000, 15_000_000, 21000, 3",
+        "21000, 15_000_000, 5_432_100, 3",
+        "21000, 15_000_000, 5_432_100, 7",
+        "35000, 15_000_000, 14_999_999, 7",
+        "1_000_000, 1_000_000_000, 1_000_952, 31",
+        "0, 9223372036854775807, 0, 31",
+        "77777, 77778, 77777, 7"
+    })
+    void concurrentSearchMatchesSequential(
+            final long low, final long high, final long requiredGas, final int concurrency) {
+        final var sequentialGas = new AtomicLong();
+        final var sequentialIterations = new AtomicInteger();
+        final long sequential = binaryGasEstimator.search(
+                (gas, count) -> {
+                    sequentialGas.set(gas);
+                    sequentialIterations.set(count);
+                },
+                gas -> createTxnResult(requiredGas, gas >= requiredGas),
+                low,
+                high);
+
+        properties.setMaxGasEstimateConcurrency(concurrency);
+        final var concurrentGas = new AtomicLong();
+        final var concurrentIterations = new AtomicInteger();
+        final long concurrent = binaryGasEstimator.search(
+                (gas, count) -> {
+                    concurrentGas.set(gas);
+                    concurrentIterations.set(count);
+                },
+                gas -> createTxnResult(requiredGas, gas >= requiredGas),
+                low,
+                high);
+
+        assertThat(concurrent).isEqualTo(sequential);
+        assertThat(concurrentGas.get()).isEqualTo(sequentialGas.get());
+        assertThat(concurrentIterations.get()).isEqualTo(sequentialIterations.get());
+    }
+
+    @Test
+    void concurrentSearchRestoresGasWhenProbeFails() {
+        final long low = 21000;
+        final long high = 15_000_000;
+        final var throttled = new AtomicLong();
+        final var restored = new AtomicLong();
+        final var throttleManager = mock(ThrottleManager.class);
+        when(throttleManager.tryThrottle(anyLong())).thenAnswer(i -> throttled.addAndGet(i.getArgument(0)) > 0);
+        doAnswer(i -> restored.addAndGet(i.getArgument(0))).when(throttleManager).restore(anyLong());
+        properties.setMaxGasEstimateConcurrency(3);
+
+        try (var estimator = new BinaryGasEstimator(properties, throttleManager)) {
+            assertThatThrownBy(() -> estimator.search(
+                            (a, b) -> {},
+                            gas -> {
+                                if (gas != (low + high) / 2) {
+                                    throw new AssertionError("probe failed");
+                                }
+                                return createTxnResult(low, true);
+                            },
+                            low,
+                            high))
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(AssertionError.class);
+        }
+
+        assertThat(throttled.get()).isPositive();
+        assertThat(restored.get()).isEqualTo(throttled.get());
+    }
+
     private EvmTransactionResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return new EvmTransactionResult(
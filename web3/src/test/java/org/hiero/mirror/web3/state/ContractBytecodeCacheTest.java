@@ -0,0 +1,54 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.web3.Web3IntegrationTest;
+import org.hiero.mirror.web3.repository.ContractRepository;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class ContractBytecodeCacheTest extends Web3IntegrationTest {
+
+    private final ContractBytecodeCache contractBytecodeCache;
+    private final ContractRepository contractRepository;
+
+    @Test
+    void cached() {
+        final var contract = domainBuilder.contract().persist();
+        final var bytecode = contractBytecodeCache.get(contract.getId(), contractRepository::findRuntimeBytecode);
+        assertThat(bytecode).get().satisfies(b -> assertThat(b.code().toByteArray())
+                .isEqualTo(contract.getRuntimeBytecode()));
+
+        contractRepository.deleteAll();
+
+        assertThat(contractBytecodeCache.get(contract.getId(), contractRepository::findRuntimeBytecode))
+                .get()
+                .isSameAs(bytecode.get());
+    }
+
+    @Test
+    void sharedAcrossContracts() {
+        final var contract1 = domainBuilder.contract().persist();
+        final var contract2 = domainBuilder
+                .contract()
+                .customize(c -> c.runtimeBytecode(contract1.getRuntimeBytecode().clone()))
+                .persist();
+        final var contract3 = domainBuilder.contract().persist();
+
+        final var bytecode1 = contractBytecodeCache.get(contract1.getId(), contractRepository::findRuntimeBytecode);
+        final var bytecode2 = contractBytecodeCache.get(contract2.getId(), contractRepository::findRuntimeBytecode);
+        final var bytecode3 = contractBytecodeCache.get(contract3.getId(), contractRepository::findRuntimeBytecode);
+
+        assertThat(bytecode2).get().isSameAs(bytecode1.get());
+        assertThat(bytecode3).get().isNotSameAs(bytecode1.get());
+    }
+
+    @Test
+    void notFound() {
+        assertThat(contractBytecodeCache.get(domainBuilder.id(), contractRepository::findRuntimeBytecode))
+                .isEmpty();
+    }
+}
@@ -24,6 +24,7 @@ import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.repository.ContractRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.ContractBytecodeCache;
 import org.hiero.mirror.web3.viewmodel.StateOverride;
 import org.hyperledger.besu.datatypes.Address;
 import org.junit.jupiter.api.AfterAll;
@@ -36,6 +37,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class ContractBytecodeReadableKVStateTest {
@@ -82,6 +84,10 @@ class ContractBytecodeReadableKVStateTest {
     @Mock
     private CommonEntityAccessor commonEntityAccessor;
 
+    @Spy
+    private ContractBytecodeCache contractBytecodeCache =
+            new ContractBytecodeCache(new ConcurrentMapCacheManager(), new ConcurrentMapCacheManager());
+
     @Spy
     private ContractCallContext contractCallContext;
 
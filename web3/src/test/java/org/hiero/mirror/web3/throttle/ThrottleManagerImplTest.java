@@ -107,6 +107,15 @@ final class ThrottleManagerImplTest {
         throttleManager.restore(0);
     }
 
+    @Test
+    void tryThrottle() {
+        assertThat(throttleManager.tryThrottle(GAS_PER_SECOND)).isTrue();
+        assertThat(throttleManager.tryThrottle(GAS_PER_SECOND)).isFalse();
+        assertThat(throttleManager.tryThrottle(0L)).isTrue();
+        throttleManager.restore(GAS_PER_SECOND);
+        assertThat(throttleManager.tryThrottle(GAS_PER_SECOND)).isTrue();
+    }
+
     @Test
     void restoreMax() {
         long gps = 10_000_000_000_000L;